@@ -15,3 +15,5 @@ export interface Interview {
   status: InterviewStatus;
   shadowingRequests?: ShadowingRequest[];
 }
+
+export type InterviewSummary = Pick<Interview, 'id' | 'techStack' | 'startTime' | 'endTime' | 'status'>;
@@ -5,3 +5,8 @@ export interface Page<T> {
   number: number;
   size: number;
 }
+
+export interface CursorPage<T> {
+  content: T[];
+  nextCursor: string | null;
+}
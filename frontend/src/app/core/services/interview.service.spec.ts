@@ -33,6 +33,35 @@ describe('InterviewService', () => {
     req.flush({ content: [], totalElements: 0, totalPages: 0, number: 0, size: 10 });
   });
 
+  it('should list interview summaries', () => {
+    service.listSummaries(1, 10, 'startTime,asc').subscribe();
+    const req = httpTesting.expectOne(r => r.url.endsWith('/api/interviews/summaries'));
+    expect(req.request.method).toBe('GET');
+    expect(req.request.params.get('page')).toBe('1');
+    expect(req.request.params.get('size')).toBe('10');
+    expect(req.request.params.get('sort')).toBe('startTime,asc');
+    req.flush({ content: [], totalElements: 0, totalPages: 0, number: 1, size: 10 });
+  });
+
+  it('should list interviews in a time range', () => {
+    service.listRange('2026-03-01T00:00:00Z', '2026-04-01T00:00:00Z').subscribe();
+    const req = httpTesting.expectOne(r => r.url.endsWith('/api/interviews/range'));
+    expect(req.request.method).toBe('GET');
+    expect(req.request.params.get('from')).toBe('2026-03-01T00:00:00Z');
+    expect(req.request.params.get('to')).toBe('2026-04-01T00:00:00Z');
+    expect(req.request.params.get('size')).toBe('50');
+    expect(req.request.params.has('cursor')).toBe(false);
+    req.flush({ content: [], nextCursor: null });
+  });
+
+  it('should pass cursor when listing the next range page', () => {
+    service.listRange('2026-03-01T00:00:00Z', '2026-04-01T00:00:00Z', 'abc', 10).subscribe();
+    const req = httpTesting.expectOne(r => r.url.endsWith('/api/interviews/range'));
+    expect(req.request.params.get('cursor')).toBe('abc');
+    expect(req.request.params.get('size')).toBe('10');
+    req.flush({ content: [], nextCursor: null });
+  });
+
   it('should get a single interview', () => {
     service.get('abc-123').subscribe();
     const req = httpTesting.expectOne(r => r.url.endsWith('/api/interviews/abc-123'));
@@ -2,8 +2,8 @@ import { Injectable, inject } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { environment } from '../../../environments/environment';
-import { Interview } from '../models/interview.model';
-import { Page } from '../models/page.model';
+import { Interview, InterviewSummary } from '../models/interview.model';
+import { CursorPage, Page } from '../models/page.model';
 import { CreateInterviewRequest, UpdateInterviewRequest } from '../models/dto.model';
 
 @Injectable({ providedIn: 'root' })
@@ -19,6 +19,22 @@ export class InterviewService {
     return this.http.get<Page<Interview>>(this.base, { params });
   }
 
+  listSummaries(page = 0, size = 20, sort?: string): Observable<Page<InterviewSummary>> {
+    let params = new HttpParams().set('page', page).set('size', size);
+    if (sort) {
+      params = params.set('sort', sort);
+    }
+    return this.http.get<Page<InterviewSummary>>(`${this.base}/summaries`, { params });
+  }
+
+  listRange(from: string, to: string, cursor?: string, size = 50): Observable<CursorPage<Interview>> {
+    let params = new HttpParams().set('from', from).set('to', to).set('size', size);
+    if (cursor) {
+      params = params.set('cursor', cursor);
+    }
+    return this.http.get<CursorPage<Interview>>(`${this.base}/range`, { params });
+  }
+
   get(id: string): Observable<Interview> {
     return this.http.get<Interview>(`${this.base}/${id}`);
   }
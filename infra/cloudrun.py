@@ -249,6 +249,7 @@ _backend_secret_names = [
     "DB_URL", "DB_USERNAME", "DB_PASSWORD",
     "GOOGLE_CLIENT_ID", "GOOGLE_CLIENT_SECRET",
     "JWT_SIGNING_SECRET",
+    "EMAIL_OUTBOX_SECRET",
     "RABBITMQ_URL",
 ]
 _backend_secret_envs = [
@@ -0,0 +1,77 @@
+package com.gm2dev.api_gateway.config;
+
+import com.gm2dev.shared.security.InternalIdentity;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Forwards the identity of a verified JWT to downstream services as signed
+ * {@code X-Internal-*} headers (see {@link InternalIdentity}), letting core skip re-verifying
+ * the token. Any {@code X-Internal-*} headers sent by the client are always stripped first.
+ */
+@Component
+public class InternalIdentityHeadersFilter implements GlobalFilter, Ordered {
+
+    private final byte[] key;
+
+    public InternalIdentityHeadersFilter(JwtProperties jwtProperties) {
+        this.key = InternalIdentity.deriveKey(jwtProperties.signingSecret());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return exchange.getPrincipal()
+                .filter(JwtAuthenticationToken.class::isInstance)
+                .map(principal -> ((JwtAuthenticationToken) principal).getToken())
+                .map(jwt -> forward(exchange, jwt))
+                .switchIfEmpty(Mono.fromSupplier(() -> forward(exchange, null)))
+                .flatMap(chain::filter);
+    }
+
+    private ServerWebExchange forward(ServerWebExchange exchange, Jwt jwt) {
+        return exchange.mutate()
+                .request(request -> request.headers(headers -> {
+                    stripInternalHeaders(headers);
+                    if (jwt != null && jwt.getExpiresAt() != null) {
+                        addIdentity(headers, jwt);
+                    }
+                }))
+                .build();
+    }
+
+    private void addIdentity(HttpHeaders headers, Jwt jwt) {
+        InternalIdentity identity = new InternalIdentity(jwt.getSubject(), jwt.getClaimAsString("email"),
+                jwt.getClaimAsString("role"), jwt.getExpiresAt());
+        headers.set(InternalIdentity.SUBJECT_HEADER, identity.subject());
+        if (identity.email() != null) {
+            headers.set(InternalIdentity.EMAIL_HEADER, identity.email());
+        }
+        if (identity.role() != null) {
+            headers.set(InternalIdentity.ROLE_HEADER, identity.role());
+        }
+        headers.set(InternalIdentity.EXPIRES_AT_HEADER, Long.toString(identity.expiresAt().getEpochSecond()));
+        headers.set(InternalIdentity.SIGNATURE_HEADER, identity.sign(key));
+    }
+
+    private static void stripInternalHeaders(HttpHeaders headers) {
+        List<String> internal = headers.headerNames().stream()
+                .filter(name -> name.regionMatches(true, 0,
+                        InternalIdentity.HEADER_PREFIX, 0, InternalIdentity.HEADER_PREFIX.length()))
+                .toList();
+        internal.forEach(headers::remove);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -1,6 +1,10 @@
 package com.gm2dev.api_gateway.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
+/**
+ * @param verifiedTokenCacheSize how many verified tokens are remembered until their {@code exp}
+ */
 @ConfigurationProperties("app.jwt")
-public record JwtProperties(String signingSecret) {}
+public record JwtProperties(String signingSecret, @DefaultValue("10000") long verifiedTokenCacheSize) {}
@@ -39,6 +39,7 @@ public class SecurityConfig {
     public ReactiveJwtDecoder jwtDecoder() {
         SecretKeySpec key = new SecretKeySpec(
             jwtProperties.signingSecret().getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-        return NimbusReactiveJwtDecoder.withSecretKey(key).build();
+        return new CachingReactiveJwtDecoder(NimbusReactiveJwtDecoder.withSecretKey(key).build(),
+            jwtProperties.verifiedTokenCacheSize());
     }
 }
@@ -0,0 +1,76 @@
+package com.gm2dev.api_gateway.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingReactiveJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T12:00:00Z");
+
+    @Mock
+    private ReactiveJwtDecoder delegate;
+
+    private CachingReactiveJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new CachingReactiveJwtDecoder(delegate, 100, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void decode_verifiesEachTokenOnlyOnce() {
+        Jwt jwt = jwt("token-a", NOW.plusSeconds(3600));
+        when(delegate.decode("token-a")).thenReturn(Mono.just(jwt));
+
+        assertSame(jwt, decoder.decode("token-a").block());
+        assertSame(jwt, decoder.decode("token-a").block());
+
+        verify(delegate, times(1)).decode("token-a");
+    }
+
+    @Test
+    void decode_doesNotCacheFailures() {
+        when(delegate.decode("bad")).thenReturn(Mono.error(new BadJwtException("bad signature")));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad").block());
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad").block());
+
+        verify(delegate, times(2)).decode("bad");
+        assertEquals(0, decoder.size());
+    }
+
+    @Test
+    void decode_doesNotKeepTokensPastTheirExpiry() {
+        when(delegate.decode("expired")).thenReturn(Mono.just(jwt("expired", NOW.minusSeconds(1))));
+        when(delegate.decode("no-exp")).thenReturn(Mono.just(jwt("no-exp", null)));
+
+        decoder.decode("expired").block();
+        decoder.decode("no-exp").block();
+
+        assertEquals(0, decoder.size());
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        Jwt.Builder builder = Jwt.withTokenValue(token).header("alg", "HS256").subject("user-id")
+                .issuedAt(NOW.minusSeconds(60));
+        if (expiresAt != null) {
+            builder.expiresAt(expiresAt);
+        }
+        return builder.build();
+    }
+}
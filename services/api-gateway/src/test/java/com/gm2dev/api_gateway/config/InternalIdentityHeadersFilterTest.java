@@ -0,0 +1,66 @@
+package com.gm2dev.api_gateway.config;
+
+import com.gm2dev.shared.security.InternalIdentity;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InternalIdentityHeadersFilterTest {
+
+    private static final String SECRET = "test-secret-key-that-is-at-least-32-bytes-long";
+
+    private final InternalIdentityHeadersFilter filter =
+            new InternalIdentityHeadersFilter(new JwtProperties(SECRET, 100));
+
+    @Test
+    void authenticatedRequest_getsSignedIdentityHeaders() {
+        Instant expiresAt = Instant.parse("2030-01-01T13:00:00Z");
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "HS256").subject("user-id")
+                .claim("email", "user@gm2dev.com").claim("role", "admin").expiresAt(expiresAt).build();
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/interviews"))
+                .mutate().principal(Mono.just(new JwtAuthenticationToken(jwt))).build();
+
+        HttpHeaders forwarded = forwardedHeaders(exchange);
+
+        InternalIdentity identity = new InternalIdentity("user-id", "user@gm2dev.com", "admin", expiresAt);
+        assertEquals("user-id", forwarded.getFirst(InternalIdentity.SUBJECT_HEADER));
+        assertEquals("user@gm2dev.com", forwarded.getFirst(InternalIdentity.EMAIL_HEADER));
+        assertEquals("admin", forwarded.getFirst(InternalIdentity.ROLE_HEADER));
+        assertEquals(Long.toString(expiresAt.getEpochSecond()), forwarded.getFirst(InternalIdentity.EXPIRES_AT_HEADER));
+        assertTrue(identity.hasValidSignature(InternalIdentity.deriveKey(SECRET),
+                forwarded.getFirst(InternalIdentity.SIGNATURE_HEADER)));
+    }
+
+    @Test
+    void anonymousRequest_hasClientSuppliedInternalHeadersStripped() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/auth/login")
+                .header("x-internal-subject", "spoofed")
+                .header(InternalIdentity.ROLE_HEADER, "admin")
+                .header("X-Request-Id", "keep-me"));
+
+        HttpHeaders forwarded = forwardedHeaders(exchange);
+
+        assertNull(forwarded.getFirst(InternalIdentity.SUBJECT_HEADER));
+        assertNull(forwarded.getFirst(InternalIdentity.ROLE_HEADER));
+        assertEquals("keep-me", forwarded.getFirst("X-Request-Id"));
+    }
+
+    private HttpHeaders forwardedHeaders(ServerWebExchange exchange) {
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+        filter.filter(exchange, next -> {
+            forwarded.set(next);
+            return Mono.empty();
+        }).block();
+        return forwarded.get().getRequest().getHeaders();
+    }
+}
@@ -0,0 +1,148 @@
+package com.gm2dev.benchmarks;
+
+import com.gm2dev.calendar_service.EventAttendeeMirror;
+import com.gm2dev.calendar_service.GoogleCalendarService;
+import com.gm2dev.calendar_service.config.GoogleCalendarProperties;
+import com.gm2dev.calendar_service.config.GoogleOAuthProperties;
+import com.gm2dev.calendar_service.fake.FakeGoogleCalendarProperties;
+import com.gm2dev.calendar_service.fake.FakeGoogleCalendarServer;
+import com.gm2dev.shared.calendar.AttendeeRequest;
+import com.gm2dev.shared.calendar.CalendarBatchOperation;
+import com.gm2dev.shared.calendar.CalendarBatchResult;
+import com.gm2dev.shared.calendar.CalendarEventRequest;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Load test of calendar-service's {@link GoogleCalendarService} (Google client, pooled transport,
+ * batching and attendee mirror) against the {@link FakeGoogleCalendarServer} over real HTTP. Many
+ * threads keep calls in flight, so the sampled time is the latency a caller sees under that
+ * concurrency and {@code latencyMillis} is the simulated Google round trip.
+ *
+ * <p>Run with {@code -PjmhIncludes=CalendarServiceLoadBenchmark -PjmhModes=thrpt,sample
+ * -PjmhTimeUnit=ms} to get throughput and p50/p99/p99.9 latency. Calls that Google (the fake)
+ * rejected are counted in the {@code failed} column; the fake's own counters are printed at the
+ * end of each trial.
+ */
+@State(Scope.Benchmark)
+@Threads(32)
+public class CalendarServiceLoadBenchmark {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int ATTENDEE_EVENTS = 64;
+
+    @Param({"100"})
+    public long latencyMillis;
+
+    @Param({"0", "0.05"})
+    public double throttleRate;
+
+    private FakeGoogleCalendarServer fakeCalendar;
+    private GoogleCalendarService calendarService;
+    private CalendarEventRequest event;
+    private List<CalendarBatchOperation> batch;
+    private List<String> attendeeEventIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        FakeGoogleCalendarProperties fakeProperties = new FakeGoogleCalendarProperties();
+        fakeProperties.setPort(0);
+        fakeProperties.setLatency(Duration.ofMillis(latencyMillis));
+        fakeProperties.setLatencyJitter(Duration.ofMillis(latencyMillis / 2));
+        fakeCalendar = new FakeGoogleCalendarServer(fakeProperties);
+        fakeCalendar.start();
+
+        GoogleCalendarProperties calendarProperties = new GoogleCalendarProperties();
+        calendarProperties.setRefreshToken("fake-refresh-token");
+        calendarProperties.setRootUrl(fakeCalendar.rootUrl());
+        calendarProperties.setTokenServerUri(fakeCalendar.tokenServerUri());
+        GoogleOAuthProperties oAuthProperties = new GoogleOAuthProperties();
+        oAuthProperties.setClientId("fake-client-id");
+        oAuthProperties.setClientSecret("fake-client-secret");
+        calendarService = new GoogleCalendarService(oAuthProperties, calendarProperties,
+                new EventAttendeeMirror(calendarProperties));
+
+        event = new CalendarEventRequest(
+                null, "Java", "Jane Doe", "jane@example.com",
+                "https://linkedin.com/in/jane", "Backend", "https://feedback.link/123",
+                "interviewer@gm2dev.com", List.of("shadower1@gm2dev.com"),
+                Instant.parse("2030-01-15T10:00:00Z"), Instant.parse("2030-01-15T11:00:00Z"));
+        batch = new ArrayList<>();
+        attendeeEventIds = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new CalendarBatchOperation.Create(event));
+        }
+        for (int i = 0; i < ATTENDEE_EVENTS; i++) {
+            attendeeEventIds.add(calendarService.createEvent(event).eventId());
+        }
+
+        // Faults only start once the fixture events exist.
+        fakeProperties.setThrottleRate(throttleRate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println("Fake Google Calendar: " + fakeCalendar.stats());
+        fakeCalendar.stop();
+    }
+
+    @Benchmark
+    public String createEvent(Outcomes outcomes) {
+        try {
+            String eventId = calendarService.createEvent(event).eventId();
+            outcomes.succeeded++;
+            return eventId;
+        } catch (IOException e) {
+            outcomes.failed++;
+            return null;
+        }
+    }
+
+    @Benchmark
+    public List<CalendarBatchResult> batchOfTenCreates(Outcomes outcomes) throws IOException {
+        List<CalendarBatchResult> results = calendarService.executeBatch(batch);
+        for (CalendarBatchResult result : results) {
+            if (result.success()) {
+                outcomes.succeeded++;
+            } else {
+                outcomes.failed++;
+            }
+        }
+        return results;
+    }
+
+    /** Attendee changes on a fixed set of events, so concurrent patches race on ETags. */
+    @Benchmark
+    public void addAttendee(Outcomes outcomes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String eventId = attendeeEventIds.get(random.nextInt(attendeeEventIds.size()));
+        try {
+            calendarService.addAttendee(new AttendeeRequest(eventId, "shadower" + random.nextInt(8) + "@gm2dev.com"));
+            outcomes.succeeded++;
+        } catch (IOException e) {
+            outcomes.failed++;
+        }
+    }
+
+    /** Per-thread call outcomes, reported by JMH next to the score. */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+        public long succeeded;
+        public long failed;
+    }
+}
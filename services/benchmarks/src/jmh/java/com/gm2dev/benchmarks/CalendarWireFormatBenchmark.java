@@ -0,0 +1,80 @@
+package com.gm2dev.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gm2dev.shared.calendar.AttendeeRequest;
+import com.gm2dev.shared.calendar.CalendarCbor;
+import com.gm2dev.shared.calendar.CalendarEventRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The calendar-service request bodies as reflective Jackson JSON (today's default) and as
+ * {@link CalendarCbor}. Encoded sizes are printed at setup; scores are per encode or decode.
+ */
+@State(Scope.Benchmark)
+public class CalendarWireFormatBenchmark {
+
+    private ObjectMapper mapper;
+    private CalendarEventRequest eventRequest;
+    private AttendeeRequest attendeeRequest;
+    private byte[] eventJson;
+    private byte[] eventCbor;
+    private byte[] attendeeJson;
+    private byte[] attendeeCbor;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        eventRequest = new CalendarEventRequest(
+                "benchmark-event", "Java", "Jane Doe", "jane@example.com",
+                "https://linkedin.com/in/jane", "Backend", "https://feedback.link/123",
+                "interviewer@gm2dev.com", List.of("shadower1@gm2dev.com", "shadower2@gm2dev.com"),
+                Instant.parse("2030-01-15T10:00:00Z"), Instant.parse("2030-01-15T11:00:00Z"));
+        attendeeRequest = new AttendeeRequest("benchmark-event", "shadower3@gm2dev.com");
+
+        eventJson = mapper.writeValueAsBytes(eventRequest);
+        eventCbor = CalendarCbor.write(eventRequest);
+        attendeeJson = mapper.writeValueAsBytes(attendeeRequest);
+        attendeeCbor = CalendarCbor.write(attendeeRequest);
+        System.out.printf("CalendarEventRequest: %d bytes JSON, %d bytes CBOR; AttendeeRequest: %d bytes JSON, %d bytes CBOR%n",
+                eventJson.length, eventCbor.length, attendeeJson.length, attendeeCbor.length);
+    }
+
+    @Benchmark
+    public byte[] eventRequestWriteJson() throws IOException {
+        return mapper.writeValueAsBytes(eventRequest);
+    }
+
+    @Benchmark
+    public byte[] eventRequestWriteCbor() throws IOException {
+        return CalendarCbor.write(eventRequest);
+    }
+
+    @Benchmark
+    public CalendarEventRequest eventRequestReadJson() throws IOException {
+        return mapper.readValue(eventJson, CalendarEventRequest.class);
+    }
+
+    @Benchmark
+    public CalendarEventRequest eventRequestReadCbor() throws IOException {
+        return CalendarCbor.read(new ByteArrayInputStream(eventCbor), CalendarEventRequest.class);
+    }
+
+    @Benchmark
+    public AttendeeRequest attendeeRequestReadJson() throws IOException {
+        return mapper.readValue(attendeeJson, AttendeeRequest.class);
+    }
+
+    @Benchmark
+    public AttendeeRequest attendeeRequestReadCbor() throws IOException {
+        return CalendarCbor.read(new ByteArrayInputStream(attendeeCbor), AttendeeRequest.class);
+    }
+}
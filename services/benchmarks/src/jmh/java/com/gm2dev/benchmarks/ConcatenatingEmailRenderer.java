@@ -0,0 +1,52 @@
+package com.gm2dev.benchmarks;
+
+import com.gm2dev.shared.email.EmailMessage;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * The string-concatenating {@code EmailRenderer} that precompiled templates replaced, kept as the
+ * baseline for {@link EmailRendererBenchmark}.
+ */
+final class ConcatenatingEmailRenderer {
+
+    private final String frontendUrl;
+
+    ConcatenatingEmailRenderer(String frontendUrl) {
+        this.frontendUrl = frontendUrl;
+    }
+
+    String subject(EmailMessage message) {
+        return switch (message) {
+            case EmailMessage.VerificationEmailMessage ignored ->
+                    "Interview Hub — Verify your email";
+            case EmailMessage.PasswordResetEmailMessage ignored ->
+                    "Interview Hub — Reset your password";
+            case EmailMessage.TemporaryPasswordEmailMessage ignored ->
+                    "Interview Hub — Your account has been created";
+            case EmailMessage.ShadowingApprovedEmailMessage m ->
+                    "Interview Hub — Shadowing Approved: " + m.summary();
+        };
+    }
+
+    String htmlBody(EmailMessage message) {
+        return switch (message) {
+            case EmailMessage.VerificationEmailMessage m -> "<h2>Welcome to Interview Hub</h2>"
+                    + "<p>Click the link below to verify your email address:</p>"
+                    + "<p><a href=\"" + frontendUrl + "/auth/verify?token=" + m.token() + "\">Verify Email</a></p>"
+                    + "<p>This link expires in 24 hours.</p>";
+            case EmailMessage.PasswordResetEmailMessage m -> "<h2>Password Reset</h2>"
+                    + "<p>Click the link below to reset your password:</p>"
+                    + "<p><a href=\"" + frontendUrl + "/auth/reset-password?token=" + m.token() + "\">Reset Password</a></p>"
+                    + "<p>This link expires in 1 hour. If you didn't request this, ignore this email.</p>";
+            case EmailMessage.TemporaryPasswordEmailMessage m -> "<h2>Welcome to Interview Hub</h2>"
+                    + "<p>An admin has created an account for you.</p>"
+                    + "<p>Your temporary password is: <strong>" + m.temporaryPassword() + "</strong></p>"
+                    + "<p>Please log in and change your password.</p>";
+            case EmailMessage.ShadowingApprovedEmailMessage m -> "<h2>Shadowing Request Approved</h2>"
+                    + "<p><strong>" + HtmlUtils.htmlEscape(m.summary()) + "</strong></p>"
+                    + "<p>Start: " + HtmlUtils.htmlEscape(m.startTime()) + "</p>"
+                    + "<p>End: " + HtmlUtils.htmlEscape(m.endTime()) + "</p>"
+                    + "<p>You have been added to the calendar event as an attendee.</p>";
+        };
+    }
+}
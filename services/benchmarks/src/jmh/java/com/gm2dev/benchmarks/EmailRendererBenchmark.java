@@ -0,0 +1,53 @@
+package com.gm2dev.benchmarks;
+
+import com.gm2dev.notification_service.EmailRenderer;
+import com.gm2dev.shared.email.EmailMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Subject and HTML rendering of each notification type, as done once per consumed email message:
+ * the precompiled templates against the string concatenation they replaced.
+ */
+@State(Scope.Benchmark)
+public class EmailRendererBenchmark {
+
+    @Param({"VERIFICATION", "PASSWORD_RESET", "TEMPORARY_PASSWORD", "SHADOWING_APPROVED"})
+    private String type;
+
+    private EmailRenderer renderer;
+    private ConcatenatingEmailRenderer concatenating;
+    private EmailMessage message;
+
+    @Setup
+    public void setUp() {
+        renderer = new EmailRenderer("https://interview-hub.example.com");
+        concatenating = new ConcatenatingEmailRenderer("https://interview-hub.example.com");
+        message = switch (type) {
+            case "VERIFICATION" -> new EmailMessage.VerificationEmailMessage(
+                    "user@gm2dev.com", "3f1c9a2e-6b7d-4e0a-9c55-1d2b3c4d5e6f");
+            case "PASSWORD_RESET" -> new EmailMessage.PasswordResetEmailMessage(
+                    "user@gm2dev.com", "3f1c9a2e-6b7d-4e0a-9c55-1d2b3c4d5e6f");
+            case "TEMPORARY_PASSWORD" -> new EmailMessage.TemporaryPasswordEmailMessage(
+                    "user@gm2dev.com", "Tmp-9xQ2#kLp");
+            case "SHADOWING_APPROVED" -> new EmailMessage.ShadowingApprovedEmailMessage(
+                    "user@gm2dev.com", "Java Interview <Jane & Co>", "2030-01-15T10:00:00Z", "2030-01-15T11:00:00Z");
+            default -> throw new IllegalArgumentException("Unknown message type: " + type);
+        };
+    }
+
+    @Benchmark
+    public EmailRenderer.RenderedEmail template() {
+        return renderer.render(message);
+    }
+
+    @Benchmark
+    public void concatenation(Blackhole blackhole) {
+        blackhole.consume(concatenating.subject(message));
+        blackhole.consume(concatenating.htmlBody(message));
+    }
+}
@@ -0,0 +1,156 @@
+package com.gm2dev.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gm2dev.interview_hub.client.CalendarServiceClient;
+import com.gm2dev.interview_hub.config.CalendarClientConfig;
+import com.gm2dev.interview_hub.config.CalendarClientProperties;
+import com.gm2dev.shared.calendar.AttendeeRequest;
+import com.gm2dev.shared.calendar.CalendarEventRequest;
+import com.gm2dev.shared.calendar.CalendarEventResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.Request;
+import feign.codec.EncodeException;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-call latency of core's {@link CalendarServiceClient} over Feign's default
+ * {@code HttpURLConnection} transport and over the pooled Apache HttpClient 5 transport built by
+ * {@link CalendarClientConfig}. A stub calendar-service on loopback answers {@code createEvent}
+ * and {@code addAttendee} after {@code serverLatencyMillis}.
+ *
+ * <p>The stub counts distinct client sockets, so connection churn is printed at the end of each
+ * trial as connections opened per 1000 calls. Run with
+ * {@code -PjmhIncludes=FeignTransportBenchmark -PjmhModes=sample -PjmhTimeUnit=us} for
+ * p50/p99 latency.
+ */
+@State(Scope.Benchmark)
+@Threads(16)
+public class FeignTransportBenchmark {
+
+    @Param({"default", "pooled"})
+    public String transport;
+
+    @Param({"1"})
+    public long serverLatencyMillis;
+
+    private final Set<InetSocketAddress> clientSockets = ConcurrentHashMap.newKeySet();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong eventIds = new AtomicLong();
+
+    private HttpServer server;
+    private CloseableHttpClient pooledHttpClient;
+    private CalendarServiceClient client;
+    private CalendarEventRequest event;
+    private AttendeeRequest attendee;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/events", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        client = Feign.builder()
+                .client(transport())
+                .contract(new SpringMvcContract())
+                .encoder((body, bodyType, template) -> {
+                    try {
+                        template.header("Content-Type", "application/json");
+                        template.body(mapper.writeValueAsBytes(body), StandardCharsets.UTF_8);
+                    } catch (JsonProcessingException e) {
+                        throw new EncodeException(e.getMessage(), e);
+                    }
+                })
+                .decoder((response, type) -> mapper.readValue(response.body().asInputStream(), mapper.constructType(type)))
+                .options(new Request.Options(2, TimeUnit.SECONDS, 10, TimeUnit.SECONDS, true))
+                .target(CalendarServiceClient.class, "http://127.0.0.1:" + server.getAddress().getPort());
+
+        event = new CalendarEventRequest(
+                null, "Java", "Jane Doe", "jane@example.com",
+                "https://linkedin.com/in/jane", "Backend", "https://feedback.link/123",
+                "interviewer@gm2dev.com", List.of("shadower1@gm2dev.com"),
+                Instant.parse("2030-01-15T10:00:00Z"), Instant.parse("2030-01-15T11:00:00Z"));
+        attendee = new AttendeeRequest("evt-1", "shadower2@gm2dev.com");
+    }
+
+    private Client transport() {
+        if ("default".equals(transport)) {
+            return new Client.Default(null, null);
+        }
+        CalendarClientConfig config = new CalendarClientConfig();
+        CalendarClientProperties properties = new CalendarClientProperties();
+        PoolingHttpClientConnectionManager connectionManager = config.calendarConnectionManager(properties);
+        pooledHttpClient = config.calendarHttpClient(connectionManager, properties);
+        return new ApacheHttp5Client(pooledHttpClient);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.out.printf("%s transport: %d connections for %d calls (%.1f per 1000 calls)%n",
+                transport, clientSockets.size(), calls.get(), clientSockets.size() * 1000.0 / Math.max(1, calls.get()));
+        if (pooledHttpClient != null) {
+            pooledHttpClient.close();
+        }
+        server.stop(0);
+    }
+
+    @Benchmark
+    public CalendarEventResponse createEvent() {
+        return client.createEvent(event);
+    }
+
+    @Benchmark
+    public void addAttendee() {
+        client.addAttendee("evt-1", attendee);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            clientSockets.add(exchange.getRemoteAddress());
+            calls.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(serverLatencyMillis);
+            if (exchange.getRequestURI().getPath().endsWith("/attendees")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            byte[] body = ("{\"eventId\":\"evt-" + eventIds.incrementAndGet() + "\",\"meetLink\":null}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+}
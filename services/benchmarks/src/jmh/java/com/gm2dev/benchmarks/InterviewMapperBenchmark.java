@@ -0,0 +1,89 @@
+package com.gm2dev.benchmarks;
+
+import com.gm2dev.interview_hub.domain.Candidate;
+import com.gm2dev.interview_hub.domain.Interview;
+import com.gm2dev.interview_hub.domain.InterviewStatus;
+import com.gm2dev.interview_hub.domain.Profile;
+import com.gm2dev.interview_hub.domain.Role;
+import com.gm2dev.interview_hub.domain.ShadowingRequest;
+import com.gm2dev.interview_hub.domain.ShadowingRequestStatus;
+import com.gm2dev.interview_hub.dto.InterviewDto;
+import com.gm2dev.interview_hub.dto.ShadowingRequestDto;
+import com.gm2dev.interview_hub.mapper.CandidateMapperImpl;
+import com.gm2dev.interview_hub.mapper.InterviewMapper;
+import com.gm2dev.interview_hub.mapper.InterviewMapperImpl;
+import com.gm2dev.interview_hub.mapper.ProfileMapperImpl;
+import com.gm2dev.interview_hub.mapper.ShadowingRequestMapper;
+import com.gm2dev.interview_hub.mapper.ShadowingRequestMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * MapStruct mapping of a fully loaded interview, as done for every row of the list and range
+ * endpoints. The generated mappers use field injection, so they are wired by a bare Spring context.
+ */
+@State(Scope.Benchmark)
+public class InterviewMapperBenchmark {
+
+    @Param({"0", "3"})
+    private int shadowingRequests;
+
+    private AnnotationConfigApplicationContext context;
+    private InterviewMapper interviewMapper;
+    private ShadowingRequestMapper shadowingRequestMapper;
+    private Interview interview;
+    private ShadowingRequest shadowingRequest;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(InterviewMapperImpl.class,
+                ShadowingRequestMapperImpl.class, ProfileMapperImpl.class, CandidateMapperImpl.class);
+        interviewMapper = context.getBean(InterviewMapper.class);
+        shadowingRequestMapper = context.getBean(ShadowingRequestMapper.class);
+
+        Instant start = Instant.parse("2030-01-15T10:00:00Z");
+        interview = new Interview();
+        interview.setId(UUID.randomUUID());
+        interview.setGoogleEventId("benchmark-event");
+        interview.setInterviewer(new Profile(UUID.randomUUID(), "interviewer@gm2dev.com", Role.interviewer));
+        interview.setTalentAcquisition(new Profile(UUID.randomUUID(), "ta@gm2dev.com", Role.admin));
+        interview.setCandidate(new Candidate(UUID.randomUUID(), "Jane Doe", "jane@example.com",
+                "https://linkedin.com/in/jane", "Backend", "https://feedback.link/123"));
+        interview.setTechStack("Java");
+        interview.setStartTime(start);
+        interview.setEndTime(start.plus(1, ChronoUnit.HOURS));
+        interview.setStatus(InterviewStatus.SCHEDULED);
+        for (int i = 0; i < shadowingRequests; i++) {
+            interview.getShadowingRequests().add(new ShadowingRequest(UUID.randomUUID(), interview,
+                    new Profile(UUID.randomUUID(), "shadower" + i + "@gm2dev.com", Role.interviewer),
+                    ShadowingRequestStatus.PENDING, null));
+        }
+        shadowingRequest = new ShadowingRequest(UUID.randomUUID(), interview,
+                new Profile(UUID.randomUUID(), "shadower@gm2dev.com", Role.interviewer),
+                ShadowingRequestStatus.APPROVED, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public InterviewDto interviewToDto() {
+        return interviewMapper.toDto(interview);
+    }
+
+    @Benchmark
+    public ShadowingRequestDto shadowingRequestToDto() {
+        return shadowingRequestMapper.toDto(shadowingRequest);
+    }
+}
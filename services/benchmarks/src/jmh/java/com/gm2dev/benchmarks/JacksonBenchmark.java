@@ -0,0 +1,56 @@
+package com.gm2dev.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gm2dev.shared.calendar.CalendarEventRequest;
+import com.gm2dev.shared.email.EmailMessage;
+import com.gm2dev.shared.email.EmailMessageCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JSON round-trips of the payloads exchanged between services: the Feign body sent to
+ * calendar-service and the polymorphic email message published to RabbitMQ, the latter both
+ * through Jackson databind and through {@link EmailMessageCodec}.
+ */
+@State(Scope.Benchmark)
+public class JacksonBenchmark {
+
+    private ObjectMapper mapper;
+    private CalendarEventRequest calendarEventRequest;
+    private EmailMessage emailMessage;
+
+    @Setup
+    public void setUp() {
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        calendarEventRequest = new CalendarEventRequest(
+                "benchmark-event", "Java", "Jane Doe", "jane@example.com",
+                "https://linkedin.com/in/jane", "Backend", "https://feedback.link/123",
+                "interviewer@gm2dev.com", List.of("shadower1@gm2dev.com", "shadower2@gm2dev.com"),
+                Instant.parse("2030-01-15T10:00:00Z"), Instant.parse("2030-01-15T11:00:00Z"));
+        emailMessage = new EmailMessage.ShadowingApprovedEmailMessage(
+                "shadower1@gm2dev.com", "Java Interview - Jane Doe", "2030-01-15T10:00:00Z", "2030-01-15T11:00:00Z");
+    }
+
+    @Benchmark
+    public CalendarEventRequest calendarEventRequestRoundTrip() throws JsonProcessingException {
+        return mapper.readValue(mapper.writeValueAsBytes(calendarEventRequest), CalendarEventRequest.class);
+    }
+
+    @Benchmark
+    public EmailMessage emailMessageRoundTrip() throws JsonProcessingException {
+        return mapper.readValue(mapper.writeValueAsBytes(emailMessage), EmailMessage.class);
+    }
+
+    /** Same payload through the reflection-free codec used on the RabbitMQ channel. */
+    @Benchmark
+    public EmailMessage emailMessageCodecRoundTrip() {
+        return EmailMessageCodec.decode(EmailMessageCodec.encode(emailMessage));
+    }
+}
@@ -0,0 +1,62 @@
+package com.gm2dev.benchmarks;
+
+import com.gm2dev.interview_hub.config.JwtProperties;
+import com.gm2dev.interview_hub.domain.Profile;
+import com.gm2dev.interview_hub.domain.Role;
+import com.gm2dev.interview_hub.dto.AuthResponse;
+import com.gm2dev.interview_hub.service.HmacJwtService;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Issuing a token at login and decoding it on every authenticated request. The encoder and
+ * decoder are built the same way as in {@code SecurityConfig}.
+ */
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SIGNING_SECRET = "benchmark-signing-secret-at-least-32-bytes";
+
+    private HmacJwtService jwtService;
+    private JwtDecoder jwtDecoder;
+    private Profile profile;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SecretKeySpec key = new SecretKeySpec(SIGNING_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        JwtProperties properties = new JwtProperties();
+        properties.setSigningSecret(SIGNING_SECRET);
+
+        jwtService = new HmacJwtService(
+                new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(new OctetSequenceKey.Builder(key).build()))),
+                properties);
+        jwtDecoder = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+        profile = new Profile(UUID.randomUUID(), "interviewer@gm2dev.com", Role.interviewer);
+        token = jwtService.issueToken(profile).token();
+    }
+
+    @Benchmark
+    public AuthResponse issueToken() {
+        return jwtService.issueToken(profile);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return jwtDecoder.decode(token);
+    }
+}
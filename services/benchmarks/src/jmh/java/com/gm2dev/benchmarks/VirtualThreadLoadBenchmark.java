@@ -0,0 +1,120 @@
+package com.gm2dev.benchmarks;
+
+import com.gm2dev.calendar_service.EventAttendeeMirror;
+import com.gm2dev.calendar_service.GoogleCalendarService;
+import com.gm2dev.calendar_service.config.GoogleCalendarProperties;
+import com.gm2dev.calendar_service.config.GoogleOAuthProperties;
+import com.gm2dev.calendar_service.fake.FakeGoogleCalendarProperties;
+import com.gm2dev.calendar_service.fake.FakeGoogleCalendarServer;
+import com.gm2dev.shared.calendar.CalendarEventRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Request handling on Tomcat's default pool of 200 platform threads against one virtual thread
+ * per request ({@code spring.threads.virtual.enabled}), in a JVM with a fixed 256 MB heap. Each
+ * invocation is a burst of 1000 event updates, each blocking on a Google Calendar call (the
+ * {@link FakeGoogleCalendarServer} at {@code latencyMillis}) the way a calendar-service request
+ * thread does. Updates rather than creates keep the in-process fake's store, and so the heap,
+ * at a fixed size.
+ *
+ * <p>The score is per request, so {@code -PjmhModes=thrpt -PjmhTimeUnit=s} reports requests per
+ * second for each threading mode. The client's connection pool is sized to the burst so that it
+ * does not cap either mode.
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = {"-Xms256m", "-Xmx256m"})
+public class VirtualThreadLoadBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 1000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"50"})
+    public long latencyMillis;
+
+    private FakeGoogleCalendarServer fakeCalendar;
+    private GoogleCalendarService calendarService;
+    private ExecutorService requestThreads;
+    private List<Callable<String>> burst;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        FakeGoogleCalendarProperties fakeProperties = new FakeGoogleCalendarProperties();
+        fakeProperties.setPort(0);
+        fakeCalendar = new FakeGoogleCalendarServer(fakeProperties);
+        fakeCalendar.start();
+
+        GoogleCalendarProperties calendarProperties = new GoogleCalendarProperties();
+        calendarProperties.setRefreshToken("fake-refresh-token");
+        calendarProperties.setRootUrl(fakeCalendar.rootUrl());
+        calendarProperties.setTokenServerUri(fakeCalendar.tokenServerUri());
+        calendarProperties.setMaxConnections(CONCURRENT_REQUESTS);
+        GoogleOAuthProperties oAuthProperties = new GoogleOAuthProperties();
+        oAuthProperties.setClientId("fake-client-id");
+        oAuthProperties.setClientSecret("fake-client-secret");
+        calendarService = new GoogleCalendarService(oAuthProperties, calendarProperties,
+                new EventAttendeeMirror(calendarProperties));
+
+        requestThreads = threads.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+
+        burst = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            String eventId = calendarService.createEvent(event(null)).eventId();
+            CalendarEventRequest update = event(eventId);
+            burst.add(() -> {
+                calendarService.updateEvent(update);
+                return eventId;
+            });
+        }
+        fakeProperties.setLatency(Duration.ofMillis(latencyMillis));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestThreads.close();
+        fakeCalendar.stop();
+    }
+
+    private static CalendarEventRequest event(String googleEventId) {
+        return new CalendarEventRequest(
+                googleEventId, "Java", "Jane Doe", "jane@example.com",
+                "https://linkedin.com/in/jane", "Backend", "https://feedback.link/123",
+                "interviewer@gm2dev.com", List.of("shadower1@gm2dev.com"),
+                Instant.parse("2030-01-15T10:00:00Z"), Instant.parse("2030-01-15T11:00:00Z"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public int burstOfRequests() throws InterruptedException, ExecutionException {
+        int served = 0;
+        for (Future<String> response : requestThreads.invokeAll(burst)) {
+            if (response.get() != null) {
+                served++;
+            }
+        }
+        return served;
+    }
+}
@@ -0,0 +1,30 @@
+package com.gm2dev.interview_hub.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+
+/**
+ * SHA-256 hashing of verification and reset tokens. Lives in the service package because
+ * {@code hashToken} is package-private; the collaborators it does not touch are left null.
+ */
+@State(Scope.Benchmark)
+public class EmailPasswordAuthServiceBenchmark {
+
+    private EmailPasswordAuthService authService;
+    private String rawToken;
+
+    @Setup
+    public void setUp() {
+        authService = new EmailPasswordAuthService(null, null, null, null, null, null);
+        rawToken = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String hashToken() {
+        return authService.hashToken(rawToken);
+    }
+}
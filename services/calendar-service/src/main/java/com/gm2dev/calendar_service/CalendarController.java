@@ -1,6 +1,8 @@
 package com.gm2dev.calendar_service;
 
 import com.gm2dev.shared.calendar.AttendeeRequest;
+import com.gm2dev.shared.calendar.CalendarBatchRequest;
+import com.gm2dev.shared.calendar.CalendarBatchResponse;
 import com.gm2dev.shared.calendar.CalendarEventRequest;
 import com.gm2dev.shared.calendar.CalendarEventResponse;
 import lombok.RequiredArgsConstructor;
@@ -36,12 +38,23 @@ public class CalendarController {
         return ResponseEntity.badRequest().body(e.getMessage());
     }
 
+    @ExceptionHandler(InvalidBatchException.class)
+    public ResponseEntity<String> handleInvalidBatch(InvalidBatchException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
     @PostMapping
     public ResponseEntity<CalendarEventResponse> createEvent(@RequestBody CalendarEventRequest request) throws IOException {
         CalendarEventResponse response = googleCalendarService.createEvent(request);
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<CalendarBatchResponse> executeBatch(@RequestBody CalendarBatchRequest request) throws IOException {
+        validateBatch(request);
+        return ResponseEntity.ok(new CalendarBatchResponse(googleCalendarService.executeBatch(request.operations())));
+    }
+
     @PutMapping("/{eventId}")
     public ResponseEntity<Void> updateEvent(
             @PathVariable String eventId,
@@ -75,6 +88,19 @@ public class CalendarController {
         return ResponseEntity.noContent().build();
     }
 
+    private void validateBatch(CalendarBatchRequest request) {
+        if (request.operations() == null || request.operations().isEmpty()) {
+            throw new InvalidBatchException("Batch must contain at least one operation");
+        }
+        if (request.operations().size() > CalendarBatchRequest.MAX_OPERATIONS) {
+            throw new InvalidBatchException("Batch has " + request.operations().size()
+                    + " operations; at most " + CalendarBatchRequest.MAX_OPERATIONS + " are allowed");
+        }
+        if (request.operations().contains(null)) {
+            throw new InvalidBatchException("Batch operations must not be null");
+        }
+    }
+
     private void validateEventId(String pathEventId, String bodyEventId) {
         if (bodyEventId != null && !pathEventId.equals(bodyEventId)) {
             throw new EventIdMismatchException(pathEventId, bodyEventId);
@@ -0,0 +1,67 @@
+package com.gm2dev.calendar_service;
+
+import com.gm2dev.calendar_service.config.GoogleCalendarProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventAttendee;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Last known attendee list of each event, keyed by event id and versioned by the event's ETag.
+ *
+ * <p>Attendee patches are sent with {@code If-Match: <etag>}, so a stale entry can never overwrite
+ * a newer attendee list: Google answers 412 and the caller re-fetches. The mirror is therefore only
+ * an optimisation and is bounded by size and age.
+ */
+@Component
+public class EventAttendeeMirror {
+
+    private final Cache<String, MirroredEvent> events;
+
+    public EventAttendeeMirror(GoogleCalendarProperties calendarProperties) {
+        this.events = Caffeine.newBuilder()
+                .maximumSize(calendarProperties.getAttendeeMirrorMaxEvents())
+                .expireAfterWrite(calendarProperties.getAttendeeMirrorTtl())
+                .build();
+    }
+
+    public Optional<MirroredEvent> get(String eventId) {
+        return Optional.ofNullable(events.getIfPresent(eventId));
+    }
+
+    /**
+     * Stores the attendees of an event returned by Google. Responses without an id or ETag are
+     * ignored, since they cannot be used as a precondition.
+     */
+    public void record(Event event) {
+        if (event == null || event.getId() == null || event.getEtag() == null) {
+            return;
+        }
+        events.put(event.getId(), MirroredEvent.of(event));
+    }
+
+    public void evict(String eventId) {
+        events.invalidate(eventId);
+    }
+
+    public record MirroredEvent(String etag, List<EventAttendee> attendees) {
+
+        static MirroredEvent of(Event event) {
+            List<EventAttendee> attendees = event.getAttendees() == null ? List.of()
+                    : event.getAttendees().stream().map(EventAttendee::clone).toList();
+            return new MirroredEvent(event.getEtag(), attendees);
+        }
+
+        /** A mutable copy of the attendees, safe to edit and send as a patch. */
+        public List<EventAttendee> attendeesCopy() {
+            List<EventAttendee> copy = new ArrayList<>(attendees.size());
+            attendees.forEach(attendee -> copy.add(attendee.clone()));
+            return copy;
+        }
+    }
+}
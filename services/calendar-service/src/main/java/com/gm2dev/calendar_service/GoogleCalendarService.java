@@ -1,12 +1,19 @@
 package com.gm2dev.calendar_service;
 
+import com.gm2dev.calendar_service.EventAttendeeMirror.MirroredEvent;
 import com.gm2dev.calendar_service.config.GoogleCalendarProperties;
 import com.gm2dev.calendar_service.config.GoogleOAuthProperties;
 import com.gm2dev.shared.calendar.AttendeeRequest;
+import com.gm2dev.shared.calendar.CalendarBatchOperation;
+import com.gm2dev.shared.calendar.CalendarBatchResult;
 import com.gm2dev.shared.calendar.CalendarEventRequest;
 import com.gm2dev.shared.calendar.CalendarEventResponse;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.http.HttpTransport;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
 import com.google.api.client.json.jackson2.JacksonFactory;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.ConferenceData;
@@ -17,30 +24,49 @@ import com.google.api.services.calendar.model.EventAttendee;
 import com.google.api.services.calendar.model.EventDateTime;
 import com.google.auth.http.HttpCredentialsAdapter;
 import com.google.auth.oauth2.UserCredentials;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
 public class GoogleCalendarService {
 
+    private static final int MAX_BATCH_SIZE = 50;
+    private static final int HTTP_PRECONDITION_FAILED = 412;
+
     private final GoogleOAuthProperties oAuthProperties;
     private final GoogleCalendarProperties calendarProperties;
+    private final EventAttendeeMirror attendeeMirror;
+
+    private volatile Calendar calendarClient;
+    private ApacheHttpTransport transport;
 
     public GoogleCalendarService(GoogleOAuthProperties oAuthProperties,
-                                  GoogleCalendarProperties calendarProperties) {
+                                  GoogleCalendarProperties calendarProperties,
+                                  EventAttendeeMirror attendeeMirror) {
         this.oAuthProperties = oAuthProperties;
         this.calendarProperties = calendarProperties;
+        this.attendeeMirror = attendeeMirror;
     }
 
     public CalendarEventResponse createEvent(CalendarEventRequest request) throws IOException {
-        Calendar calendar = buildCalendarClient();
+        Calendar calendar = calendarClient();
         String calendarId = calendarProperties.getId();
         Event event = buildEvent(request);
 
@@ -48,99 +74,397 @@ public class GoogleCalendarService {
                 .setConferenceDataVersion(1)
                 .setSendUpdates("all")
                 .execute();
+        attendeeMirror.record(created);
         log.debug("Created Google Calendar event: {}", created.getId());
         return new CalendarEventResponse(created.getId(), created.getHangoutLink());
     }
 
     public void updateEvent(CalendarEventRequest request) throws IOException {
-        Calendar calendar = buildCalendarClient();
+        Calendar calendar = calendarClient();
         String calendarId = calendarProperties.getId();
         Event event = buildEvent(request);
 
-        calendar.events().update(calendarId, request.googleEventId(), event)
+        Event updated = calendar.events().update(calendarId, request.googleEventId(), event)
                 .setConferenceDataVersion(1)
                 .setSendUpdates("all")
                 .execute();
+        attendeeMirror.record(updated);
         log.debug("Updated Google Calendar event: {}", request.googleEventId());
     }
 
     public void deleteEvent(String googleEventId) throws IOException {
-        Calendar calendar = buildCalendarClient();
+        Calendar calendar = calendarClient();
         String calendarId = calendarProperties.getId();
 
         calendar.events().delete(calendarId, googleEventId)
                 .setSendUpdates("all")
                 .execute();
+        attendeeMirror.evict(googleEventId);
         log.debug("Deleted Google Calendar event: {}", googleEventId);
     }
 
     public void addAttendee(AttendeeRequest request) throws IOException {
-        Calendar calendar = buildCalendarClient();
+        patchAttendees(calendarClient(), request.googleEventId(), attendees -> addAttendee(attendees, request.email()));
+        log.debug("Added attendee {} to event {}", request.email(), request.googleEventId());
+    }
+
+    public void removeAttendee(AttendeeRequest request) throws IOException {
+        patchAttendees(calendarClient(), request.googleEventId(), attendees -> removeAttendee(attendees, request.email()));
+        log.debug("Removed attendee {} from event {}", request.email(), request.googleEventId());
+    }
+
+    /**
+     * Applies {@code change} to the event's attendees, starting from the mirrored list when there
+     * is one. The patch carries the mirrored ETag as {@code If-Match}; on 412 the event is
+     * re-fetched and the change re-applied once, so the GET only happens on a cold or stale mirror.
+     */
+    private void patchAttendees(Calendar calendar, String eventId, Consumer<List<EventAttendee>> change)
+            throws IOException {
         String calendarId = calendarProperties.getId();
-        String googleEventId = request.googleEventId();
-        String attendeeEmail = request.email();
+        Optional<MirroredEvent> mirrored = attendeeMirror.get(eventId);
+        MirroredEvent current = mirrored.isPresent() ? mirrored.get() : fetchAttendees(calendar, calendarId, eventId);
+        try {
+            sendAttendeePatch(calendar, calendarId, eventId, current, change);
+        } catch (GoogleJsonResponseException e) {
+            attendeeMirror.evict(eventId);
+            if (e.getStatusCode() != HTTP_PRECONDITION_FAILED) {
+                throw e;
+            }
+            log.debug("Attendee mirror for event {} is stale, re-fetching", eventId);
+            sendAttendeePatch(calendar, calendarId, eventId, fetchAttendees(calendar, calendarId, eventId), change);
+        }
+    }
 
-        Event event = calendar.events().get(calendarId, googleEventId).execute();
+    private MirroredEvent fetchAttendees(Calendar calendar, String calendarId, String eventId) throws IOException {
+        Event event = calendar.events().get(calendarId, eventId).execute();
+        attendeeMirror.record(event);
+        return MirroredEvent.of(event);
+    }
 
-        List<EventAttendee> attendees = new ArrayList<>();
-        if (event.getAttendees() != null) {
-            attendees.addAll(event.getAttendees());
+    private void sendAttendeePatch(Calendar calendar, String calendarId, String eventId, MirroredEvent current,
+                                   Consumer<List<EventAttendee>> change) throws IOException {
+        Calendar.Events.Patch patch = attendeePatch(calendar, calendarId, eventId, current, change);
+        attendeeMirror.record(patch.execute());
+    }
+
+    private Calendar.Events.Patch attendeePatch(Calendar calendar, String calendarId, String eventId,
+                                                MirroredEvent current, Consumer<List<EventAttendee>> change)
+            throws IOException {
+        List<EventAttendee> attendees = current.attendeesCopy();
+        change.accept(attendees);
+        Calendar.Events.Patch patch = calendar.events()
+                .patch(calendarId, eventId, new Event().setAttendees(attendees))
+                .setSendUpdates("all");
+        if (current.etag() != null) {
+            patch.setRequestHeaders(new HttpHeaders().setIfMatch(current.etag()));
         }
-        attendees.add(new EventAttendee().setEmail(attendeeEmail));
+        return patch;
+    }
 
-        Event patch = new Event().setAttendees(attendees);
-        calendar.events().patch(calendarId, googleEventId, patch)
-                .setSendUpdates("all")
-                .execute();
+    private static void addAttendee(List<EventAttendee> attendees, String email) {
+        if (attendees.stream().noneMatch(a -> email.equals(a.getEmail()))) {
+            attendees.add(new EventAttendee().setEmail(email));
+        }
+    }
 
-        log.debug("Added attendee {} to event {}", attendeeEmail, googleEventId);
+    private static void removeAttendee(List<EventAttendee> attendees, String email) {
+        attendees.removeIf(a -> email.equals(a.getEmail()));
     }
 
-    public void removeAttendee(AttendeeRequest request) throws IOException {
-        Calendar calendar = buildCalendarClient();
+    /**
+     * Runs a list of mixed operations through Google's batch endpoint and returns one result per
+     * operation, in request order. A failed operation never fails the others.
+     *
+     * <p>Attendee changes are grouped per event and sent as a single If-Match PATCH alongside the
+     * creates, updates and deletes. Events missing from the attendee mirror are fetched first in
+     * one batch of GETs; events whose patch hits a stale ETag are retried one by one afterwards.
+     */
+    public List<CalendarBatchResult> executeBatch(List<CalendarBatchOperation> operations) throws IOException {
+        Calendar calendar = calendarClient();
         String calendarId = calendarProperties.getId();
-        String googleEventId = request.googleEventId();
-        String attendeeEmail = request.email();
+        CalendarBatchResult[] results = new CalendarBatchResult[operations.size()];
+
+        List<BatchCall> calls = new ArrayList<>();
+        Map<String, List<Integer>> attendeeChanges = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            List<Integer> index = List.of(i);
+            switch (operations.get(i)) {
+                case CalendarBatchOperation.Create op -> calls.add(batch -> calendar.events()
+                        .insert(calendarId, buildEvent(op.event()))
+                        .setConferenceDataVersion(1)
+                        .setSendUpdates("all")
+                        .queue(batch, mirroringCallback(results, index, null)));
+                case CalendarBatchOperation.Update op -> {
+                    String eventId = op.event().googleEventId();
+                    if (eventId == null) {
+                        results[i] = CalendarBatchResult.failure(i, 400, "googleEventId is required");
+                        continue;
+                    }
+                    calls.add(batch -> calendar.events()
+                            .update(calendarId, eventId, buildEvent(op.event()))
+                            .setConferenceDataVersion(1)
+                            .setSendUpdates("all")
+                            .queue(batch, mirroringCallback(results, index, eventId)));
+                }
+                case CalendarBatchOperation.Delete op -> {
+                    if (op.googleEventId() == null) {
+                        results[i] = CalendarBatchResult.failure(i, 400, "googleEventId is required");
+                        continue;
+                    }
+                    attendeeMirror.evict(op.googleEventId());
+                    calls.add(batch -> calendar.events()
+                            .delete(calendarId, op.googleEventId())
+                            .setSendUpdates("all")
+                            .queue(batch, batchCallback(results, index, op.googleEventId())));
+                }
+                case CalendarBatchOperation.AddAttendee op -> groupAttendeeChange(op.attendee(), i, attendeeChanges, results);
+                case CalendarBatchOperation.RemoveAttendee op -> groupAttendeeChange(op.attendee(), i, attendeeChanges, results);
+            }
+        }
 
-        Event event = calendar.events().get(calendarId, googleEventId).execute();
+        Map<String, MirroredEvent> currentEvents = currentAttendees(calendar, calendarId, attendeeChanges, results);
+        Set<String> staleEvents = new LinkedHashSet<>();
+        for (Map.Entry<String, MirroredEvent> entry : currentEvents.entrySet()) {
+            String eventId = entry.getKey();
+            List<Integer> indexes = attendeeChanges.get(eventId);
+            Consumer<List<EventAttendee>> change = batchedAttendeeChanges(operations, indexes);
+            Calendar.Events.Patch patch = attendeePatch(calendar, calendarId, eventId, entry.getValue(), change);
+            calls.add(batch -> patch.queue(batch, attendeePatchCallback(results, indexes, eventId, staleEvents)));
+        }
+        executeInBatches(calendar, calls);
+
+        for (String eventId : staleEvents) {
+            List<Integer> indexes = attendeeChanges.get(eventId);
+            log.debug("Attendee mirror for event {} is stale, retrying its batched changes", eventId);
+            try {
+                patchAttendees(calendar, eventId, batchedAttendeeChanges(operations, indexes));
+                indexes.forEach(i -> results[i] = CalendarBatchResult.success(i, eventId, null));
+            } catch (GoogleJsonResponseException e) {
+                indexes.forEach(i -> results[i] = CalendarBatchResult.failure(i, e.getStatusCode(), e.getStatusMessage()));
+            } catch (IOException e) {
+                log.error("Retrying attendee changes for event {} failed: {}", eventId, e.getMessage());
+            }
+        }
 
-        List<EventAttendee> attendees = new ArrayList<>();
-        if (event.getAttendees() != null) {
-            event.getAttendees().stream()
-                    .filter(a -> !attendeeEmail.equals(a.getEmail()))
-                    .forEach(attendees::add);
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = CalendarBatchResult.failure(i, 502, "No response from Google Calendar");
+            }
         }
+        log.debug("Executed calendar batch of {} operations", operations.size());
+        return List.of(results);
+    }
 
-        Event patch = new Event().setAttendees(attendees);
-        calendar.events().patch(calendarId, googleEventId, patch)
-                .setSendUpdates("all")
-                .execute();
+    private static void groupAttendeeChange(AttendeeRequest attendee, int index,
+                                            Map<String, List<Integer>> attendeeChanges,
+                                            CalendarBatchResult[] results) {
+        if (attendee.googleEventId() == null) {
+            results[index] = CalendarBatchResult.failure(index, 400, "googleEventId is required");
+            return;
+        }
+        attendeeChanges.computeIfAbsent(attendee.googleEventId(), id -> new ArrayList<>()).add(index);
+    }
+
+    /**
+     * Current attendees for every event with batched attendee changes: mirrored entries are used
+     * as-is, the rest are fetched in one batch of GETs. Events that cannot be fetched get a
+     * failure result for each of their operations and are left out.
+     */
+    private Map<String, MirroredEvent> currentAttendees(Calendar calendar, String calendarId,
+                                                        Map<String, List<Integer>> attendeeChanges,
+                                                        CalendarBatchResult[] results) {
+        Map<String, MirroredEvent> current = new LinkedHashMap<>();
+        List<BatchCall> gets = new ArrayList<>();
+        attendeeChanges.forEach((eventId, indexes) -> {
+            Optional<MirroredEvent> mirrored = attendeeMirror.get(eventId);
+            if (mirrored.isPresent()) {
+                current.put(eventId, mirrored.get());
+                return;
+            }
+            current.put(eventId, null);
+            gets.add(batch -> calendar.events()
+                    .get(calendarId, eventId)
+                    .queue(batch, new JsonBatchCallback<Event>() {
+                        @Override
+                        public void onSuccess(Event event, HttpHeaders headers) {
+                            attendeeMirror.record(event);
+                            current.put(eventId, MirroredEvent.of(event));
+                        }
+
+                        @Override
+                        public void onFailure(GoogleJsonError error, HttpHeaders headers) {
+                            indexes.forEach(i -> results[i] = CalendarBatchResult.failure(i, error.getCode(), error.getMessage()));
+                        }
+                    }));
+        });
+        executeInBatches(calendar, gets);
+        current.values().removeIf(Objects::isNull);
+        return current;
+    }
 
-        log.debug("Removed attendee {} from event {}", attendeeEmail, googleEventId);
+    private static Consumer<List<EventAttendee>> batchedAttendeeChanges(List<CalendarBatchOperation> operations,
+                                                                        List<Integer> indexes) {
+        return attendees -> {
+            for (int i : indexes) {
+                switch (operations.get(i)) {
+                    case CalendarBatchOperation.AddAttendee op -> addAttendee(attendees, op.attendee().email());
+                    case CalendarBatchOperation.RemoveAttendee op -> removeAttendee(attendees, op.attendee().email());
+                    default -> throw new IllegalStateException("Not an attendee operation: " + operations.get(i));
+                }
+            }
+        };
     }
 
-    Calendar buildCalendarClient() throws IOException {
+    /**
+     * Google caps a batch at 50 Calendar calls; larger lists are sent as consecutive batches. A
+     * transport failure loses only the chunk it hit: its operations are left without a result.
+     */
+    private void executeInBatches(Calendar calendar, List<BatchCall> calls) {
+        for (int from = 0; from < calls.size(); from += MAX_BATCH_SIZE) {
+            List<BatchCall> chunk = calls.subList(from, Math.min(from + MAX_BATCH_SIZE, calls.size()));
+            try {
+                BatchRequest batch = calendar.batch();
+                for (BatchCall call : chunk) {
+                    call.queue(batch);
+                }
+                batch.execute();
+            } catch (IOException e) {
+                log.error("Calendar batch of {} calls failed: {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    private static <T> JsonBatchCallback<T> batchCallback(CalendarBatchResult[] results, List<Integer> indexes,
+                                                          String eventId) {
+        return new JsonBatchCallback<>() {
+            @Override
+            public void onSuccess(T response, HttpHeaders headers) {
+                String id = eventId;
+                String meetLink = null;
+                if (response instanceof Event event) {
+                    id = event.getId();
+                    meetLink = event.getHangoutLink();
+                }
+                for (int i : indexes) {
+                    results[i] = CalendarBatchResult.success(i, id, meetLink);
+                }
+            }
+
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders headers) {
+                for (int i : indexes) {
+                    results[i] = CalendarBatchResult.failure(i, error.getCode(), error.getMessage());
+                }
+            }
+        };
+    }
+
+    /**
+     * Records a created or updated event in the attendee mirror, as the single-call paths do, so
+     * attendee changes right after a batched create or update need no GET.
+     */
+    private JsonBatchCallback<Event> mirroringCallback(CalendarBatchResult[] results, List<Integer> indexes,
+                                                       String eventId) {
+        JsonBatchCallback<Event> delegate = batchCallback(results, indexes, eventId);
+        return new JsonBatchCallback<>() {
+            @Override
+            public void onSuccess(Event event, HttpHeaders headers) throws IOException {
+                attendeeMirror.record(event);
+                delegate.onSuccess(event, headers);
+            }
+
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders headers) throws IOException {
+                if (eventId != null) {
+                    attendeeMirror.evict(eventId);
+                }
+                delegate.onFailure(error, headers);
+            }
+        };
+    }
+
+    private JsonBatchCallback<Event> attendeePatchCallback(CalendarBatchResult[] results, List<Integer> indexes,
+                                                           String eventId, Set<String> staleEvents) {
+        JsonBatchCallback<Event> delegate = batchCallback(results, indexes, eventId);
+        return new JsonBatchCallback<>() {
+            @Override
+            public void onSuccess(Event event, HttpHeaders headers) throws IOException {
+                attendeeMirror.record(event);
+                delegate.onSuccess(event, headers);
+            }
+
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders headers) throws IOException {
+                attendeeMirror.evict(eventId);
+                if (error.getCode() == HTTP_PRECONDITION_FAILED) {
+                    staleEvents.add(eventId);
+                } else {
+                    delegate.onFailure(error, headers);
+                }
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface BatchCall {
+        void queue(BatchRequest batch) throws IOException;
+    }
+
+    /**
+     * Returns the shared Calendar client, creating it on first use. The client, its pooled
+     * transport and the credentials are thread-safe and live for the lifetime of the service.
+     * {@link UserCredentials} caches the access token and refreshes it in the background once it
+     * is within the library's refresh margin of expiry, so calls only block on a token request
+     * when the cached token has actually expired.
+     */
+    Calendar calendarClient() throws IOException {
+        Calendar client = calendarClient;
+        if (client == null) {
+            synchronized (this) {
+                client = calendarClient;
+                if (client == null) {
+                    client = createCalendarClient();
+                    calendarClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    private Calendar createCalendarClient() throws IOException {
         if (calendarProperties.getRefreshToken() == null || calendarProperties.getRefreshToken().isBlank()) {
             throw new IOException("Google Calendar refresh token not configured");
         }
 
-        UserCredentials credentials = UserCredentials.newBuilder()
+        UserCredentials.Builder credentials = UserCredentials.newBuilder()
                 .setClientId(oAuthProperties.getClientId())
                 .setClientSecret(oAuthProperties.getClientSecret())
-                .setRefreshToken(calendarProperties.getRefreshToken())
-                .build();
+                .setRefreshToken(calendarProperties.getRefreshToken());
+        if (calendarProperties.getTokenServerUri() != null) {
+            credentials.setTokenServerUri(URI.create(calendarProperties.getTokenServerUri()));
+        }
 
-        HttpTransport transport;
-        try {
-            transport = GoogleNetHttpTransport.newTrustedTransport();
-        } catch (java.security.GeneralSecurityException e) {
-            throw new IOException("Failed to create HTTP transport", e);
+        transport = new ApacheHttpTransport(ApacheHttpTransport.newDefaultHttpClientBuilder()
+                .setMaxConnTotal(calendarProperties.getMaxConnections())
+                .setMaxConnPerRoute(calendarProperties.getMaxConnections())
+                .evictIdleConnections(calendarProperties.getIdleConnectionTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .build());
+
+        log.debug("Created Google Calendar client (max {} pooled connections)", calendarProperties.getMaxConnections());
+        Calendar.Builder builder = new Calendar.Builder(transport, JacksonFactory.getDefaultInstance(),
+                new HttpCredentialsAdapter(credentials.build()))
+                .setApplicationName("Interview Hub - Calendar Service");
+        if (calendarProperties.getRootUrl() != null) {
+            builder.setRootUrl(calendarProperties.getRootUrl());
         }
+        return builder.build();
+    }
 
-        return new Calendar.Builder(transport, JacksonFactory.getDefaultInstance(),
-                new HttpCredentialsAdapter(credentials))
-                .setApplicationName("Interview Hub - Calendar Service")
-                .build();
+    @PreDestroy
+    void close() throws IOException {
+        if (transport != null) {
+            transport.shutdown();
+        }
     }
 
     private Event buildEvent(CalendarEventRequest request) {
@@ -0,0 +1,7 @@
+package com.gm2dev.calendar_service;
+
+public class InvalidBatchException extends RuntimeException {
+    public InvalidBatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,40 @@
+package com.gm2dev.calendar_service.config;
+
+import com.gm2dev.shared.calendar.CalendarCbor;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Reads and writes the calendar API's bodies as {@code application/cbor} (see {@link CalendarCbor}).
+ * Only used when the caller asks for it through {@code Content-Type} or {@code Accept}.
+ */
+public class CalendarCborHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public CalendarCborHttpMessageConverter() {
+        super(MediaType.parseMediaType(CalendarCbor.MEDIA_TYPE));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CalendarCbor.supports(clazz);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return CalendarCbor.read(inputMessage.getBody(), clazz);
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Malformed CBOR body: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(CalendarCbor.write(value));
+    }
+}
@@ -4,10 +4,19 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Data
 @Component
 @ConfigurationProperties(prefix = "app.google.calendar")
 public class GoogleCalendarProperties {
     private String id = "primary";
     private String refreshToken;
+    /** Bounds concurrent Google calls; with virtual threads Tomcat's thread count no longer does. */
+    private int maxConnections = 20;
+    private Duration idleConnectionTimeout = Duration.ofSeconds(30);
+    private long attendeeMirrorMaxEvents = 10_000;
+    private Duration attendeeMirrorTtl = Duration.ofHours(6);
+    private String rootUrl;
+    private String tokenServerUri;
 }
@@ -0,0 +1,20 @@
+package com.gm2dev.calendar_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Accepts and produces CBOR next to JSON. The converter goes last, so callers that accept any
+ * media type, or send no {@code Accept} header, still get JSON.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new CalendarCborHttpMessageConverter());
+    }
+}
@@ -0,0 +1,118 @@
+package com.gm2dev.calendar_service.fake;
+
+import com.google.api.client.util.DateTime;
+import com.google.api.services.calendar.model.Event;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory events of the fake calendar. Every write bumps the event's ETag, and writes carrying
+ * {@code If-Match} are rejected with 412 when the ETag has moved on, as Google does.
+ */
+class FakeCalendarStore {
+
+    private final Map<String, Event> events = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    Event insert(Event event) {
+        Event created = event.clone();
+        String id = UUID.randomUUID().toString().replace("-", "");
+        DateTime now = new DateTime(System.currentTimeMillis());
+        created.setId(id)
+                .setStatus("confirmed")
+                .setCreated(now)
+                .setUpdated(now)
+                .setEtag(nextEtag());
+        if (event.getConferenceData() != null && event.getConferenceData().getCreateRequest() != null) {
+            created.setHangoutLink("https://meet.google.com/fake-" + id.substring(0, 10));
+        }
+        events.put(id, created);
+        return created.clone();
+    }
+
+    Event get(String id) {
+        Event event = events.get(id);
+        if (event == null) {
+            throw new CallFailure(404, "notFound", "Not Found");
+        }
+        return event.clone();
+    }
+
+    Event update(String id, Event replacement, String ifMatch) {
+        return events.compute(id, (key, current) -> {
+            checkPrecondition(current, ifMatch);
+            return replacement.clone()
+                    .setId(key)
+                    .setStatus(current.getStatus())
+                    .setCreated(current.getCreated())
+                    .setHangoutLink(current.getHangoutLink())
+                    .setUpdated(new DateTime(System.currentTimeMillis()))
+                    .setEtag(nextEtag());
+        }).clone();
+    }
+
+    /** Top-level fields present in the patch replace the stored ones; absent fields are kept. */
+    Event patch(String id, Event patch, String ifMatch) {
+        return events.compute(id, (key, current) -> {
+            checkPrecondition(current, ifMatch);
+            Event patched = current.clone();
+            patch.forEach(patched::set);
+            return patched.setId(key)
+                    .setUpdated(new DateTime(System.currentTimeMillis()))
+                    .setEtag(nextEtag());
+        }).clone();
+    }
+
+    void delete(String id, String ifMatch) {
+        events.compute(id, (key, current) -> {
+            checkPrecondition(current, ifMatch);
+            return null;
+        });
+    }
+
+    Optional<Event> find(String id) {
+        return Optional.ofNullable(events.get(id)).map(Event::clone);
+    }
+
+    int size() {
+        return events.size();
+    }
+
+    private static void checkPrecondition(Event current, String ifMatch) {
+        if (current == null) {
+            throw new CallFailure(404, "notFound", "Not Found");
+        }
+        if (ifMatch != null && !ifMatch.equals("*") && !ifMatch.equals(current.getEtag())) {
+            throw new CallFailure(412, "conditionNotMet", "Precondition Failed");
+        }
+    }
+
+    private String nextEtag() {
+        return "\"" + version.incrementAndGet() + "\"";
+    }
+
+    /** A Calendar API error to be returned to the caller as {@code status} with Google's error body. */
+    static final class CallFailure extends RuntimeException {
+
+        private final int status;
+        private final String reason;
+
+        CallFailure(int status, String reason, String message) {
+            super(message);
+            this.status = status;
+            this.reason = reason;
+        }
+
+        int status() {
+            return status;
+        }
+
+        String reason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.gm2dev.calendar_service.fake;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Runs the {@link FakeGoogleCalendarServer} inside calendar-service. The profile's
+ * {@code application-fake-google-calendar.yml} points the Google client at it.
+ */
+@Configuration
+@Profile("fake-google-calendar")
+@EnableConfigurationProperties(FakeGoogleCalendarProperties.class)
+public class FakeGoogleCalendarConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public FakeGoogleCalendarServer fakeGoogleCalendarServer(FakeGoogleCalendarProperties properties) {
+        return new FakeGoogleCalendarServer(properties);
+    }
+}
@@ -0,0 +1,21 @@
+package com.gm2dev.calendar_service.fake;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Behaviour of the {@link FakeGoogleCalendarServer}. Rates are probabilities in [0, 1] applied to
+ * every Calendar call, so each call inside a batch can fail on its own, as it does at Google.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.fake-google-calendar")
+public class FakeGoogleCalendarProperties {
+    private int port = 8099;
+    private Duration latency = Duration.ZERO;
+    private Duration latencyJitter = Duration.ZERO;
+    private double errorRate;
+    private double throttleRate;
+    private int maxCallsPerSecond;
+}
@@ -0,0 +1,345 @@
+package com.gm2dev.calendar_service.fake;
+
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.api.services.calendar.model.Event;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Local stand-in for the parts of Google Calendar v3 that {@code GoogleCalendarService} uses:
+ * event insert/get/update/patch/delete, the multipart batch endpoint and the OAuth token
+ * endpoint. Point {@code app.google.calendar.root-url} and {@code token-server-uri} at
+ * {@link #rootUrl()} and {@link #tokenServerUri()} to run calendar-service against it.
+ *
+ * <p>Each HTTP request (a whole batch counts once) is delayed by {@code latency} plus up to
+ * {@code latency-jitter}. Each Calendar call, including every call inside a batch, then fails
+ * with 429 {@code rateLimitExceeded} at {@code throttle-rate} or once more than
+ * {@code max-calls-per-second} calls arrive in the same second, and with 503
+ * {@code backendError} at {@code error-rate}.
+ */
+@Slf4j
+public class FakeGoogleCalendarServer {
+
+    private static final JsonFactory JSON = JacksonFactory.getDefaultInstance();
+    private static final Pattern EVENTS_PATH = Pattern.compile("/calendar/v3/calendars/[^/]+/events(?:/([^/]+))?");
+    private static final String BATCH_PATH = "/batch/calendar/v3";
+    private static final String TOKEN_PATH = "/token";
+    private static final String CRLF = "\r\n";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=UTF-8";
+    // Load tests open hundreds of connections at once; the JDK default backlog of 50 would drop some
+    private static final int BACKLOG = 1024;
+
+    private final FakeGoogleCalendarProperties properties;
+    private final FakeCalendarStore store = new FakeCalendarStore();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private long quotaSecond;
+    private int quotaCalls;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public FakeGoogleCalendarServer(FakeGoogleCalendarProperties properties) {
+        this.properties = properties;
+    }
+
+    /** Starts listening on the loopback interface; port 0 picks a free port. */
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            return;
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), properties.getPort()), BACKLOG);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        log.info("Fake Google Calendar listening on {}", rootUrl());
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.close();
+        server = null;
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public String rootUrl() {
+        return "http://localhost:" + port() + "/";
+    }
+
+    public String tokenServerUri() {
+        return rootUrl() + TOKEN_PATH.substring(1);
+    }
+
+    public Optional<Event> event(String eventId) {
+        return store.find(eventId);
+    }
+
+    public Stats stats() {
+        return new Stats(calls.get(), throttled.get(), failed.get(), store.size());
+    }
+
+    /**
+     * @param calls     Calendar calls received, batch entries counted individually
+     * @param throttled calls answered with an injected 429
+     * @param failed    calls answered with an injected 503
+     * @param events    events currently stored
+     */
+    public record Stats(long calls, long throttled, long failed, int events) {}
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            Response response;
+            try {
+                response = dispatch(exchange);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response = error(503, "backendError", "Server shutting down");
+            } catch (RuntimeException | IOException e) {
+                log.warn("Fake Google Calendar could not handle {} {}: {}",
+                        exchange.getRequestMethod(), exchange.getRequestURI(), e.getMessage());
+                response = error(400, "badRequest", String.valueOf(e.getMessage()));
+            }
+            if (response.contentType() != null) {
+                exchange.getResponseHeaders().set("Content-Type", response.contentType());
+            }
+            if (response.body().length == 0) {
+                exchange.sendResponseHeaders(response.status(), -1);
+            } else {
+                exchange.sendResponseHeaders(response.status(), response.body().length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response.body());
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Response dispatch(HttpExchange exchange) throws IOException, InterruptedException {
+        String path = exchange.getRequestURI().getPath();
+        byte[] body = decode(exchange.getRequestBody().readAllBytes(),
+                exchange.getRequestHeaders().getFirst("Content-Encoding"));
+        if (path.equals(TOKEN_PATH)) {
+            return json(200, Map.of("access_token", "fake-access-token", "token_type", "Bearer", "expires_in", 3600));
+        }
+
+        simulateLatency();
+        if (path.equals(BATCH_PATH)) {
+            return batch(exchange.getRequestHeaders().getFirst("Content-Type"), body);
+        }
+        String method = Optional.ofNullable(exchange.getRequestHeaders().getFirst("X-HTTP-Method-Override"))
+                .orElse(exchange.getRequestMethod());
+        return call(method, exchange.getRequestURI(), exchange.getRequestHeaders().getFirst("If-Match"), body);
+    }
+
+    private Response call(String method, URI uri, String ifMatch, byte[] body) throws IOException {
+        calls.incrementAndGet();
+        Matcher matcher = EVENTS_PATH.matcher(uri.getPath());
+        if (!matcher.matches()) {
+            return error(404, "notFound", "Not Found");
+        }
+        Response fault = injectFault();
+        if (fault != null) {
+            return fault;
+        }
+
+        String eventId = matcher.group(1);
+        try {
+            if (eventId == null && method.equals("POST")) {
+                return json(200, store.insert(parseEvent(body)));
+            } else if (eventId != null && method.equals("GET")) {
+                return json(200, store.get(eventId));
+            } else if (eventId != null && method.equals("PUT")) {
+                return json(200, store.update(eventId, parseEvent(body), ifMatch));
+            } else if (eventId != null && method.equals("PATCH")) {
+                return json(200, store.patch(eventId, parseEvent(body), ifMatch));
+            } else if (eventId != null && method.equals("DELETE")) {
+                store.delete(eventId, ifMatch);
+                return new Response(204, null, new byte[0]);
+            }
+            return error(405, "methodNotAllowed", method + " is not supported on " + uri.getPath());
+        } catch (FakeCalendarStore.CallFailure e) {
+            return error(e.status(), e.reason(), e.getMessage());
+        }
+    }
+
+    /**
+     * Answers a {@code multipart/mixed} batch: every part is an {@code application/http} request,
+     * answered in order by an {@code application/http} response part with a matching Content-ID.
+     */
+    private Response batch(String contentType, byte[] body) throws IOException {
+        String boundary = boundary(contentType);
+        if (boundary == null) {
+            return error(400, "badRequest", "Missing multipart boundary");
+        }
+        String responseBoundary = "batch_" + UUID.randomUUID().toString().replace("-", "");
+        StringBuilder out = new StringBuilder();
+        int index = 0;
+        for (String part : new String(body, StandardCharsets.ISO_8859_1).split(Pattern.quote("--" + boundary))) {
+            if (part.isBlank() || part.startsWith("--")) {
+                continue;
+            }
+            index++;
+            String[] partSections = part.strip().split(CRLF + CRLF, 2);
+            Map<String, String> partHeaders = headers(List.of(partSections[0].split(CRLF)));
+            String[] request = partSections.length > 1 ? partSections[1].split(CRLF + CRLF, 2) : new String[] {""};
+            List<String> head = List.of(request[0].split(CRLF));
+            Map<String, String> headers = headers(head.subList(1, head.size()));
+            String[] requestLine = head.getFirst().split(" ");
+            byte[] callBody = decode(request.length > 1 ? request[1].getBytes(StandardCharsets.ISO_8859_1) : new byte[0],
+                    headers.get("content-encoding"));
+
+            Response response = call(headers.getOrDefault("x-http-method-override", requestLine[0]),
+                    URI.create(requestLine[1]), headers.get("if-match"), callBody);
+
+            String contentId = partHeaders.getOrDefault("content-id", String.valueOf(index)).replaceAll("[<>]", "");
+            out.append("--").append(responseBoundary).append(CRLF)
+                    .append("Content-Type: application/http").append(CRLF)
+                    .append("Content-ID: <response-").append(contentId).append('>').append(CRLF)
+                    .append(CRLF)
+                    .append("HTTP/1.1 ").append(response.status()).append(' ').append(reasonPhrase(response.status())).append(CRLF);
+            if (response.contentType() != null) {
+                out.append("Content-Type: ").append(response.contentType()).append(CRLF);
+            }
+            out.append("Content-Length: ").append(response.body().length).append(CRLF)
+                    .append(CRLF)
+                    .append(new String(response.body(), StandardCharsets.ISO_8859_1)).append(CRLF);
+        }
+        out.append("--").append(responseBoundary).append("--").append(CRLF);
+        return new Response(200, "multipart/mixed; boundary=" + responseBoundary,
+                out.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private Response injectFault() throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (overQuota() || random.nextDouble() < properties.getThrottleRate()) {
+            throttled.incrementAndGet();
+            return error(429, "rateLimitExceeded", "Rate Limit Exceeded");
+        }
+        if (random.nextDouble() < properties.getErrorRate()) {
+            failed.incrementAndGet();
+            return error(503, "backendError", "Backend Error");
+        }
+        return null;
+    }
+
+    private synchronized boolean overQuota() {
+        if (properties.getMaxCallsPerSecond() <= 0) {
+            return false;
+        }
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        if (second != quotaSecond) {
+            quotaSecond = second;
+            quotaCalls = 0;
+        }
+        return ++quotaCalls > properties.getMaxCallsPerSecond();
+    }
+
+    private void simulateLatency() throws InterruptedException {
+        long nanos = properties.getLatency().toNanos();
+        long jitter = properties.getLatencyJitter().toNanos();
+        if (jitter > 0) {
+            nanos += ThreadLocalRandom.current().nextLong(jitter + 1);
+        }
+        if (nanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    }
+
+    private static Event parseEvent(byte[] body) throws IOException {
+        return JSON.fromString(new String(body, StandardCharsets.UTF_8), Event.class);
+    }
+
+    private static Response json(int status, Object body) throws IOException {
+        return new Response(status, JSON_CONTENT_TYPE, JSON.toByteArray(body));
+    }
+
+    /** Google's error body, which the client turns into a {@code GoogleJsonResponseException}. */
+    private static Response error(int status, String reason, String message) throws IOException {
+        Map<String, Object> detail = Map.of("domain", status == 429 ? "usageLimits" : "global",
+                "reason", reason, "message", message);
+        return json(status, Map.of("error", Map.of("code", status, "message", message, "errors", List.of(detail))));
+    }
+
+    private static byte[] decode(byte[] body, String contentEncoding) throws IOException {
+        if (body.length == 0 || !"gzip".equalsIgnoreCase(contentEncoding)) {
+            return body;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static Map<String, String> headers(List<String> lines) {
+        Map<String, String> headers = new HashMap<>();
+        for (String line : lines) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+        }
+        return headers;
+    }
+
+    private static String boundary(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        for (String parameter : contentType.split(";")) {
+            String[] pair = parameter.trim().split("=", 2);
+            if (pair.length == 2 && pair[0].equalsIgnoreCase("boundary")) {
+                return pair[1].replace("\"", "");
+            }
+        }
+        return null;
+    }
+
+    private static String reasonPhrase(int status) {
+        return switch (status) {
+            case 200 -> "OK";
+            case 204 -> "No Content";
+            case 400 -> "Bad Request";
+            case 404 -> "Not Found";
+            case 405 -> "Method Not Allowed";
+            case 412 -> "Precondition Failed";
+            case 429 -> "Too Many Requests";
+            case 503 -> "Service Unavailable";
+            default -> "Error";
+        };
+    }
+
+    private record Response(int status, String contentType, byte[] body) {}
+}
@@ -3,6 +3,10 @@ package com.gm2dev.calendar_service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.gm2dev.shared.calendar.AttendeeRequest;
+import com.gm2dev.shared.calendar.CalendarBatchOperation;
+import com.gm2dev.shared.calendar.CalendarBatchRequest;
+import com.gm2dev.shared.calendar.CalendarBatchResult;
+import com.gm2dev.shared.calendar.CalendarCbor;
 import com.gm2dev.shared.calendar.CalendarEventRequest;
 import com.gm2dev.shared.calendar.CalendarEventResponse;
 import org.junit.jupiter.api.Test;
@@ -13,17 +17,24 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -72,6 +83,31 @@ class CalendarControllerTest {
         verify(googleCalendarService).createEvent(any());
     }
 
+    @Test
+    void postEvents_withCborBody_answersInCbor() throws Exception {
+        CalendarEventRequest request = buildRequest(null);
+        CalendarEventResponse response = new CalendarEventResponse("evt-cbor", "https://meet.google.com/xyz");
+        when(googleCalendarService.createEvent(request)).thenReturn(response);
+
+        byte[] body = mockMvc.perform(post("/events")
+                        .contentType(CalendarCbor.MEDIA_TYPE)
+                        .accept(CalendarCbor.MEDIA_TYPE, "application/json;q=0.5")
+                        .content(CalendarCbor.write(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CalendarCbor.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(response, CalendarCbor.read(new ByteArrayInputStream(body), CalendarEventResponse.class));
+    }
+
+    @Test
+    void postEvents_withMalformedCborBody_returns400() throws Exception {
+        mockMvc.perform(post("/events")
+                        .contentType(CalendarCbor.MEDIA_TYPE)
+                        .content(new byte[]{(byte) 0x9f, 0x01}))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void putEventsEventId_updatesEventAndReturns204() throws Exception {
         CalendarEventRequest request = buildRequest("evt-abc123");
@@ -121,6 +157,62 @@ class CalendarControllerTest {
         verify(googleCalendarService).removeAttendee(any());
     }
 
+    @Test
+    void postEventsBatch_returnsPerOperationResults() throws Exception {
+        CalendarBatchRequest batch = new CalendarBatchRequest(List.of(
+                new CalendarBatchOperation.Create(buildRequest(null)),
+                new CalendarBatchOperation.Delete("evt-gone"),
+                new CalendarBatchOperation.AddAttendee(new AttendeeRequest("evt-abc123", "shadow@gm2dev.com"))));
+        when(googleCalendarService.executeBatch(any())).thenReturn(List.of(
+                CalendarBatchResult.success(0, "evt-new", "https://meet.google.com/new"),
+                CalendarBatchResult.failure(1, 404, "Not Found"),
+                CalendarBatchResult.success(2, "evt-abc123", null)));
+
+        mockMvc.perform(post("/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[0].eventId").value("evt-new"))
+                .andExpect(jsonPath("$.results[1].success").value(false))
+                .andExpect(jsonPath("$.results[1].errorCode").value(404))
+                .andExpect(jsonPath("$.results[2].index").value(2));
+
+        verify(googleCalendarService).executeBatch(argThat(ops -> ops.size() == 3
+                && ops.get(0) instanceof CalendarBatchOperation.Create
+                && ops.get(1) instanceof CalendarBatchOperation.Delete
+                && ops.get(2) instanceof CalendarBatchOperation.AddAttendee));
+    }
+
+    @Test
+    void postEventsBatch_withoutOperations_returns400() throws Exception {
+        mockMvc.perform(post("/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(new CalendarBatchRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        verify(googleCalendarService, never()).executeBatch(any());
+    }
+
+    @Test
+    void postEventsBatch_overOperationLimit_returns400() throws Exception {
+        CalendarBatchRequest batch = new CalendarBatchRequest(Collections.nCopies(
+                CalendarBatchRequest.MAX_OPERATIONS + 1, new CalendarBatchOperation.Delete("evt-gone")));
+
+        mockMvc.perform(post("/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(batch)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("at most 1000")));
+
+        verify(googleCalendarService, never()).executeBatch(any());
+    }
+
     @Test
     void postEvents_whenCalendarServiceThrowsIOException_returns500() throws Exception {
         CalendarEventRequest request = buildRequest(null);
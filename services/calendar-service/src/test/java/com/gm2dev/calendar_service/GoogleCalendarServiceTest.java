@@ -3,8 +3,16 @@ package com.gm2dev.calendar_service;
 import com.gm2dev.calendar_service.config.GoogleCalendarProperties;
 import com.gm2dev.calendar_service.config.GoogleOAuthProperties;
 import com.gm2dev.shared.calendar.AttendeeRequest;
+import com.gm2dev.shared.calendar.CalendarBatchOperation;
+import com.gm2dev.shared.calendar.CalendarBatchResult;
 import com.gm2dev.shared.calendar.CalendarEventRequest;
 import com.gm2dev.shared.calendar.CalendarEventResponse;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.EventAttendee;
@@ -49,9 +57,13 @@ class GoogleCalendarServiceTest {
     @Mock
     private Calendar.Events.Patch patchOp;
 
+    @Mock
+    private BatchRequest batchRequest;
+
     private GoogleCalendarService googleCalendarService;
     private GoogleCalendarProperties calendarProperties;
     private GoogleOAuthProperties oAuthProperties;
+    private EventAttendeeMirror attendeeMirror;
 
     private static final Instant START_TIME = Instant.now().plus(1, ChronoUnit.DAYS);
     private static final Instant END_TIME = START_TIME.plus(1, ChronoUnit.HOURS);
@@ -66,7 +78,8 @@ class GoogleCalendarServiceTest {
         oAuthProperties.setClientId("test-client-id");
         oAuthProperties.setClientSecret("test-client-secret");
 
-        googleCalendarService = spy(new GoogleCalendarService(oAuthProperties, calendarProperties));
+        attendeeMirror = new EventAttendeeMirror(calendarProperties);
+        googleCalendarService = spy(new GoogleCalendarService(oAuthProperties, calendarProperties, attendeeMirror));
     }
 
     private CalendarEventRequest buildRequest(String googleEventId) {
@@ -86,10 +99,36 @@ class GoogleCalendarServiceTest {
     }
 
     @Test
-    void buildCalendarClient_throwsWhenRefreshTokenBlank() {
+    void calendarClient_throwsWhenRefreshTokenBlank() {
         calendarProperties.setRefreshToken("");
-        GoogleCalendarService bareService = new GoogleCalendarService(oAuthProperties, calendarProperties);
-        assertThrows(IOException.class, bareService::buildCalendarClient);
+        GoogleCalendarService bareService = new GoogleCalendarService(oAuthProperties, calendarProperties, attendeeMirror);
+        assertThrows(IOException.class, bareService::calendarClient);
+    }
+
+    @Test
+    void calendarClient_isCreatedOnceAndReused() throws IOException {
+        GoogleCalendarService bareService = new GoogleCalendarService(oAuthProperties, calendarProperties, attendeeMirror);
+        try {
+            Calendar first = bareService.calendarClient();
+
+            assertSame(first, bareService.calendarClient());
+        } finally {
+            bareService.close();
+        }
+    }
+
+    @Test
+    void calendarClient_blankTokenIsRetriedOnNextCall() throws IOException {
+        calendarProperties.setRefreshToken("");
+        GoogleCalendarService bareService = new GoogleCalendarService(oAuthProperties, calendarProperties, attendeeMirror);
+        assertThrows(IOException.class, bareService::calendarClient);
+
+        calendarProperties.setRefreshToken("test-refresh-token");
+        try {
+            assertNotNull(bareService.calendarClient());
+        } finally {
+            bareService.close();
+        }
     }
 
     @Test
@@ -97,7 +136,7 @@ class GoogleCalendarServiceTest {
         CalendarEventRequest request = buildRequest(null);
 
         Event createdEvent = new Event().setId("google-event-id-123").setHangoutLink("https://meet.google.com/abc");
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
         when(insert.setConferenceDataVersion(1)).thenReturn(insert);
@@ -116,7 +155,7 @@ class GoogleCalendarServiceTest {
         CalendarEventRequest request = buildRequest(null);
 
         Event createdEvent = new Event().setId("event-send-updates");
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
         when(insert.setConferenceDataVersion(1)).thenReturn(insert);
@@ -133,7 +172,7 @@ class GoogleCalendarServiceTest {
         CalendarEventRequest request = buildRequest(null);
 
         Event createdEvent = new Event().setId("event-cal-id");
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
         when(insert.setConferenceDataVersion(1)).thenReturn(insert);
@@ -150,7 +189,7 @@ class GoogleCalendarServiceTest {
         CalendarEventRequest request = buildRequest(null);
 
         Event createdEvent = new Event().setId("event-789");
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
         when(insert.setConferenceDataVersion(1)).thenReturn(insert);
@@ -174,7 +213,7 @@ class GoogleCalendarServiceTest {
         CalendarEventRequest request = buildRequest(null);
 
         Event createdEvent = new Event().setId("event-desc");
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
         when(insert.setConferenceDataVersion(1)).thenReturn(insert);
@@ -201,7 +240,7 @@ class GoogleCalendarServiceTest {
         CalendarEventRequest request = buildRequest(null);
 
         Event createdEvent = new Event().setId("event-attendees");
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
         when(insert.setConferenceDataVersion(1)).thenReturn(insert);
@@ -229,7 +268,7 @@ class GoogleCalendarServiceTest {
         );
 
         Event createdEvent = new Event().setId("event-shadowers");
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
         when(insert.setConferenceDataVersion(1)).thenReturn(insert);
@@ -255,7 +294,7 @@ class GoogleCalendarServiceTest {
         );
 
         Event createdEvent = new Event().setId("event-null-name");
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
         when(insert.setConferenceDataVersion(1)).thenReturn(insert);
@@ -278,7 +317,7 @@ class GoogleCalendarServiceTest {
         );
 
         Event createdEvent = new Event().setId("event-no-candidate-email");
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
         when(insert.setConferenceDataVersion(1)).thenReturn(insert);
@@ -300,7 +339,7 @@ class GoogleCalendarServiceTest {
         CalendarEventRequest request = buildRequest(null);
 
         Event createdEvent = new Event().setId("event-meet");
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
         when(insert.setConferenceDataVersion(1)).thenReturn(insert);
@@ -323,7 +362,7 @@ class GoogleCalendarServiceTest {
         CalendarEventRequest request = buildRequest("existing-event-id");
 
         Event updatedEvent = new Event().setId("existing-event-id");
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.update(eq("test-calendar-id"), eq("existing-event-id"), any(Event.class))).thenReturn(update);
         when(update.setConferenceDataVersion(1)).thenReturn(update);
@@ -340,7 +379,7 @@ class GoogleCalendarServiceTest {
         CalendarEventRequest request = buildRequest("event-update-sends");
 
         Event updatedEvent = new Event().setId("event-update-sends");
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.update(eq("test-calendar-id"), eq("event-update-sends"), any(Event.class))).thenReturn(update);
         when(update.setConferenceDataVersion(1)).thenReturn(update);
@@ -354,7 +393,7 @@ class GoogleCalendarServiceTest {
 
     @Test
     void deleteEvent_deletesEvent() throws IOException {
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.delete("test-calendar-id", "event-to-delete")).thenReturn(deleteOp);
         when(deleteOp.setSendUpdates("all")).thenReturn(deleteOp);
@@ -374,7 +413,7 @@ class GoogleCalendarServiceTest {
 
         Event patchedEvent = new Event().setId("event-with-attendees");
 
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.get("test-calendar-id", "event-with-attendees")).thenReturn(getOp);
         when(getOp.execute()).thenReturn(existingEvent);
@@ -397,7 +436,7 @@ class GoogleCalendarServiceTest {
 
         Event patchedEvent = new Event().setId("event-null-attendees");
 
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.get("test-calendar-id", "event-null-attendees")).thenReturn(getOp);
         when(getOp.execute()).thenReturn(existingEvent);
@@ -424,7 +463,7 @@ class GoogleCalendarServiceTest {
                 ));
         Event patchedEvent = new Event().setId("event-to-patch");
 
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.get("test-calendar-id", "event-to-patch")).thenReturn(getOp);
         when(getOp.execute()).thenReturn(existingEvent);
@@ -448,7 +487,7 @@ class GoogleCalendarServiceTest {
 
         Event patchedEvent = new Event().setId("event-no-attendees");
 
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.get("test-calendar-id", "event-no-attendees")).thenReturn(getOp);
         when(getOp.execute()).thenReturn(existingEvent);
@@ -463,6 +502,75 @@ class GoogleCalendarServiceTest {
         assertTrue(eventCaptor.getValue().getAttendees().isEmpty());
     }
 
+    @Test
+    void addAttendee_afterCreate_patchesMirroredListWithIfMatchAndNoFetch() throws IOException {
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
+        when(calendarClient.events()).thenReturn(events);
+        when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
+        when(insert.setConferenceDataVersion(1)).thenReturn(insert);
+        when(insert.setSendUpdates("all")).thenReturn(insert);
+        when(insert.execute()).thenReturn(new Event().setId("event-mirrored").setEtag("\"etag-1\"")
+                .setAttendees(List.of(new EventAttendee().setEmail("interviewer@gm2dev.com"))));
+        when(events.patch(eq("test-calendar-id"), eq("event-mirrored"), any(Event.class))).thenReturn(patchOp);
+        when(patchOp.setSendUpdates("all")).thenReturn(patchOp);
+        when(patchOp.execute()).thenReturn(new Event().setId("event-mirrored").setEtag("\"etag-2\""));
+
+        googleCalendarService.createEvent(buildRequest(null));
+        googleCalendarService.addAttendee(new AttendeeRequest("event-mirrored", "shadower@gm2dev.com"));
+
+        verify(events, never()).get(any(), any());
+        verify(patchOp).setRequestHeaders(argThat(headers -> "\"etag-1\"".equals(headers.getIfMatch())));
+        ArgumentCaptor<Event> eventCaptor = ArgumentCaptor.forClass(Event.class);
+        verify(events).patch(eq("test-calendar-id"), eq("event-mirrored"), eventCaptor.capture());
+        assertEquals(List.of("interviewer@gm2dev.com", "shadower@gm2dev.com"),
+                eventCaptor.getValue().getAttendees().stream().map(EventAttendee::getEmail).toList());
+        assertEquals("\"etag-2\"", attendeeMirror.get("event-mirrored").orElseThrow().etag());
+    }
+
+    @Test
+    void addAttendee_staleMirror_refetchesOnPreconditionFailedAndRetriesOnce() throws IOException {
+        attendeeMirror.record(new Event().setId("event-stale").setEtag("\"old\"").setAttendees(List.of()));
+
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
+        when(calendarClient.events()).thenReturn(events);
+        when(events.patch(eq("test-calendar-id"), eq("event-stale"), any(Event.class))).thenReturn(patchOp);
+        when(patchOp.setSendUpdates("all")).thenReturn(patchOp);
+        when(patchOp.execute())
+                .thenThrow(preconditionFailed())
+                .thenReturn(new Event().setId("event-stale").setEtag("\"newest\""));
+        when(events.get("test-calendar-id", "event-stale")).thenReturn(getOp);
+        when(getOp.execute()).thenReturn(new Event().setId("event-stale").setEtag("\"fresh\"")
+                .setAttendees(List.of(new EventAttendee().setEmail("added-elsewhere@gm2dev.com"))));
+
+        googleCalendarService.addAttendee(new AttendeeRequest("event-stale", "shadower@gm2dev.com"));
+
+        verify(getOp).execute();
+        verify(patchOp).setRequestHeaders(argThat(headers -> "\"old\"".equals(headers.getIfMatch())));
+        verify(patchOp).setRequestHeaders(argThat(headers -> "\"fresh\"".equals(headers.getIfMatch())));
+        ArgumentCaptor<Event> eventCaptor = ArgumentCaptor.forClass(Event.class);
+        verify(events, times(2)).patch(eq("test-calendar-id"), eq("event-stale"), eventCaptor.capture());
+        assertEquals(List.of("added-elsewhere@gm2dev.com", "shadower@gm2dev.com"),
+                eventCaptor.getValue().getAttendees().stream().map(EventAttendee::getEmail).toList());
+        assertEquals("\"newest\"", attendeeMirror.get("event-stale").orElseThrow().etag());
+    }
+
+    @Test
+    void removeAttendee_otherPatchFailure_evictsMirrorAndRethrows() throws IOException {
+        attendeeMirror.record(new Event().setId("event-broken").setEtag("\"e\"").setAttendees(List.of()));
+
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
+        when(calendarClient.events()).thenReturn(events);
+        when(events.patch(eq("test-calendar-id"), eq("event-broken"), any(Event.class))).thenReturn(patchOp);
+        when(patchOp.setSendUpdates("all")).thenReturn(patchOp);
+        when(patchOp.execute()).thenThrow(new GoogleJsonResponseException(
+                new HttpResponseException.Builder(403, "Forbidden", new HttpHeaders()), null));
+
+        assertThrows(GoogleJsonResponseException.class, () -> googleCalendarService.removeAttendee(
+                new AttendeeRequest("event-broken", "a@gm2dev.com")));
+        assertTrue(attendeeMirror.get("event-broken").isEmpty());
+        verify(events, never()).get(any(), any());
+    }
+
     @Test
     void createEvent_omitsNullOptionalFieldsFromDescription() throws IOException {
         CalendarEventRequest request = new CalendarEventRequest(
@@ -472,7 +580,7 @@ class GoogleCalendarServiceTest {
         );
 
         Event createdEvent = new Event().setId("event-minimal");
-        doReturn(calendarClient).when(googleCalendarService).buildCalendarClient();
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
         when(calendarClient.events()).thenReturn(events);
         when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
         when(insert.setConferenceDataVersion(1)).thenReturn(insert);
@@ -489,4 +597,174 @@ class GoogleCalendarServiceTest {
         assertFalse(desc.contains("Primary Area:"));
         assertFalse(desc.contains("Feedback Link:"));
     }
+
+    @Test
+    void executeBatch_returnsResultPerOperationInRequestOrder() throws IOException {
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
+        when(calendarClient.events()).thenReturn(events);
+        when(calendarClient.batch()).thenReturn(batchRequest);
+
+        when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
+        when(insert.setConferenceDataVersion(1)).thenReturn(insert);
+        when(insert.setSendUpdates("all")).thenReturn(insert);
+        respondWith(insert, new Event().setId("evt-new").setHangoutLink("https://meet.google.com/new"));
+
+        when(events.delete("test-calendar-id", "evt-gone")).thenReturn(deleteOp);
+        when(deleteOp.setSendUpdates("all")).thenReturn(deleteOp);
+        doAnswer(inv -> {
+            GoogleJsonError error = new GoogleJsonError();
+            error.setCode(404);
+            error.setMessage("Not Found");
+            inv.<JsonBatchCallback<Void>>getArgument(1).onFailure(error, new HttpHeaders());
+            return null;
+        }).when(deleteOp).queue(eq(batchRequest), any());
+
+        when(events.get("test-calendar-id", "evt-shadowed")).thenReturn(getOp);
+        respondWith(getOp, new Event().setId("evt-shadowed")
+                .setAttendees(List.of(new EventAttendee().setEmail("old@gm2dev.com"))));
+        when(events.patch(eq("test-calendar-id"), eq("evt-shadowed"), any(Event.class))).thenReturn(patchOp);
+        when(patchOp.setSendUpdates("all")).thenReturn(patchOp);
+        respondWith(patchOp, new Event().setId("evt-shadowed"));
+
+        List<CalendarBatchResult> results = googleCalendarService.executeBatch(List.of(
+                new CalendarBatchOperation.Create(buildRequest(null)),
+                new CalendarBatchOperation.Delete("evt-gone"),
+                new CalendarBatchOperation.AddAttendee(new AttendeeRequest("evt-shadowed", "new@gm2dev.com")),
+                new CalendarBatchOperation.RemoveAttendee(new AttendeeRequest("evt-shadowed", "old@gm2dev.com"))));
+
+        assertEquals(CalendarBatchResult.success(0, "evt-new", "https://meet.google.com/new"), results.get(0));
+        assertEquals(CalendarBatchResult.failure(1, 404, "Not Found"), results.get(1));
+        assertEquals(CalendarBatchResult.success(2, "evt-shadowed", null), results.get(2));
+        assertEquals(CalendarBatchResult.success(3, "evt-shadowed", null), results.get(3));
+
+        // Both attendee changes land in one patch, applied in request order.
+        ArgumentCaptor<Event> patchCaptor = ArgumentCaptor.forClass(Event.class);
+        verify(events).patch(eq("test-calendar-id"), eq("evt-shadowed"), patchCaptor.capture());
+        assertEquals(List.of("new@gm2dev.com"),
+                patchCaptor.getValue().getAttendees().stream().map(EventAttendee::getEmail).toList());
+        verify(batchRequest, times(2)).execute();
+    }
+
+    @Test
+    void executeBatch_createAndUpdate_recordReturnedEventsInAttendeeMirror() throws IOException {
+        attendeeMirror.record(new Event().setId("evt-updated").setEtag("\"before\"").setAttendees(List.of()));
+
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
+        when(calendarClient.events()).thenReturn(events);
+        when(calendarClient.batch()).thenReturn(batchRequest);
+        when(events.insert(eq("test-calendar-id"), any(Event.class))).thenReturn(insert);
+        when(insert.setConferenceDataVersion(1)).thenReturn(insert);
+        when(insert.setSendUpdates("all")).thenReturn(insert);
+        respondWith(insert, new Event().setId("evt-created").setEtag("\"created\"")
+                .setAttendees(List.of(new EventAttendee().setEmail("interviewer@gm2dev.com"))));
+        when(events.update(eq("test-calendar-id"), eq("evt-updated"), any(Event.class))).thenReturn(update);
+        when(update.setConferenceDataVersion(1)).thenReturn(update);
+        when(update.setSendUpdates("all")).thenReturn(update);
+        respondWith(update, new Event().setId("evt-updated").setEtag("\"after\"").setAttendees(List.of()));
+
+        googleCalendarService.executeBatch(List.of(
+                new CalendarBatchOperation.Create(buildRequest(null)),
+                new CalendarBatchOperation.Update(buildRequest("evt-updated"))));
+
+        EventAttendeeMirror.MirroredEvent created = attendeeMirror.get("evt-created").orElseThrow();
+        assertEquals("\"created\"", created.etag());
+        assertEquals("interviewer@gm2dev.com", created.attendees().getFirst().getEmail());
+        assertEquals("\"after\"", attendeeMirror.get("evt-updated").orElseThrow().etag());
+    }
+
+    @Test
+    void executeBatch_failedUpdate_evictsMirroredEvent() throws IOException {
+        attendeeMirror.record(new Event().setId("evt-updated").setEtag("\"before\"").setAttendees(List.of()));
+
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
+        when(calendarClient.events()).thenReturn(events);
+        when(calendarClient.batch()).thenReturn(batchRequest);
+        when(events.update(eq("test-calendar-id"), eq("evt-updated"), any(Event.class))).thenReturn(update);
+        when(update.setConferenceDataVersion(1)).thenReturn(update);
+        when(update.setSendUpdates("all")).thenReturn(update);
+        doAnswer(inv -> {
+            GoogleJsonError error = new GoogleJsonError();
+            error.setCode(500);
+            error.setMessage("Backend Error");
+            inv.<JsonBatchCallback<Event>>getArgument(1).onFailure(error, new HttpHeaders());
+            return null;
+        }).when(update).queue(eq(batchRequest), any());
+
+        List<CalendarBatchResult> results = googleCalendarService.executeBatch(
+                List.of(new CalendarBatchOperation.Update(buildRequest("evt-updated"))));
+
+        assertEquals(CalendarBatchResult.failure(0, 500, "Backend Error"), results.getFirst());
+        assertTrue(attendeeMirror.get("evt-updated").isEmpty());
+    }
+
+    @Test
+    void executeBatch_rejectsOperationsWithoutEventIdLocally() throws IOException {
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
+
+        List<CalendarBatchResult> results = googleCalendarService.executeBatch(List.of(
+                new CalendarBatchOperation.Update(buildRequest(null)),
+                new CalendarBatchOperation.Delete(null),
+                new CalendarBatchOperation.AddAttendee(new AttendeeRequest(null, "a@gm2dev.com"))));
+
+        assertTrue(results.stream().noneMatch(CalendarBatchResult::success));
+        assertTrue(results.stream().allMatch(r -> r.errorCode() == 400));
+        verify(calendarClient, never()).batch();
+    }
+
+    @Test
+    void executeBatch_transportFailure_marksOperationsFailed() throws IOException {
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
+        when(calendarClient.events()).thenReturn(events);
+        when(calendarClient.batch()).thenReturn(batchRequest);
+        when(events.delete("test-calendar-id", "evt-1")).thenReturn(deleteOp);
+        when(deleteOp.setSendUpdates("all")).thenReturn(deleteOp);
+        doThrow(new IOException("connection reset")).when(batchRequest).execute();
+
+        List<CalendarBatchResult> results = googleCalendarService.executeBatch(
+                List.of(new CalendarBatchOperation.Delete("evt-1")));
+
+        assertEquals(CalendarBatchResult.failure(0, 502, "No response from Google Calendar"), results.getFirst());
+    }
+
+    @Test
+    void executeBatch_staleMirroredEtag_retriesEventSequentially() throws IOException {
+        attendeeMirror.record(new Event().setId("evt-stale").setEtag("\"old\"").setAttendees(List.of()));
+
+        doReturn(calendarClient).when(googleCalendarService).calendarClient();
+        when(calendarClient.events()).thenReturn(events);
+        when(calendarClient.batch()).thenReturn(batchRequest);
+        when(events.patch(eq("test-calendar-id"), eq("evt-stale"), any(Event.class))).thenReturn(patchOp);
+        when(patchOp.setSendUpdates("all")).thenReturn(patchOp);
+        doAnswer(inv -> {
+            GoogleJsonError error = new GoogleJsonError();
+            error.setCode(412);
+            error.setMessage("Precondition Failed");
+            inv.<JsonBatchCallback<Event>>getArgument(1).onFailure(error, new HttpHeaders());
+            return null;
+        }).when(patchOp).queue(eq(batchRequest), any());
+        when(events.get("test-calendar-id", "evt-stale")).thenReturn(getOp);
+        when(getOp.execute()).thenReturn(new Event().setId("evt-stale").setEtag("\"fresh\"").setAttendees(List.of()));
+        when(patchOp.execute()).thenReturn(new Event().setId("evt-stale").setEtag("\"newest\""));
+
+        List<CalendarBatchResult> results = googleCalendarService.executeBatch(List.of(
+                new CalendarBatchOperation.AddAttendee(new AttendeeRequest("evt-stale", "a@gm2dev.com"))));
+
+        assertEquals(CalendarBatchResult.success(0, "evt-stale", null), results.getFirst());
+        verify(batchRequest).execute();
+        verify(getOp).execute();
+        assertEquals("\"newest\"", attendeeMirror.get("evt-stale").orElseThrow().etag());
+    }
+
+    private static GoogleJsonResponseException preconditionFailed() {
+        return new GoogleJsonResponseException(
+                new HttpResponseException.Builder(412, "Precondition Failed", new HttpHeaders()), null);
+    }
+
+    private <T> void respondWith(com.google.api.client.googleapis.services.json.AbstractGoogleJsonClientRequest<T> request,
+                                 T response) throws IOException {
+        doAnswer(inv -> {
+            inv.<JsonBatchCallback<T>>getArgument(1).onSuccess(response, new HttpHeaders());
+            return null;
+        }).when(request).queue(eq(batchRequest), any());
+    }
 }
@@ -0,0 +1,178 @@
+package com.gm2dev.calendar_service.fake;
+
+import com.gm2dev.calendar_service.EventAttendeeMirror;
+import com.gm2dev.calendar_service.GoogleCalendarService;
+import com.gm2dev.calendar_service.config.GoogleCalendarProperties;
+import com.gm2dev.calendar_service.config.GoogleOAuthProperties;
+import com.gm2dev.shared.calendar.AttendeeRequest;
+import com.gm2dev.shared.calendar.CalendarBatchOperation;
+import com.gm2dev.shared.calendar.CalendarBatchResult;
+import com.gm2dev.shared.calendar.CalendarEventRequest;
+import com.gm2dev.shared.calendar.CalendarEventResponse;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.services.calendar.model.Event;
+import com.google.api.services.calendar.model.EventAttendee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the real {@link GoogleCalendarService} over HTTP against the fake, covering the Google
+ * client's request and batch encoding as well as the fake's fault injection.
+ */
+class FakeGoogleCalendarServerTest {
+
+    private static final Instant START_TIME = Instant.now().plus(1, ChronoUnit.DAYS);
+
+    private FakeGoogleCalendarProperties fakeProperties;
+    private FakeGoogleCalendarServer server;
+    private GoogleCalendarService calendarService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fakeProperties = new FakeGoogleCalendarProperties();
+        fakeProperties.setPort(0);
+        server = new FakeGoogleCalendarServer(fakeProperties);
+        server.start();
+        calendarService = newCalendarService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void createUpdateDelete_roundTripsThroughTheFake() throws IOException {
+        CalendarEventResponse created = calendarService.createEvent(request(null, "Java"));
+
+        assertNotNull(created.eventId());
+        assertNotNull(created.meetLink());
+        assertEquals("Java Interview - Jane Doe", server.event(created.eventId()).orElseThrow().getSummary());
+
+        calendarService.updateEvent(request(created.eventId(), "Kotlin"));
+        assertEquals("Kotlin Interview - Jane Doe", server.event(created.eventId()).orElseThrow().getSummary());
+
+        calendarService.deleteEvent(created.eventId());
+        assertTrue(server.event(created.eventId()).isEmpty());
+
+        GoogleJsonResponseException e = assertThrows(GoogleJsonResponseException.class,
+                () -> calendarService.deleteEvent(created.eventId()));
+        assertEquals(404, e.getStatusCode());
+    }
+
+    @Test
+    void addAttendee_staleMirror_retriesAfterPreconditionFailure() throws IOException {
+        String eventId = calendarService.createEvent(request(null, "Java")).eventId();
+        calendarService.addAttendee(new AttendeeRequest(eventId, "first@example.com"));
+
+        // A second service instance changes the event, so the first one's mirrored ETag is stale.
+        newCalendarService().addAttendee(new AttendeeRequest(eventId, "second@example.com"));
+
+        calendarService.addAttendee(new AttendeeRequest(eventId, "third@example.com"));
+
+        assertEquals(List.of("interviewer@example.com", "jane@example.com", "first@example.com",
+                        "second@example.com", "third@example.com"),
+                attendees(server.event(eventId).orElseThrow()));
+    }
+
+    @Test
+    void executeBatch_answersEveryOperationInOrder() throws IOException {
+        String existing = calendarService.createEvent(request(null, "Java")).eventId();
+
+        List<CalendarBatchResult> results = calendarService.executeBatch(List.of(
+                new CalendarBatchOperation.Create(request(null, "Go")),
+                new CalendarBatchOperation.AddAttendee(new AttendeeRequest(existing, "shadower@example.com")),
+                new CalendarBatchOperation.Delete("missing-event")));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).success());
+        assertTrue(server.event(results.get(0).eventId()).isPresent());
+        assertTrue(results.get(1).success());
+        assertTrue(attendees(server.event(existing).orElseThrow()).contains("shadower@example.com"));
+        assertFalse(results.get(2).success());
+        assertEquals(404, results.get(2).errorCode());
+    }
+
+    @Test
+    void throttleRate_answers429ForEveryCall() throws IOException {
+        fakeProperties.setThrottleRate(1.0);
+
+        GoogleJsonResponseException e = assertThrows(GoogleJsonResponseException.class,
+                () -> calendarService.createEvent(request(null, "Java")));
+        assertEquals(429, e.getStatusCode());
+        assertEquals("rateLimitExceeded", e.getDetails().getErrors().getFirst().getReason());
+
+        List<CalendarBatchResult> results = calendarService.executeBatch(List.of(
+                new CalendarBatchOperation.Create(request(null, "Go")),
+                new CalendarBatchOperation.Delete("any-event")));
+        assertTrue(results.stream().allMatch(result -> Integer.valueOf(429).equals(result.errorCode())));
+        assertEquals(3, server.stats().throttled());
+    }
+
+    @Test
+    void maxCallsPerSecond_throttlesCallsOverTheQuota() throws IOException {
+        fakeProperties.setMaxCallsPerSecond(1);
+
+        List<CalendarBatchResult> results = calendarService.executeBatch(List.of(
+                new CalendarBatchOperation.Create(request(null, "Java")),
+                new CalendarBatchOperation.Create(request(null, "Go")),
+                new CalendarBatchOperation.Create(request(null, "Rust")),
+                new CalendarBatchOperation.Create(request(null, "Kotlin")),
+                new CalendarBatchOperation.Create(request(null, "Scala")),
+                new CalendarBatchOperation.Create(request(null, "Elixir"))));
+
+        // At most one call per second window, and a batch can straddle one window boundary.
+        assertTrue(results.stream().filter(CalendarBatchResult::success).count() <= 2);
+        assertTrue(server.stats().throttled() >= 4);
+    }
+
+    @Test
+    void errorRate_answers503() {
+        fakeProperties.setErrorRate(1.0);
+
+        GoogleJsonResponseException e = assertThrows(GoogleJsonResponseException.class,
+                () -> calendarService.createEvent(request(null, "Java")));
+        assertEquals(503, e.getStatusCode());
+        assertEquals(1, server.stats().failed());
+    }
+
+    @Test
+    void latency_delaysEachRequest() throws IOException {
+        fakeProperties.setLatency(Duration.ofMillis(200));
+
+        long startedAt = System.nanoTime();
+        calendarService.createEvent(request(null, "Java"));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - startedAt).compareTo(Duration.ofMillis(200)) >= 0);
+    }
+
+    private GoogleCalendarService newCalendarService() {
+        GoogleCalendarProperties calendarProperties = new GoogleCalendarProperties();
+        calendarProperties.setRefreshToken("fake-refresh-token");
+        calendarProperties.setRootUrl(server.rootUrl());
+        calendarProperties.setTokenServerUri(server.tokenServerUri());
+        GoogleOAuthProperties oAuthProperties = new GoogleOAuthProperties();
+        oAuthProperties.setClientId("fake-client-id");
+        oAuthProperties.setClientSecret("fake-client-secret");
+        return new GoogleCalendarService(oAuthProperties, calendarProperties, new EventAttendeeMirror(calendarProperties));
+    }
+
+    private static List<String> attendees(Event event) {
+        return event.getAttendees().stream().map(EventAttendee::getEmail).toList();
+    }
+
+    private static CalendarEventRequest request(String googleEventId, String techStack) {
+        return new CalendarEventRequest(googleEventId, techStack, "Jane Doe", "jane@example.com",
+                null, null, null, "interviewer@example.com", List.of(),
+                START_TIME, START_TIME.plus(1, ChronoUnit.HOURS));
+    }
+}
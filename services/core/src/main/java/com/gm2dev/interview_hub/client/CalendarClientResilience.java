@@ -0,0 +1,204 @@
+package com.gm2dev.interview_hub.client;
+
+import com.gm2dev.interview_hub.config.CalendarClientProperties;
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign capability applied to {@link CalendarServiceClient}. Each HTTP call gets the read timeout
+ * of its operation ({@code app.calendar-client.operation-timeouts}) and runs inside a bulkhead
+ * that caps concurrent calls and a circuit breaker that counts transport errors, 5xx responses
+ * and slow calls.
+ *
+ * <p>{@code executeBatch} legitimately runs for tens of seconds, so it has its own breaker with
+ * {@code batch-slow-call-threshold}: slow or failing outbox batches never fast-fail interactive
+ * attendee calls, and normal batches are not counted as slow.
+ *
+ * <p>When the breaker is open or the bulkhead is full, the call is not sent and a
+ * {@link CalendarServiceUnavailableException} is thrown right away, so request threads never
+ * pile up behind a slow calendar-service or Google.
+ */
+@Component
+@Slf4j
+public class CalendarClientResilience implements Capability {
+
+    private static final String NAME = "calendar-service";
+    private static final String BATCH_OPERATION = "executeBatch";
+
+    private final CalendarClientProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final CircuitBreaker batchCircuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public CalendarClientResilience(CalendarClientProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = circuitBreaker(NAME, properties.getSlowCallThreshold());
+        this.batchCircuitBreaker = circuitBreaker(NAME + "-batch", properties.getBatchSlowCallThreshold());
+        this.bulkhead = Bulkhead.of(NAME, BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(properties.getMaxWaitForPermit())
+                .build());
+
+        monitor(circuitBreaker, "calls");
+        monitor(batchCircuitBreaker, "batch");
+        Gauge.builder("calendar.client.bulkhead.available", bulkhead, b -> b.getMetrics().getAvailableConcurrentCalls())
+                .description("Free calendar-service call slots")
+                .register(meterRegistry);
+    }
+
+    private CircuitBreaker circuitBreaker(String name, Duration slowCallThreshold) {
+        return CircuitBreaker.of(name, CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(properties.getOpenStateDuration())
+                .permittedNumberOfCallsInHalfOpenState(properties.getPermittedCallsInHalfOpenState())
+                .build());
+    }
+
+    private void monitor(CircuitBreaker breaker, String tag) {
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder("calendar.client.circuit.state", breaker, cb -> cb.getState() == state ? 1 : 0)
+                    .description("1 for the calendar-service circuit breaker's current state, 0 otherwise")
+                    .tag("breaker", tag)
+                    .tag("state", tagValue(state))
+                    .register(meterRegistry);
+        }
+        breaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn("{} circuit breaker {} -> {}", breaker.getName(), transition.getFromState(), transition.getToState());
+            Counter.builder("calendar.client.circuit.transitions")
+                    .description("State changes of the calendar-service circuit breakers")
+                    .tag("breaker", tag)
+                    .tag("from", tagValue(transition.getFromState()))
+                    .tag("to", tagValue(transition.getToState()))
+                    .register(meterRegistry)
+                    .increment();
+        });
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> execute(client, request, options);
+    }
+
+    private Response execute(Client client, Request request, Request.Options options) throws IOException {
+        String operation = operation(request);
+        CircuitBreaker breaker = circuitBreakerFor(operation);
+        acquirePermits(operation, breaker);
+        long startedAt = System.nanoTime();
+        try {
+            Response response = client.execute(request, optionsFor(operation, options));
+            long elapsed = System.nanoTime() - startedAt;
+            if (response.status() >= 500) {
+                breaker.onError(elapsed, TimeUnit.NANOSECONDS,
+                        new IOException("calendar-service answered " + response.status()));
+                record(operation, "error", elapsed);
+            } else {
+                breaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+                record(operation, "success", elapsed);
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            long elapsed = System.nanoTime() - startedAt;
+            breaker.onError(elapsed, TimeUnit.NANOSECONDS, e);
+            record(operation, e instanceof SocketTimeoutException ? "timeout" : "error", elapsed);
+            throw e;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private void acquirePermits(String operation, CircuitBreaker breaker) {
+        try {
+            bulkhead.acquirePermission();
+        } catch (BulkheadFullException e) {
+            throw rejected(operation, "bulkhead_full", e);
+        }
+        try {
+            breaker.acquirePermission();
+        } catch (CallNotPermittedException e) {
+            bulkhead.onComplete();
+            throw rejected(operation, "circuit_open", e);
+        }
+    }
+
+    private CalendarServiceUnavailableException rejected(String operation, String reason, RuntimeException cause) {
+        Counter.builder("calendar.client.rejected")
+                .description("calendar-service calls rejected without being sent")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return new CalendarServiceUnavailableException(
+                "calendar-service " + operation + " rejected (" + reason + ")", cause);
+    }
+
+    private void record(String operation, String outcome, long elapsedNanos) {
+        Timer.builder("calendar.client.calls")
+                .description("calendar-service calls that were sent")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Request.Options optionsFor(String operation, Request.Options defaults) {
+        // Property binding may change the case of map keys, so match method names case-insensitively
+        Duration readTimeout = properties.getOperationTimeouts().entrySet().stream()
+                .filter(timeout -> timeout.getKey().equalsIgnoreCase(operation))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(properties.getReadTimeout());
+        return new Request.Options(properties.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                readTimeout.toMillis(), TimeUnit.MILLISECONDS, defaults.isFollowRedirects());
+    }
+
+    /** The {@link CalendarServiceClient} method that issued the request, e.g. {@code addAttendee}. */
+    private static String operation(Request request) {
+        MethodMetadata metadata = request.requestTemplate() != null ? request.requestTemplate().methodMetadata() : null;
+        return metadata != null && metadata.method() != null ? metadata.method().getName() : "unknown";
+    }
+
+    private static String tagValue(CircuitBreaker.State state) {
+        return state.name().toLowerCase(Locale.ROOT);
+    }
+
+    private CircuitBreaker circuitBreakerFor(String operation) {
+        return BATCH_OPERATION.equals(operation) ? batchCircuitBreaker : circuitBreaker;
+    }
+
+    CircuitBreaker.State state() {
+        return circuitBreaker.getState();
+    }
+
+    CircuitBreaker.State batchState() {
+        return batchCircuitBreaker.getState();
+    }
+}
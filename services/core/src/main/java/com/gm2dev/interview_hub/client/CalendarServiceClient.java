@@ -1,6 +1,8 @@
 package com.gm2dev.interview_hub.client;
 
 import com.gm2dev.shared.calendar.AttendeeRequest;
+import com.gm2dev.shared.calendar.CalendarBatchRequest;
+import com.gm2dev.shared.calendar.CalendarBatchResponse;
 import com.gm2dev.shared.calendar.CalendarEventRequest;
 import com.gm2dev.shared.calendar.CalendarEventResponse;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -27,4 +29,7 @@ public interface CalendarServiceClient {
 
     @PostMapping("/events/{eventId}/attendees/remove")
     void removeAttendee(@PathVariable("eventId") String eventId, @RequestBody AttendeeRequest request);
+
+    @PostMapping("/events/batch")
+    CalendarBatchResponse executeBatch(@RequestBody CalendarBatchRequest request);
 }
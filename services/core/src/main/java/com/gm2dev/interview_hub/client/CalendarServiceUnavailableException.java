@@ -0,0 +1,12 @@
+package com.gm2dev.interview_hub.client;
+
+/**
+ * A calendar-service call that was rejected without being sent, because the circuit breaker is
+ * open or the bulkhead has no free slot. Callers should queue the change instead of retrying.
+ */
+public class CalendarServiceUnavailableException extends RuntimeException {
+
+    public CalendarServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,66 @@
+package com.gm2dev.interview_hub.client;
+
+import com.gm2dev.interview_hub.config.CalendarClientProperties;
+import com.gm2dev.shared.calendar.CalendarCbor;
+import feign.Capability;
+import feign.Response;
+import feign.codec.Decoder;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Feign capability that sends {@link CalendarServiceClient} bodies as CBOR when
+ * {@code app.calendar-client.wire-format} is {@code cbor}, and asks for CBOR back with JSON as
+ * the fallback. Responses are decoded by their {@code Content-Type}, so a calendar-service that
+ * still answers in JSON keeps working. Everything else goes through the regular Spring codecs.
+ */
+@Component
+public class CalendarWireFormat implements Capability {
+
+    private static final String ACCEPT_CBOR = CalendarCbor.MEDIA_TYPE + ", application/json;q=0.5";
+
+    private final boolean cbor;
+
+    public CalendarWireFormat(CalendarClientProperties properties) {
+        this.cbor = properties.getWireFormat() == CalendarClientProperties.WireFormat.CBOR;
+    }
+
+    @Override
+    public Encoder enrich(Encoder encoder) {
+        if (!cbor) {
+            return encoder;
+        }
+        return (body, bodyType, template) -> {
+            if (!CalendarCbor.supports(bodyType)) {
+                encoder.encode(body, bodyType, template);
+                return;
+            }
+            try {
+                template.header(HttpHeaders.CONTENT_TYPE, CalendarCbor.MEDIA_TYPE);
+                template.header(HttpHeaders.ACCEPT, ACCEPT_CBOR);
+                template.body(CalendarCbor.write(body), null);
+            } catch (IOException e) {
+                throw new EncodeException("Could not encode " + bodyType + " as CBOR", e);
+            }
+        };
+    }
+
+    @Override
+    public Decoder enrich(Decoder decoder) {
+        return (response, type) -> isCbor(response) && CalendarCbor.supports(type)
+                ? CalendarCbor.read(response.body().asInputStream(), (Class<?>) type)
+                : decoder.decode(response, type);
+    }
+
+    private static boolean isCbor(Response response) {
+        Collection<String> contentType = response.headers().getOrDefault(HttpHeaders.CONTENT_TYPE, List.of());
+        return response.body() != null
+                && contentType.stream().anyMatch(value -> value.startsWith(CalendarCbor.MEDIA_TYPE));
+    }
+}
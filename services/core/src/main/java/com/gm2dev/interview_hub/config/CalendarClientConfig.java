@@ -0,0 +1,56 @@
+package com.gm2dev.interview_hub.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HTTP transport for {@code CalendarServiceClient}. Spring Cloud OpenFeign picks up the
+ * {@link CloseableHttpClient} bean and wraps it in its load-balancing client, so every
+ * calendar-service instance gets its own pool of keep-alive connections instead of a new
+ * {@code HttpURLConnection} per call.
+ *
+ * <p>Automatic retries are off: failed calls are retried by the calendar outbox, and a hidden
+ * retry would also skew the circuit breaker in {@code CalendarClientResilience}.
+ */
+@Configuration
+public class CalendarClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager calendarConnectionManager(CalendarClientProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient calendarHttpClient(PoolingHttpClientConnectionManager calendarConnectionManager,
+                                                  CalendarClientProperties properties) {
+        TimeValue keepAlive = TimeValue.of(properties.getKeepAlive());
+        return HttpClients.custom()
+                .setConnectionManager(calendarConnectionManager)
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleConnectionTimeout()))
+                .disableAutomaticRetries()
+                .disableCookieManagement()
+                .build();
+    }
+
+    @Bean
+    public MeterBinder calendarConnectionPoolMetrics(PoolingHttpClientConnectionManager calendarConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(calendarConnectionManager, "calendar-service");
+    }
+}
@@ -0,0 +1,43 @@
+package com.gm2dev.interview_hub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.calendar-client")
+public class CalendarClientProperties {
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    /** Read timeout per {@code CalendarServiceClient} method name, overriding {@code readTimeout}. */
+    private Map<String, Duration> operationTimeouts = new HashMap<>();
+    private int maxConcurrentCalls = 10;
+    private Duration maxWaitForPermit = Duration.ZERO;
+    private float failureRateThreshold = 50;
+    /** Percentage of slow calls in the window that opens the breaker. */
+    private float slowCallRateThreshold = 50;
+    private Duration slowCallThreshold = Duration.ofSeconds(5);
+    /** Slow-call threshold of the separate {@code executeBatch} breaker; batches run up to their 30s timeout. */
+    private Duration batchSlowCallThreshold = Duration.ofSeconds(25);
+    private int slidingWindowSize = 20;
+    private int minimumNumberOfCalls = 10;
+    private Duration openStateDuration = Duration.ofSeconds(30);
+    private int permittedCallsInHalfOpenState = 3;
+    private int maxConnections = 50;
+    private int maxConnectionsPerRoute = 20;
+    /** How long an idle connection may be reused; must stay below calendar-service's keep-alive timeout. */
+    private Duration keepAlive = Duration.ofSeconds(30);
+    private Duration idleConnectionTimeout = Duration.ofSeconds(30);
+    /** Body encoding for calendar-service calls; switch to CBOR once every calendar-service instance accepts it. */
+    private WireFormat wireFormat = WireFormat.JSON;
+
+    public enum WireFormat {
+        JSON,
+        CBOR
+    }
+}
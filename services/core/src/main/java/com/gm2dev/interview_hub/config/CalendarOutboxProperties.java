@@ -0,0 +1,22 @@
+package com.gm2dev.interview_hub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.calendar-outbox")
+public class CalendarOutboxProperties {
+    /** Bound directly by {@code @Scheduled} on the dispatcher; declared here for metadata. */
+    private long pollIntervalMs = 1000;
+    /** How often the backlog gauges are refreshed; also bound by {@code @Scheduled}. */
+    private long metricsIntervalMs = 30000;
+    private int batchSize = 20;
+    private int maxAttempts = 10;
+    private Duration lease = Duration.ofMinutes(1);
+    private Duration initialBackoff = Duration.ofSeconds(5);
+    private Duration maxBackoff = Duration.ofMinutes(15);
+}
@@ -0,0 +1,31 @@
+package com.gm2dev.interview_hub.config;
+
+import com.gm2dev.shared.email.EmailMessage;
+import com.gm2dev.shared.email.EmailMessageCodec;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Spring Cloud Stream converter that writes {@link EmailMessage} payloads with
+ * {@link EmailMessageCodec} instead of the reflective JSON converter. Core only publishes emails,
+ * so reading is left to the default converters.
+ */
+@Component
+public class EmailMessageConverter extends AbstractMessageConverter {
+
+    public EmailMessageConverter() {
+        super(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return EmailMessage.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        return EmailMessageCodec.encode((EmailMessage) payload);
+    }
+}
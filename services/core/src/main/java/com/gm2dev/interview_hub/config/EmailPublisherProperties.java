@@ -0,0 +1,33 @@
+package com.gm2dev.interview_hub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.email-publisher")
+public class EmailPublisherProperties {
+    /** Messages sent back to back before waiting for their broker confirms together. */
+    private int batchSize = 50;
+    /** How often the outbox is checked when no commit has signalled new mail (retries, other instances' leases). */
+    private Duration pollInterval = Duration.ofSeconds(1);
+    /**
+     * Wait for RabbitMQ publisher confirms. Requires {@code spring.rabbitmq.publisher-confirm-type:
+     * correlated} and {@code use-confirm-header} on the email-out-0 producer binding.
+     */
+    private boolean confirms = false;
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+    /** Sends per message, counting the first, before an outbox row is marked FAILED. */
+    private int maxAttempts = 10;
+    /** How long a claimed row is hidden from other instances while its batch is in flight. */
+    private Duration lease = Duration.ofMinutes(1);
+    private Duration initialBackoff = Duration.ofSeconds(5);
+    private Duration maxBackoff = Duration.ofMinutes(15);
+    /** Encrypts outbox payloads (see {@code EmailOutboxCipher}); at least 32 characters. */
+    private String payloadSecret;
+    /** How long FAILED rows are kept for inspection before they are purged. */
+    private Duration failedRetention = Duration.ofDays(7);
+}
@@ -0,0 +1,37 @@
+package com.gm2dev.interview_hub.config;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google clients shared by every OAuth callback: one pooled transport, so logins reuse
+ * connections to Google instead of opening a new TLS session each, and one ID token verifier,
+ * whose public key manager caches Google's signing certificates for as long as Google allows.
+ */
+@Configuration
+public class GoogleClientConfig {
+
+    @Bean
+    public HttpTransport googleHttpTransport(GoogleOAuthProperties properties) {
+        return new ApacheHttpTransport(ApacheHttpTransport.newDefaultHttpClientBuilder()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnections())
+                .evictIdleConnections(properties.getIdleConnectionTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .build());
+    }
+
+    @Bean
+    public GoogleIdTokenVerifier googleIdTokenVerifier(HttpTransport googleHttpTransport,
+                                                       GoogleOAuthProperties properties) {
+        return new GoogleIdTokenVerifier.Builder(googleHttpTransport, JacksonFactory.getDefaultInstance())
+                .setAudience(List.of(properties.getClientId()))
+                .build();
+    }
+}
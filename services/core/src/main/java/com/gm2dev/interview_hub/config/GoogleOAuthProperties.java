@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Data
 @Component
 @ConfigurationProperties(prefix = "app.google")
@@ -11,4 +13,6 @@ public class GoogleOAuthProperties {
     private String clientId;
     private String clientSecret;
     private String redirectUri;
+    private int maxConnections = 10;
+    private Duration idleConnectionTimeout = Duration.ofSeconds(30);
 }
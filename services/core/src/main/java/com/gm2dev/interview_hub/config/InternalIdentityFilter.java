@@ -0,0 +1,115 @@
+package com.gm2dev.interview_hub.config;
+
+import com.gm2dev.shared.security.InternalIdentity;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Authenticates requests from the api-gateway by its signed {@code X-Internal-*} identity
+ * headers (see {@link InternalIdentity}) instead of re-verifying the JWT the gateway already
+ * verified. The resulting authentication is the same {@code JwtAuthenticationToken} the resource
+ * server would build, so controllers and {@link CurrentUserArgumentResolver} are unaffected.
+ *
+ * <p>Headers that are missing, expired or wrongly signed are ignored and the request falls
+ * through to normal bearer-token verification, so direct calls to core keep working.
+ */
+@Slf4j
+public class InternalIdentityFilter extends OncePerRequestFilter {
+
+    private static final String TRUSTED_ATTRIBUTE = InternalIdentityFilter.class.getName() + ".TRUSTED";
+
+    private final byte[] key;
+    private final Converter<Jwt, ? extends AbstractAuthenticationToken> authenticationConverter;
+    private final Clock clock;
+
+    public InternalIdentityFilter(String jwtSigningSecret,
+                                  Converter<Jwt, ? extends AbstractAuthenticationToken> authenticationConverter) {
+        this(jwtSigningSecret, authenticationConverter, Clock.systemUTC());
+    }
+
+    InternalIdentityFilter(String jwtSigningSecret,
+                           Converter<Jwt, ? extends AbstractAuthenticationToken> authenticationConverter,
+                           Clock clock) {
+        this.key = jwtSigningSecret == null ? null : InternalIdentity.deriveKey(jwtSigningSecret);
+        this.authenticationConverter = authenticationConverter;
+        this.clock = clock;
+    }
+
+    /**
+     * Skips bearer-token verification for requests this filter has already authenticated.
+     */
+    public static BearerTokenResolver bearerTokenResolver() {
+        DefaultBearerTokenResolver delegate = new DefaultBearerTokenResolver();
+        return request -> request.getAttribute(TRUSTED_ATTRIBUTE) != null ? null : delegate.resolve(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        trustedIdentity(request).ifPresent(jwt -> {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authenticationConverter.convert(jwt));
+            SecurityContextHolder.setContext(context);
+            request.setAttribute(TRUSTED_ATTRIBUTE, Boolean.TRUE);
+        });
+        chain.doFilter(request, response);
+    }
+
+    private Optional<Jwt> trustedIdentity(HttpServletRequest request) {
+        String subject = request.getHeader(InternalIdentity.SUBJECT_HEADER);
+        String expiresAtHeader = request.getHeader(InternalIdentity.EXPIRES_AT_HEADER);
+        String signature = request.getHeader(InternalIdentity.SIGNATURE_HEADER);
+        if (key == null || subject == null || expiresAtHeader == null || signature == null) {
+            return Optional.empty();
+        }
+
+        Instant expiresAt;
+        try {
+            expiresAt = Instant.ofEpochSecond(Long.parseLong(expiresAtHeader));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        if (!expiresAt.isAfter(clock.instant())) {
+            return Optional.empty();
+        }
+
+        InternalIdentity identity = new InternalIdentity(subject, request.getHeader(InternalIdentity.EMAIL_HEADER),
+                request.getHeader(InternalIdentity.ROLE_HEADER), expiresAt);
+        if (!identity.hasValidSignature(key, signature)) {
+            log.warn("Ignoring internal identity headers with an invalid signature for subject {}", subject);
+            return Optional.empty();
+        }
+        return Optional.of(toJwt(identity, request));
+    }
+
+    private static Jwt toJwt(InternalIdentity identity, HttpServletRequest request) {
+        String token = new DefaultBearerTokenResolver().resolve(request);
+        Jwt.Builder jwt = Jwt.withTokenValue(token != null ? token : "internal")
+                .header("alg", "HS256")
+                .subject(identity.subject())
+                .expiresAt(identity.expiresAt());
+        if (identity.email() != null) {
+            jwt.claim("email", identity.email());
+        }
+        if (identity.role() != null) {
+            jwt.claim("role", identity.role());
+        }
+        return jwt.build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.gm2dev.interview_hub.config;
+
+import com.gm2dev.interview_hub.service.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt runs on its own bounded pool of platform threads even with virtual threads enabled:
+ * hashing is CPU-bound, so more threads would only add contention.
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(properties.getStrength()), properties, meterRegistry);
+    }
+}
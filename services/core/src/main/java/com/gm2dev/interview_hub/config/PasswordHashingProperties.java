@@ -0,0 +1,20 @@
+package com.gm2dev.interview_hub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+    /** BCrypt log rounds; each step doubles the cost of a hash. */
+    private int strength = 10;
+    private int threads = 2;
+    /** Hash requests allowed to wait for a worker before new ones are rejected with 503. */
+    private int queueCapacity = 16;
+    /** Longest a request thread waits for its hash, queueing included. */
+    private Duration timeout = Duration.ofSeconds(5);
+}
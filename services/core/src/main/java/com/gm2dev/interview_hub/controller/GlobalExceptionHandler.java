@@ -1,9 +1,14 @@
 package com.gm2dev.interview_hub.controller;
 
+import com.gm2dev.interview_hub.service.InvalidRangeException;
+import com.gm2dev.interview_hub.service.PasswordHashingException;
+import com.gm2dev.interview_hub.service.PasswordHashingUnavailableException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -27,6 +32,12 @@ public class GlobalExceptionHandler {
         return Map.of("errors", fieldErrors);
     }
 
+    @ExceptionHandler(InvalidRangeException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleInvalidRange(InvalidRangeException ex) {
+        return Map.of("error", ex.getMessage());
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public Map<String, String> handleEntityNotFound(EntityNotFoundException ex) {
@@ -51,4 +62,18 @@ public class GlobalExceptionHandler {
         log.debug("Security exception: {}", ex.getMessage());
         return Map.of("error", "Access denied");
     }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordHashingUnavailable(PasswordHashingUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler(PasswordHashingException.class)
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    public Map<String, String> handlePasswordHashingFailure(PasswordHashingException ex) {
+        log.error("Password hashing failed", ex);
+        return Map.of("error", "Internal server error");
+    }
 }
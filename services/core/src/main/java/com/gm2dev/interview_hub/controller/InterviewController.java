@@ -1,8 +1,12 @@
 package com.gm2dev.interview_hub.controller;
 
+import com.gm2dev.interview_hub.domain.Interview;
 import com.gm2dev.interview_hub.dto.CreateInterviewRequest;
 import com.gm2dev.interview_hub.dto.CurrentUser;
+import com.gm2dev.interview_hub.dto.InterviewCursor;
 import com.gm2dev.interview_hub.dto.InterviewDto;
+import com.gm2dev.interview_hub.dto.InterviewRangeResponse;
+import com.gm2dev.interview_hub.dto.InterviewSummaryDto;
 import com.gm2dev.interview_hub.dto.UpdateInterviewRequest;
 import com.gm2dev.interview_hub.mapper.InterviewMapper;
 import com.gm2dev.interview_hub.service.InterviewService;
@@ -12,12 +16,18 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -45,6 +55,38 @@ public class InterviewController {
         return interviewService.findAll(pageable).map(interviewMapper::toDto);
     }
 
+    @Operation(summary = "List interview summaries (paginated)",
+            description = "Lightweight list view: id, tech stack, times and status only, without participants "
+                    + "or shadowing requests. Supports the same page, size, and sort parameters as the full list.")
+    @GetMapping("/summaries")
+    public Page<InterviewSummaryDto> listInterviewSummaries(@Parameter(hidden = true) Pageable pageable) {
+        return interviewService.findAllSummaries(pageable);
+    }
+
+    @Operation(summary = "List interviews in a time range",
+            description = "Returns interviews starting in [from, to) ordered by start time. Keyset-paginated: "
+                    + "pass the returned nextCursor as cursor to fetch the following page.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Page of interviews"),
+                    @ApiResponse(responseCode = "400", description = "Invalid range or cursor")})
+    @GetMapping("/range")
+    public InterviewRangeResponse listInterviewsInRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(200) int size) {
+        InterviewCursor after = cursor == null ? null : InterviewCursor.decode(cursor);
+        Slice<Interview> slice = interviewService.findInRange(from, to, after, size);
+
+        List<InterviewDto> content = slice.map(interviewMapper::toDto).getContent();
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Interview last = slice.getContent().getLast();
+            nextCursor = new InterviewCursor(last.getStartTime(), last.getId()).encode();
+        }
+        return new InterviewRangeResponse(content, nextCursor);
+    }
+
     @Operation(summary = "Get an interview by ID", responses = {
             @ApiResponse(responseCode = "200", description = "Interview found"),
             @ApiResponse(responseCode = "404", description = "Interview not found")})
@@ -0,0 +1,27 @@
+package com.gm2dev.interview_hub.domain;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Entities whose cached copies are invalidated across core instances.
+ */
+public enum CachedEntity {
+    PROFILE(Profile.class),
+    CANDIDATE(Candidate.class),
+    INTERVIEW(Interview.class);
+
+    private final Class<?> type;
+
+    CachedEntity(Class<?> type) {
+        this.type = type;
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public static Optional<CachedEntity> of(Class<?> type) {
+        return Arrays.stream(values()).filter(entity -> entity.type == type).findFirst();
+    }
+}
@@ -0,0 +1,7 @@
+package com.gm2dev.interview_hub.domain;
+
+public enum CalendarOperation {
+    CREATE_EVENT,
+    UPDATE_EVENT,
+    DELETE_EVENT
+}
@@ -0,0 +1,51 @@
+package com.gm2dev.interview_hub.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A pending Google Calendar mutation, written in the same transaction as the interview change.
+ * No foreign key to interviews: DELETE_EVENT rows outlive the interview they refer to.
+ */
+@Entity
+@Table(name = "calendar_outbox", schema = "public")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarOutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "interview_id", nullable = false)
+    private UUID interviewId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CalendarOperation operation;
+
+    @Column(name = "google_event_id")
+    private String googleEventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+}
@@ -0,0 +1,48 @@
+package com.gm2dev.interview_hub.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An email event waiting to be published, written in the same transaction as the change that
+ * triggers it. The payload is the {@code EmailMessageCodec} encoding of the message, encrypted by
+ * {@code EmailOutboxCipher}; it is cleared when the row is marked {@code FAILED}.
+ */
+@Entity
+@Table(name = "email_outbox", schema = "public")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailOutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "email_type", nullable = false)
+    private String emailType;
+
+    @Column(length = 4000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+}
@@ -0,0 +1,6 @@
+package com.gm2dev.interview_hub.domain;
+
+public enum OutboxStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,8 @@
+package com.gm2dev.interview_hub.dto;
+
+import com.gm2dev.interview_hub.domain.CachedEntity;
+
+import java.util.UUID;
+
+public record CacheInvalidationMessage(CachedEntity entity, UUID id) {
+}
@@ -0,0 +1,31 @@
+package com.gm2dev.interview_hub.dto;
+
+import com.gm2dev.interview_hub.service.InvalidRangeException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position for the time-range listing: the (startTime, id) of the last row returned.
+ * Exposed to clients as an opaque URL-safe string.
+ */
+public record InterviewCursor(Instant startTime, UUID id) {
+
+    public String encode() {
+        String raw = startTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static InterviewCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new InterviewCursor(Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidRangeException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.gm2dev.interview_hub.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Schema(description = "One page of interviews in a time range, ordered by start time")
+public class InterviewRangeResponse {
+    @Schema(description = "Interviews on this page")
+    List<InterviewDto> content;
+
+    @Schema(description = "Opaque cursor for the next page; null when this is the last page")
+    String nextCursor;
+}
@@ -0,0 +1,42 @@
+package com.gm2dev.interview_hub.repository;
+
+import com.gm2dev.interview_hub.domain.CalendarOperation;
+import com.gm2dev.interview_hub.domain.CalendarOutboxEntry;
+import com.gm2dev.interview_hub.domain.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface CalendarOutboxRepository extends JpaRepository<CalendarOutboxEntry, UUID> {
+
+    /**
+     * Locks the next due entries, skipping rows another instance has already claimed
+     * (lock timeout -2 renders as {@code FOR UPDATE SKIP LOCKED}).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from CalendarOutboxEntry e where e.status = :status and e.nextAttemptAt <= :now order by e.createdAt")
+    List<CalendarOutboxEntry> findDueForUpdate(@Param("status") OutboxStatus status,
+                                               @Param("now") Instant now,
+                                               Pageable pageable);
+
+    List<CalendarOutboxEntry> findByInterviewId(UUID interviewId);
+
+    boolean existsByInterviewIdAndOperationAndStatus(UUID interviewId, CalendarOperation operation, OutboxStatus status);
+
+    long countByStatus(OutboxStatus status);
+
+    Optional<CalendarOutboxEntry> findFirstByStatusOrderByCreatedAtAsc(OutboxStatus status);
+}
@@ -0,0 +1,36 @@
+package com.gm2dev.interview_hub.repository;
+
+import com.gm2dev.interview_hub.domain.EmailOutboxEntry;
+import com.gm2dev.interview_hub.domain.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxEntry, UUID> {
+
+    /** Same claim as {@link CalendarOutboxRepository#findDueForUpdate}: {@code FOR UPDATE SKIP LOCKED}. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from EmailOutboxEntry e where e.status = :status and e.nextAttemptAt <= :now order by e.createdAt")
+    List<EmailOutboxEntry> findDueForUpdate(@Param("status") OutboxStatus status,
+                                            @Param("now") Instant now,
+                                            Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+
+    @Modifying
+    @Query("delete from EmailOutboxEntry e where e.status = :status and e.createdAt < :before")
+    int deleteByStatusAndCreatedAtBefore(@Param("status") OutboxStatus status, @Param("before") Instant before);
+}
@@ -2,15 +2,49 @@ package com.gm2dev.interview_hub.repository;
 
 import com.gm2dev.interview_hub.domain.Interview;
 import com.gm2dev.interview_hub.domain.InterviewStatus;
+import com.gm2dev.interview_hub.dto.InterviewSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface InterviewRepository extends JpaRepository<Interview, UUID> {
 
+    /**
+     * List view: to-one associations are joined into the page query. The shadowingRequests
+     * collection is not fetch-joined (that would paginate in memory); it and its shadowers are
+     * loaded for the whole page by hibernate.default_batch_fetch_size instead.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"interviewer", "candidate", "talentAcquisition"})
+    Page<Interview> findAll(Pageable pageable);
+
+    /**
+     * Summary list view: a constructor projection over the interviews table alone. Rows come back
+     * as DTOs, so nothing is registered in the persistence context and no association is touched.
+     */
+    @Query(value = """
+            select new com.gm2dev.interview_hub.dto.InterviewSummaryDto(
+                i.id, i.techStack, i.startTime, i.endTime, i.status)
+            from Interview i
+            """,
+            countQuery = "select count(i) from Interview i")
+    Page<InterviewSummaryDto> findAllSummaries(Pageable pageable);
+
+    /** Detail view: everything InterviewMapper.toDto touches, in a single query. */
+    @EntityGraph(attributePaths = {"interviewer", "candidate", "talentAcquisition",
+            "shadowingRequests", "shadowingRequests.shadower"})
+    Optional<Interview> findWithDetailsById(UUID id);
+
     List<Interview> findByInterviewerId(UUID interviewerId);
 
     List<Interview> findByStatus(InterviewStatus status);
@@ -22,4 +56,22 @@ public interface InterviewRepository extends JpaRepository<Interview, UUID> {
     boolean existsByInterviewerId(UUID interviewerId);
 
     boolean existsByTalentAcquisitionId(UUID talentAcquisitionId);
+
+    // Keyset pagination over idx_interviews_start_time_id. List return types skip the COUNT query.
+
+    @EntityGraph(attributePaths = {"interviewer", "candidate", "talentAcquisition"})
+    @Query("select i from Interview i where i.startTime >= :from and i.startTime < :to order by i.startTime, i.id")
+    List<Interview> findFirstInRange(@Param("from") Instant from, @Param("to") Instant to, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"interviewer", "candidate", "talentAcquisition"})
+    @Query("""
+            select i from Interview i
+            where i.startTime >= :from and i.startTime < :to
+              and (i.startTime > :afterStart or (i.startTime = :afterStart and i.id > :afterId))
+            order by i.startTime, i.id""")
+    List<Interview> findInRangeAfter(@Param("afterStart") Instant afterStart,
+                                     @Param("afterId") UUID afterId,
+                                     @Param("from") Instant from,
+                                     @Param("to") Instant to,
+                                     Pageable pageable);
 }
@@ -1,6 +1,7 @@
 package com.gm2dev.interview_hub.repository;
 
 import com.gm2dev.interview_hub.domain.ShadowingRequest;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,8 +11,10 @@ import java.util.UUID;
 @Repository
 public interface ShadowingRequestRepository extends JpaRepository<ShadowingRequest, UUID> {
 
+    @EntityGraph(attributePaths = {"interview", "shadower"})
     List<ShadowingRequest> findByInterviewId(UUID interviewId);
 
+    @EntityGraph(attributePaths = {"interview", "shadower"})
     List<ShadowingRequest> findByShadowerId(UUID shadowerId);
 
     boolean existsByShadowerId(UUID shadowerId);
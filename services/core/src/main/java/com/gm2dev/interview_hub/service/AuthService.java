@@ -7,8 +7,9 @@ import com.gm2dev.interview_hub.dto.AuthResponse;
 import com.gm2dev.interview_hub.repository.ProfileRepository;
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeTokenRequest;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
 import com.google.api.client.googleapis.auth.oauth2.GoogleTokenResponse;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.http.HttpTransport;
 import com.google.api.client.json.jackson2.JacksonFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
+import java.security.GeneralSecurityException;
 import java.util.UUID;
 
 import static com.gm2dev.interview_hub.config.AllowedDomains.ALLOWED_DOMAINS;
@@ -31,13 +33,19 @@ public class AuthService {
     private final GoogleOAuthProperties googleProperties;
     private final ProfileRepository profileRepository;
     private final JwtService jwtService;
+    private final HttpTransport googleHttpTransport;
+    private final GoogleIdTokenVerifier idTokenVerifier;
 
     public AuthService(GoogleOAuthProperties googleProperties,
                        ProfileRepository profileRepository,
-                       JwtService jwtService) {
+                       JwtService jwtService,
+                       HttpTransport googleHttpTransport,
+                       GoogleIdTokenVerifier idTokenVerifier) {
         this.googleProperties = googleProperties;
         this.profileRepository = profileRepository;
         this.jwtService = jwtService;
+        this.googleHttpTransport = googleHttpTransport;
+        this.idTokenVerifier = idTokenVerifier;
     }
 
     public String buildAuthorizationUrl() {
@@ -60,8 +68,7 @@ public class AuthService {
     public AuthResponse handleCallback(String code, String redirectUri) throws IOException {
         GoogleTokenResponse tokenResponse = exchangeCodeForTokens(code, redirectUri);
 
-        GoogleIdToken idToken = tokenResponse.parseIdToken();
-        GoogleIdToken.Payload payload = idToken.getPayload();
+        GoogleIdToken.Payload payload = verifyIdToken(tokenResponse.getIdToken()).getPayload();
 
         String hostedDomain = payload.getHostedDomain();
         if (hostedDomain == null || !ALLOWED_DOMAINS.contains(hostedDomain)) {
@@ -88,9 +95,27 @@ public class AuthService {
         return jwtService.issueToken(profile);
     }
 
+    /**
+     * Checks the ID token's signature against Google's cached certificates, plus its issuer,
+     * audience and expiry, without a round trip to Google.
+     */
+    private GoogleIdToken verifyIdToken(String idTokenString) throws IOException {
+        GoogleIdToken idToken;
+        try {
+            idToken = idTokenString == null ? null : idTokenVerifier.verify(idTokenString);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            log.debug("Google ID token could not be verified: {}", e.getMessage());
+            idToken = null;
+        }
+        if (idToken == null) {
+            throw new SecurityException("Invalid Google ID token");
+        }
+        return idToken;
+    }
+
     GoogleTokenResponse exchangeCodeForTokens(String code, String redirectUri) throws IOException {
         return new GoogleAuthorizationCodeTokenRequest(
-                new NetHttpTransport(),
+                googleHttpTransport,
                 JacksonFactory.getDefaultInstance(),
                 GOOGLE_TOKEN_URL + "/token",
                 googleProperties.getClientId(),
@@ -0,0 +1,350 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.config.EmailPublisherProperties;
+import com.gm2dev.interview_hub.domain.EmailOutboxEntry;
+import com.gm2dev.interview_hub.domain.OutboxStatus;
+import com.gm2dev.interview_hub.repository.EmailOutboxRepository;
+import com.gm2dev.shared.email.EmailMessage;
+import com.gm2dev.shared.email.EmailMessageCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes {@link EmailOutboxEntry} rows to the {@code email-out-0} binding from a single
+ * background thread.
+ *
+ * <p>Each pass claims up to {@code batch-size} due rows (leased like the calendar outbox, so a
+ * crashed instance's batch is picked up again), publishes them back to back and, with confirms
+ * enabled, waits for all of their broker confirms together. Confirmed rows are deleted; nacked or
+ * unconfirmed ones are retried with back-off and kept as {@code FAILED}, without their payload,
+ * after {@code max-attempts} until {@code failed-retention} has passed.
+ * {@link EmailPublisher} wakes the thread after each commit, so mail normally leaves without
+ * waiting for the next poll.
+ */
+@Component
+@Slf4j
+public class BatchingEmailSender implements SmartLifecycle {
+
+    static final String BINDING = "email-out-0";
+    /** Read by the binding's routing-key-expression so notification-service can bind one queue per type. */
+    static final String ROUTING_KEY_HEADER = "x-email-routing-key";
+
+    private final StreamBridge streamBridge;
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailOutboxCipher cipher;
+    private final EmailPublisherProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean autoStartup;
+
+    private final Semaphore signal = new Semaphore(0);
+    private final AtomicInteger unconfirmed = new AtomicInteger();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final Counter failedCounter;
+
+    private ExecutorService worker;
+    private volatile boolean running;
+
+    public BatchingEmailSender(StreamBridge streamBridge, EmailOutboxRepository outboxRepository,
+                               EmailOutboxCipher cipher, EmailPublisherProperties properties,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.scheduling.enabled:true}") boolean autoStartup) {
+        this.streamBridge = streamBridge;
+        this.outboxRepository = outboxRepository;
+        this.cipher = cipher;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.autoStartup = autoStartup;
+
+        Gauge.builder("email.publish.pending", pendingCount, AtomicLong::get)
+                .description("Emails in the outbox waiting to be published")
+                .register(meterRegistry);
+        Gauge.builder("email.publish.unconfirmed", unconfirmed, AtomicInteger::get)
+                .description("Emails published but not yet confirmed by the broker")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("email.publish.failed")
+                .description("Emails marked FAILED in the outbox after max-attempts")
+                .register(meterRegistry);
+    }
+
+    /** Signals that new rows were committed; the worker publishes them without waiting for the next poll. */
+    public void wakeUp() {
+        signal.release();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.submit(this::run);
+    }
+
+    /**
+     * Lets the current batch finish, publishes what is already due one last time and stops the
+     * thread, bounded by one confirm timeout. Anything left stays in the outbox for the next
+     * instance; rows claimed by an interrupted batch become due again when their lease expires.
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        wakeUp();
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(properties.getConfirmTimeout().toMillis() + 1000, TimeUnit.MILLISECONDS)) {
+                log.warn("Email publisher did not stop in time; unsent emails stay in the outbox");
+                worker.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            worker.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                if (publishQuietly() < properties.getBatchSize()) {
+                    signal.tryAcquire(properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                    signal.drainPermits();
+                }
+            }
+            publishQuietly();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int publishQuietly() throws InterruptedException {
+        try {
+            return publishPending();
+        } catch (RuntimeException e) {
+            log.error("Unexpected error publishing email batch", e);
+            return 0;
+        }
+    }
+
+    /** Publishes one batch of due rows and returns how many were claimed. */
+    int publishPending() throws InterruptedException {
+        List<PendingEmail> batch = transactionTemplate.execute(status -> claimBatch());
+        if (!batch.isEmpty()) {
+            Map<UUID, String> failures = sendBatch(batch);
+            transactionTemplate.executeWithoutResult(status -> recordOutcomes(batch, failures));
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                pendingCount.set(outboxRepository.countByStatus(OutboxStatus.PENDING)));
+        return batch.size();
+    }
+
+    private List<PendingEmail> claimBatch() {
+        Instant now = Instant.now();
+        List<EmailOutboxEntry> due = outboxRepository.findDueForUpdate(
+                OutboxStatus.PENDING, now, PageRequest.of(0, properties.getBatchSize()));
+
+        List<PendingEmail> batch = new ArrayList<>(due.size());
+        for (EmailOutboxEntry entry : due) {
+            EmailMessage message;
+            try {
+                message = cipher.decrypt(entry.getPayload());
+            } catch (IllegalArgumentException e) {
+                log.error("Unreadable {} email in outbox row {}: {}", entry.getEmailType(), entry.getId(), e.getMessage());
+                entry.setLastError(e.getMessage());
+                markFailed(entry);
+                outboxRepository.save(entry);
+                continue;
+            }
+            entry.setNextAttemptAt(now.plus(properties.getLease()));
+            outboxRepository.save(entry);
+            batch.add(new PendingEmail(entry.getId(), message));
+        }
+        return batch;
+    }
+
+    /** Returns the rows that were not confirmed, with the reason. */
+    private Map<UUID, String> sendBatch(List<PendingEmail> batch) throws InterruptedException {
+        Map<UUID, String> failures = new LinkedHashMap<>();
+        List<InFlight> inFlight = new ArrayList<>(batch.size());
+        for (PendingEmail email : batch) {
+            CorrelationData correlation = new CorrelationData(email.entryId().toString());
+            Message<EmailMessage> message = MessageBuilder.withPayload(email.message())
+                    .setHeader(AmqpHeaders.PUBLISH_CONFIRM_CORRELATION, correlation)
+                    .setHeader(ROUTING_KEY_HEADER, email.message().routingKey())
+                    .setHeader(EmailMessage.PUBLISHED_AT_HEADER, System.currentTimeMillis())
+                    .setHeader(EmailMessageCodec.VERSION_HEADER, EmailMessageCodec.VERSION)
+                    .build();
+            long startedAt = System.nanoTime();
+            boolean sent;
+            String error = "binding refused the message";
+            try {
+                sent = streamBridge.send(BINDING, message);
+            } catch (RuntimeException e) {
+                log.warn("Publishing {} email for {} failed: {}",
+                        email.message().getClass().getSimpleName(), email.message().to(), e.getMessage());
+                sent = false;
+                error = e.getMessage();
+            }
+            if (!sent) {
+                record("failed", startedAt);
+                failures.put(email.entryId(), error);
+            } else if (!properties.isConfirms()) {
+                record("sent", startedAt);
+            } else {
+                unconfirmed.incrementAndGet();
+                inFlight.add(new InFlight(email, correlation, startedAt));
+            }
+        }
+        awaitConfirms(inFlight, failures);
+        return failures;
+    }
+
+    private void awaitConfirms(List<InFlight> inFlight, Map<UUID, String> failures) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.getConfirmTimeout().toNanos();
+        for (InFlight pending : inFlight) {
+            try {
+                CorrelationData.Confirm confirm = pending.correlation().getFuture()
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (confirm.isAck()) {
+                    record("confirmed", pending.startedAt());
+                } else {
+                    log.warn("Broker nacked {} email for {}: {}", pending.email().message().getClass().getSimpleName(),
+                            pending.email().message().to(), confirm.getReason());
+                    record("nacked", pending.startedAt());
+                    failures.put(pending.email().entryId(), "nacked: " + confirm.getReason());
+                }
+            } catch (TimeoutException | ExecutionException e) {
+                record("unconfirmed", pending.startedAt());
+                failures.put(pending.email().entryId(), "not confirmed within " + properties.getConfirmTimeout());
+            } finally {
+                unconfirmed.decrementAndGet();
+            }
+        }
+    }
+
+    private void recordOutcomes(List<PendingEmail> batch, Map<UUID, String> failures) {
+        List<UUID> published = batch.stream()
+                .map(PendingEmail::entryId)
+                .filter(id -> !failures.containsKey(id))
+                .toList();
+        outboxRepository.deleteAllById(published);
+        failures.forEach((id, error) -> outboxRepository.findById(id).ifPresent(entry -> reschedule(entry, error)));
+    }
+
+    /**
+     * An unconfirmed message may already have reached the broker, so a retry can deliver it twice;
+     * notification-service drops repeats of a {@code messageId} it has already delivered.
+     */
+    private void reschedule(EmailOutboxEntry entry, String error) {
+        int attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        entry.setLastError(error);
+        if (attempts >= properties.getMaxAttempts()) {
+            markFailed(entry);
+            log.error("Giving up on {} email in outbox row {} after {} attempts: {}",
+                    entry.getEmailType(), entry.getId(), attempts, error);
+        } else {
+            entry.setNextAttemptAt(Instant.now().plus(backoff(attempts)));
+        }
+        outboxRepository.save(entry);
+    }
+
+    /** The payload holds secrets and a FAILED row is never sent again, so it is not kept. */
+    private void markFailed(EmailOutboxEntry entry) {
+        entry.setStatus(OutboxStatus.FAILED);
+        entry.setPayload(null);
+        failedCounter.increment();
+    }
+
+    /** Deletes FAILED rows older than {@code failed-retention}; they are only kept for inspection. */
+    @Scheduled(fixedDelayString = "${app.email-publisher.purge-interval-ms:3600000}")
+    public void purgeFailed() {
+        Instant before = Instant.now().minus(properties.getFailedRetention());
+        Integer purged = transactionTemplate.execute(status ->
+                outboxRepository.deleteByStatusAndCreatedAtBefore(OutboxStatus.FAILED, before));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} failed emails older than {}", purged, properties.getFailedRetention());
+        }
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    private void record(String outcome, long startedAt) {
+        Timer.builder("email.publish")
+                .description("Time from handing an email to the binder until it was confirmed (or failed)")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    static EmailOutboxEntry newEntry(EmailMessage message, EmailOutboxCipher cipher) {
+        Instant now = Instant.now();
+        EmailOutboxEntry entry = new EmailOutboxEntry();
+        entry.setEmailType(message.routingKey());
+        entry.setPayload(cipher.encrypt(message));
+        entry.setStatus(OutboxStatus.PENDING);
+        entry.setAttempts(0);
+        entry.setNextAttemptAt(now);
+        entry.setCreatedAt(now);
+        return entry;
+    }
+
+    private record PendingEmail(UUID entryId, EmailMessage message) {
+    }
+
+    private record InFlight(PendingEmail email, CorrelationData correlation, long startedAt) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.dto.CacheInvalidationMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Consumer;
+
+/**
+ * Each instance binds its own anonymous queue to the cache-invalidation fanout exchange, so
+ * every instance (including the publisher) receives every message.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.cache-invalidation", name = "enabled", matchIfMissing = true)
+@Slf4j
+public class CacheInvalidationConsumer {
+
+    @Bean
+    public Consumer<CacheInvalidationMessage> cacheInvalidation(EntityCacheInvalidator invalidator) {
+        return message -> {
+            log.debug("Received cache invalidation for {} {}", message.entity(), message.id());
+            invalidator.evictLocally(message.entity(), message.id());
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.dto.CacheInvalidationMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(prefix = "app.cache-invalidation", name = "enabled", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    private final StreamBridge streamBridge;
+
+    /**
+     * Called after the mutation has committed, so a broker failure must not surface to the caller;
+     * other instances then fall back to the cache TTL.
+     */
+    public void publish(CacheInvalidationMessage message) {
+        try {
+            streamBridge.send("cacheInvalidation-out-0", message);
+            log.debug("Published cache invalidation for {} {}", message.entity(), message.id());
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish cache invalidation for {} {}: {}", message.entity(), message.id(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.client.CalendarServiceClient;
+import com.gm2dev.interview_hub.client.CalendarServiceUnavailableException;
+import com.gm2dev.interview_hub.config.CalendarOutboxProperties;
+import com.gm2dev.interview_hub.domain.CalendarOperation;
+import com.gm2dev.interview_hub.domain.CalendarOutboxEntry;
+import com.gm2dev.interview_hub.domain.Interview;
+import com.gm2dev.interview_hub.domain.OutboxStatus;
+import com.gm2dev.interview_hub.repository.CalendarOutboxRepository;
+import com.gm2dev.interview_hub.repository.InterviewRepository;
+import com.gm2dev.shared.calendar.CalendarEventRequest;
+import com.gm2dev.shared.calendar.CalendarEventResponse;
+import feign.FeignException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains {@link CalendarOutboxEntry} rows to calendar-service.
+ *
+ * <p>Each poll claims a batch in a short transaction, calls calendar-service with no database
+ * connection held, and records the outcome in a second short transaction. Claimed rows are
+ * leased by pushing {@code nextAttemptAt} forward, so a crashed instance's work is picked up
+ * again once the lease expires. A 4xx answer other than 408 or 429 will not change on retry, so
+ * the entry is marked {@code FAILED} right away.
+ */
+@Component
+@Slf4j
+public class CalendarOutboxDispatcher {
+
+    private final CalendarOutboxRepository outboxRepository;
+    private final InterviewRepository interviewRepository;
+    private final CalendarServiceClient calendarServiceClient;
+    private final CalendarOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public CalendarOutboxDispatcher(CalendarOutboxRepository outboxRepository,
+                                    InterviewRepository interviewRepository,
+                                    CalendarServiceClient calendarServiceClient,
+                                    CalendarOutboxProperties properties,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.interviewRepository = interviewRepository;
+        this.calendarServiceClient = calendarServiceClient;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("calendar.outbox.pending", pendingCount, AtomicLong::get)
+                .description("Calendar operations waiting to be sent to calendar-service")
+                .register(meterRegistry);
+        Gauge.builder("calendar.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest pending calendar operation")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.calendar-outbox.poll-interval-ms:1000}")
+    public void dispatchPending() {
+        List<OutboxWork> batch = transactionTemplate.execute(status -> claimBatch());
+        for (OutboxWork work : batch) {
+            dispatch(work);
+        }
+    }
+
+    /** Backlog gauges; on their own slower schedule so idle polls do not run count queries. */
+    @Scheduled(fixedDelayString = "${app.calendar-outbox.metrics-interval-ms:30000}")
+    public void refreshBacklogMetrics() {
+        transactionTemplate.executeWithoutResult(status -> {
+            pendingCount.set(outboxRepository.countByStatus(OutboxStatus.PENDING));
+            lagSeconds.set(outboxRepository.findFirstByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING)
+                    .map(oldest -> Math.max(0, Duration.between(oldest.getCreatedAt(), Instant.now()).toSeconds()))
+                    .orElse(0L));
+        });
+    }
+
+    private List<OutboxWork> claimBatch() {
+        Instant now = Instant.now();
+        List<CalendarOutboxEntry> due = outboxRepository.findDueForUpdate(
+                OutboxStatus.PENDING, now, PageRequest.of(0, properties.getBatchSize()));
+
+        List<OutboxWork> batch = new ArrayList<>(due.size());
+        for (CalendarOutboxEntry entry : due) {
+            if (awaitingCreate(entry)) {
+                entry.setNextAttemptAt(now.plus(properties.getInitialBackoff()));
+                outboxRepository.save(entry);
+                continue;
+            }
+            Optional<OutboxWork> work = toWork(entry);
+            if (work.isPresent()) {
+                entry.setNextAttemptAt(now.plus(properties.getLease()));
+                outboxRepository.save(entry);
+                batch.add(work.get());
+            } else {
+                outboxRepository.delete(entry);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * An update enqueued before the interview had an event id waits while the CREATE_EVENT is
+     * still pending (possibly in flight with an older snapshot), so the edit is sent once the
+     * event exists. If the create has failed for good, the update is dropped by {@link #toWork}.
+     */
+    private boolean awaitingCreate(CalendarOutboxEntry entry) {
+        return entry.getOperation() == CalendarOperation.UPDATE_EVENT
+                && entry.getGoogleEventId() == null
+                && outboxRepository.existsByInterviewIdAndOperationAndStatus(
+                        entry.getInterviewId(), CalendarOperation.CREATE_EVENT, OutboxStatus.PENDING);
+    }
+
+    /**
+     * Create and update requests are built from the interview's current state, so an entry
+     * always carries the latest data no matter how long it waited. Returns empty when the
+     * entry has become moot (interview deleted, or not yet linked to an event).
+     */
+    private Optional<OutboxWork> toWork(CalendarOutboxEntry entry) {
+        if (entry.getOperation() == CalendarOperation.DELETE_EVENT) {
+            return Optional.of(new OutboxWork(entry.getId(), entry.getOperation(), entry.getInterviewId(),
+                    entry.getGoogleEventId(), null));
+        }
+
+        Optional<Interview> interview = interviewRepository.findById(entry.getInterviewId());
+        if (interview.isEmpty()) {
+            log.debug("Dropping {} for deleted interview {}", entry.getOperation(), entry.getInterviewId());
+            return Optional.empty();
+        }
+        String googleEventId = interview.get().getGoogleEventId();
+        if (entry.getOperation() == CalendarOperation.UPDATE_EVENT && googleEventId == null) {
+            log.debug("Dropping UPDATE_EVENT for interview {} without a calendar event", entry.getInterviewId());
+            return Optional.empty();
+        }
+        return Optional.of(new OutboxWork(entry.getId(), entry.getOperation(), entry.getInterviewId(),
+                googleEventId, InterviewService.toCalendarRequest(interview.get())));
+    }
+
+    private void dispatch(OutboxWork work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            switch (work.operation()) {
+                case CREATE_EVENT -> {
+                    CalendarEventResponse response = calendarServiceClient.createEvent(work.request());
+                    transactionTemplate.executeWithoutResult(status -> completeCreate(work, response.eventId()));
+                }
+                case UPDATE_EVENT -> {
+                    calendarServiceClient.updateEvent(work.googleEventId(), work.request());
+                    transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteById(work.entryId()));
+                }
+                case DELETE_EVENT -> {
+                    calendarServiceClient.deleteEvent(work.googleEventId());
+                    transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteById(work.entryId()));
+                }
+            }
+            sample.stop(dispatchTimer(work.operation(), "success"));
+        } catch (CalendarServiceUnavailableException e) {
+            sample.stop(dispatchTimer(work.operation(), "rejected"));
+            transactionTemplate.executeWithoutResult(status -> defer(work, e));
+        } catch (Exception e) {
+            sample.stop(dispatchTimer(work.operation(), "failure"));
+            transactionTemplate.executeWithoutResult(status -> reschedule(work, e));
+        }
+    }
+
+    private void completeCreate(OutboxWork work, String eventId) {
+        Optional<Interview> interview = interviewRepository.findById(work.interviewId());
+        if (interview.isPresent()) {
+            interview.get().setGoogleEventId(eventId);
+            interviewRepository.save(interview.get());
+        } else {
+            // The interview was deleted while the create was in flight; clean up the orphaned event.
+            outboxRepository.save(newEntry(work.interviewId(), CalendarOperation.DELETE_EVENT, eventId));
+        }
+        outboxRepository.deleteById(work.entryId());
+        log.debug("Created Google Calendar event {} for interview {}", eventId, work.interviewId());
+    }
+
+    private void reschedule(OutboxWork work, Exception e) {
+        outboxRepository.findById(work.entryId()).ifPresent(entry -> {
+            int attempts = entry.getAttempts() + 1;
+            entry.setAttempts(attempts);
+            entry.setLastError(e.getMessage());
+            if (!isRetryable(e) || attempts >= properties.getMaxAttempts()) {
+                entry.setStatus(OutboxStatus.FAILED);
+                log.error("Giving up on {} for interview {} after {} attempts: {}",
+                        entry.getOperation(), entry.getInterviewId(), attempts, e.getMessage());
+            } else {
+                entry.setNextAttemptAt(Instant.now().plus(backoff(attempts)));
+                log.warn("Failed {} for interview {} (attempt {}): {}",
+                        entry.getOperation(), entry.getInterviewId(), attempts, e.getMessage());
+            }
+            outboxRepository.save(entry);
+        });
+    }
+
+    /**
+     * The call was never sent (circuit open or bulkhead full), so it does not count as an attempt;
+     * the entry is simply retried after the initial backoff.
+     */
+    private void defer(OutboxWork work, CalendarServiceUnavailableException e) {
+        outboxRepository.findById(work.entryId()).ifPresent(entry -> {
+            entry.setNextAttemptAt(Instant.now().plus(properties.getInitialBackoff()));
+            outboxRepository.save(entry);
+            log.debug("Deferred {} for interview {}: {}", entry.getOperation(), entry.getInterviewId(), e.getMessage());
+        });
+    }
+
+    /** Everything but a client error calendar-service would repeat: 4xx except timeout and throttling. */
+    static boolean isRetryable(Exception e) {
+        if (!(e instanceof FeignException feign) || feign.status() < 400 || feign.status() >= 500) {
+            return true;
+        }
+        return feign.status() == 408 || feign.status() == 429;
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    private Timer dispatchTimer(CalendarOperation operation, String outcome) {
+        return Timer.builder("calendar.outbox.dispatch")
+                .description("Time spent sending an outbox entry to calendar-service")
+                .tag("operation", operation.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    static CalendarOutboxEntry newEntry(UUID interviewId, CalendarOperation operation, String googleEventId) {
+        Instant now = Instant.now();
+        CalendarOutboxEntry entry = new CalendarOutboxEntry();
+        entry.setInterviewId(interviewId);
+        entry.setOperation(operation);
+        entry.setGoogleEventId(googleEventId);
+        entry.setStatus(OutboxStatus.PENDING);
+        entry.setAttempts(0);
+        entry.setNextAttemptAt(now);
+        entry.setCreatedAt(now);
+        return entry;
+    }
+
+    private record OutboxWork(UUID entryId, CalendarOperation operation, UUID interviewId,
+                              String googleEventId, CalendarEventRequest request) {
+    }
+}
@@ -47,7 +47,8 @@ public class CandidateService {
     public Candidate updateCandidate(UUID id, CandidateRequest request) {
         Candidate candidate = findById(id);
         candidateMapper.updateFromRequest(request, candidate);
-        return candidateRepository.save(candidate);
+        Candidate saved = candidateRepository.save(candidate);
+        return saved;
     }
 
     @Transactional
@@ -0,0 +1,86 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.config.EmailPublisherProperties;
+import com.gm2dev.shared.email.EmailMessage;
+import com.gm2dev.shared.email.EmailMessageCodec;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Seals email outbox payloads with AES-GCM, so the one-time tokens and temporary passwords they
+ * carry never sit in the database (or its backups) in cleartext. The key is the SHA-256 of
+ * {@code app.email-publisher.payload-secret}; a stored payload is the Base64 of IV + ciphertext.
+ */
+@Component
+public class EmailOutboxCipher {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKey key;
+    private final SecureRandom random = new SecureRandom();
+
+    public EmailOutboxCipher(EmailPublisherProperties properties) {
+        String secret = properties.getPayloadSecret();
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalStateException("app.email-publisher.payload-secret must be at least 32 characters");
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            this.key = new SecretKeySpec(digest, "AES");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public String encrypt(EmailMessage message) {
+        byte[] iv = new byte[IV_BYTES];
+        random.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] sealed = cipher.doFinal(EmailMessageCodec.encode(message));
+            return Base64.getEncoder().encodeToString(ByteBuffer.allocate(IV_BYTES + sealed.length)
+                    .put(iv)
+                    .put(sealed)
+                    .array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not encrypt email payload", e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the payload is not one this key sealed, or does not
+     *                                  decode to an {@link EmailMessage}
+     */
+    public EmailMessage decrypt(String payload) {
+        byte[] sealed;
+        try {
+            sealed = Base64.getDecoder().decode(payload);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Email payload is not Base64", e);
+        }
+        if (sealed.length <= IV_BYTES) {
+            throw new IllegalArgumentException("Email payload is too short");
+        }
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, sealed, 0, IV_BYTES));
+            return EmailMessageCodec.decode(cipher.doFinal(sealed, IV_BYTES, sealed.length - IV_BYTES));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Email payload could not be decrypted", e);
+        }
+    }
+}
@@ -1,20 +1,40 @@
 package com.gm2dev.interview_hub.service;
 
+import com.gm2dev.interview_hub.repository.EmailOutboxRepository;
 import com.gm2dev.shared.email.EmailMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * Records email events for the notification service in the email outbox, as part of the current
+ * transaction: a rolled-back registration or approval never sends mail, a committed one survives
+ * a restart, and the request thread never waits on the broker. {@link BatchingEmailSender}
+ * publishes the row after commit.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailPublisher {
 
-    private final StreamBridge streamBridge;
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailOutboxCipher cipher;
+    private final BatchingEmailSender sender;
 
     public void publish(EmailMessage message) {
-        log.debug("Publishing {} email for {}", message.getClass().getSimpleName(), message.to());
-        streamBridge.send("email-out-0", message);
+        log.debug("Queueing {} email for {}", message.getClass().getSimpleName(), message.to());
+        outboxRepository.save(BatchingEmailSender.newEntry(message, cipher));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sender.wakeUp();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sender.wakeUp();
+            }
+        });
     }
 }
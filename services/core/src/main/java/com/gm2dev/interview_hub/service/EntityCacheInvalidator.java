@@ -0,0 +1,119 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.domain.CachedEntity;
+import com.gm2dev.interview_hub.dto.CacheInvalidationMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Evicts profiles, candidates and interviews from the second-level cache on every core instance.
+ *
+ * <p>Hibernate already keeps the local cache consistent for writes made through the entity
+ * manager, but other instances only learn about a change through the cache-invalidation
+ * binding. Every entity update or delete of a {@link CachedEntity} is broadcast by a Hibernate
+ * post-commit listener, so write paths need no explicit call; the {@code evict*} methods are for
+ * changes that bypass entity events, such as bulk JPQL updates. Inside a transaction both the
+ * local eviction and the broadcast run after commit, so no instance can repopulate the entry with
+ * the pre-commit row.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EntityCacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectProvider<CacheInvalidationPublisher> publisher;
+
+    @PostConstruct
+    void registerCommitListener() {
+        CommitListener listener = new CommitListener();
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+
+    public void evictProfile(UUID id) {
+        invalidateAfterCommit(CachedEntity.PROFILE, id);
+    }
+
+    public void evictCandidate(UUID id) {
+        invalidateAfterCommit(CachedEntity.CANDIDATE, id);
+    }
+
+    public void evictInterview(UUID id) {
+        invalidateAfterCommit(CachedEntity.INTERVIEW, id);
+    }
+
+    /** Applies an invalidation received from another instance (or echoed back from this one). */
+    public void evictLocally(CachedEntity entity, UUID id) {
+        entityManagerFactory.getCache().evict(entity.type(), id);
+        log.debug("Evicted {} {} from entity cache", entity, id);
+    }
+
+    private void invalidateAfterCommit(CachedEntity entity, UUID id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(entity, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(entity, id);
+            }
+        });
+    }
+
+    private void invalidate(CachedEntity entity, UUID id) {
+        evictLocally(entity, id);
+        publisher.ifAvailable(p -> p.publish(new CacheInvalidationMessage(entity, id)));
+    }
+
+    /** Invalidates cached entities once an update or delete of them has committed. */
+    private class CommitListener implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            committed(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            committed(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return CachedEntity.of(persister.getMappedClass()).isPresent();
+        }
+
+        private void committed(EntityPersister persister, Object id) {
+            CachedEntity.of(persister.getMappedClass()).ifPresent(entity -> invalidate(entity, (UUID) id));
+        }
+    }
+}
@@ -1,29 +1,35 @@
 package com.gm2dev.interview_hub.service;
 
-import com.gm2dev.interview_hub.client.CalendarServiceClient;
+import com.gm2dev.interview_hub.domain.CalendarOperation;
 import com.gm2dev.interview_hub.domain.Candidate;
 import com.gm2dev.interview_hub.domain.Interview;
 import com.gm2dev.interview_hub.domain.InterviewStatus;
 import com.gm2dev.interview_hub.domain.Profile;
 import com.gm2dev.interview_hub.domain.ShadowingRequestStatus;
 import com.gm2dev.interview_hub.dto.CreateInterviewRequest;
+import com.gm2dev.interview_hub.dto.InterviewCursor;
+import com.gm2dev.interview_hub.dto.InterviewSummaryDto;
 import com.gm2dev.interview_hub.dto.UpdateInterviewRequest;
 import com.gm2dev.interview_hub.mapper.InterviewMapper;
+import com.gm2dev.interview_hub.repository.CalendarOutboxRepository;
 import com.gm2dev.interview_hub.repository.CandidateRepository;
 import com.gm2dev.interview_hub.repository.InterviewRepository;
 import com.gm2dev.interview_hub.repository.ProfileRepository;
 import com.gm2dev.shared.calendar.CalendarEventRequest;
-import com.gm2dev.shared.calendar.CalendarEventResponse;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -36,7 +42,7 @@ public class InterviewService {
     private final InterviewRepository interviewRepository;
     private final ProfileRepository profileRepository;
     private final CandidateRepository candidateRepository;
-    private final CalendarServiceClient calendarServiceClient;
+    private final CalendarOutboxRepository calendarOutboxRepository;
     private final InterviewMapper interviewMapper;
 
     @Transactional
@@ -64,14 +70,7 @@ public class InterviewService {
         }
 
         interview = interviewRepository.save(interview);
-
-        try {
-            CalendarEventResponse calendarResult = calendarServiceClient.createEvent(toCalendarRequest(interview));
-            interview.setGoogleEventId(calendarResult.eventId());
-            interview = interviewRepository.save(interview);
-        } catch (Exception e) {
-            log.warn("Failed to create Google Calendar event for interview {}: {}", interview.getId(), e.getMessage());
-        }
+        enqueueCalendarSync(interview, CalendarOperation.CREATE_EVENT);
 
         return interview;
     }
@@ -81,9 +80,34 @@ public class InterviewService {
         return interviewRepository.findAll(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Page<InterviewSummaryDto> findAllSummaries(Pageable pageable) {
+        return interviewRepository.findAllSummaries(pageable);
+    }
+
+    /**
+     * Interviews starting in [from, to), ordered by (startTime, id). Pass the last row of the
+     * previous slice as {@code after} to continue; null starts at {@code from}.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Interview> findInRange(Instant from, Instant to, InterviewCursor after, int size) {
+        if (!to.isAfter(from)) {
+            throw new InvalidRangeException("'to' must be after 'from'");
+        }
+        // Fetch one extra row to learn whether another slice follows without a COUNT query.
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Interview> rows = after == null
+                ? interviewRepository.findFirstInRange(from, to, limit)
+                : interviewRepository.findInRangeAfter(after.startTime(), after.id(), from, to, limit);
+
+        boolean hasNext = rows.size() > size;
+        List<Interview> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
     @Transactional(readOnly = true)
     public Interview findById(UUID id) {
-        return interviewRepository.findById(id)
+        return interviewRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Interview not found: " + id));
     }
 
@@ -110,13 +134,9 @@ public class InterviewService {
 
         interview = interviewRepository.save(interview);
 
-        if (interview.getGoogleEventId() != null) {
-            try {
-                calendarServiceClient.updateEvent(interview.getGoogleEventId(), toCalendarRequest(interview));
-            } catch (Exception e) {
-                log.warn("Failed to update Google Calendar event {}: {}", interview.getGoogleEventId(), e.getMessage());
-            }
-        }
+        // Enqueued even without an event id: the CREATE_EVENT may already be in flight with an older
+        // snapshot, so the dispatcher holds this entry back until the create has stored its event id.
+        enqueueCalendarSync(interview, CalendarOperation.UPDATE_EVENT);
 
         return interview;
     }
@@ -129,17 +149,22 @@ public class InterviewService {
         }
 
         if (interview.getGoogleEventId() != null) {
-            try {
-                calendarServiceClient.deleteEvent(interview.getGoogleEventId());
-            } catch (Exception e) {
-                log.warn("Failed to delete Google Calendar event {}: {}", interview.getGoogleEventId(), e.getMessage());
-            }
+            enqueueCalendarSync(interview, CalendarOperation.DELETE_EVENT);
         }
 
         interviewRepository.delete(interview);
     }
 
-    private CalendarEventRequest toCalendarRequest(Interview interview) {
+    /**
+     * Records the calendar mutation in the outbox as part of the current transaction;
+     * {@link CalendarOutboxDispatcher} sends it to calendar-service after commit.
+     */
+    private void enqueueCalendarSync(Interview interview, CalendarOperation operation) {
+        calendarOutboxRepository.save(
+                CalendarOutboxDispatcher.newEntry(interview.getId(), operation, interview.getGoogleEventId()));
+    }
+
+    static CalendarEventRequest toCalendarRequest(Interview interview) {
         Candidate candidate = interview.getCandidate();
         List<String> shadowerEmails = interview.getShadowingRequests() == null ? List.of() :
                 interview.getShadowingRequests().stream()
@@ -0,0 +1,16 @@
+package com.gm2dev.interview_hub.service;
+
+/**
+ * Thrown for a time-range listing the client got wrong (an empty range or a cursor it did not
+ * receive from us); reported as 400 with the message.
+ */
+public class InvalidRangeException extends RuntimeException {
+
+    public InvalidRangeException(String message) {
+        super(message);
+    }
+
+    public InvalidRangeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
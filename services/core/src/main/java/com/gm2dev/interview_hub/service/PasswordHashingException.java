@@ -0,0 +1,11 @@
+package com.gm2dev.interview_hub.service;
+
+/**
+ * Thrown when the password encoder itself fails; an internal error, not something the caller can fix.
+ */
+public class PasswordHashingException extends RuntimeException {
+
+    public PasswordHashingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
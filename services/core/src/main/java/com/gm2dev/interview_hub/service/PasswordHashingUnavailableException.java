@@ -0,0 +1,11 @@
+package com.gm2dev.interview_hub.service;
+
+/**
+ * Thrown when the password hashing pool is saturated and a request is shed instead of queued.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -4,16 +4,19 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.gm2dev.interview_hub.client.CalendarServiceClient;
+import com.gm2dev.interview_hub.domain.CalendarOperation;
 import com.gm2dev.interview_hub.domain.Interview;
 import com.gm2dev.interview_hub.domain.Profile;
 import com.gm2dev.interview_hub.domain.ShadowingRequest;
 import com.gm2dev.interview_hub.domain.ShadowingRequestStatus;
 import com.gm2dev.shared.calendar.AttendeeRequest;
 import com.gm2dev.shared.email.EmailMessage;
+import com.gm2dev.interview_hub.repository.CalendarOutboxRepository;
 import com.gm2dev.interview_hub.repository.InterviewRepository;
 import com.gm2dev.interview_hub.repository.ProfileRepository;
 import com.gm2dev.interview_hub.repository.ShadowingRequestRepository;
@@ -34,6 +37,7 @@ public class ShadowingRequestService {
     private final InterviewRepository interviewRepository;
     private final ProfileRepository profileRepository;
     private final CalendarServiceClient calendarServiceClient;
+    private final CalendarOutboxRepository calendarOutboxRepository;
     private final EmailPublisher emailPublisher;
 
     @Transactional
@@ -68,17 +72,8 @@ public class ShadowingRequestService {
         ShadowingRequest saved = shadowingRequestRepository.save(request);
 
         if (wasApproved) {
-            Interview interview = request.getInterview();
-            if (interview.getGoogleEventId() != null) {
-                try {
-                    calendarServiceClient.removeAttendee(
-                            interview.getGoogleEventId(),
-                            new AttendeeRequest(interview.getGoogleEventId(), request.getShadower().getEmail()));
-                } catch (Exception e) {
-                    log.warn("Failed to remove shadower {} from Calendar event {}: {}",
-                            request.getShadower().getEmail(), interview.getGoogleEventId(), e.getMessage());
-                }
-            }
+            changeAttendee(request.getInterview(), request.getShadower().getEmail(),
+                    calendarServiceClient::removeAttendee, "remove");
         }
 
         return saved;
@@ -99,17 +94,7 @@ public class ShadowingRequestService {
         ShadowingRequest saved = shadowingRequestRepository.save(request);
 
         Interview interview = request.getInterview();
-        if (interview.getGoogleEventId() != null) {
-            try {
-                calendarServiceClient.addAttendee(
-                        interview.getGoogleEventId(),
-                        new AttendeeRequest(interview.getGoogleEventId(), request.getShadower().getEmail()));
-            } catch (Exception e) {
-                log.warn("Failed to add shadower {} to Calendar event {}: {}",
-                        request.getShadower().getEmail(), interview.getGoogleEventId(),
-                        e.getMessage());
-            }
-        }
+        changeAttendee(interview, request.getShadower().getEmail(), calendarServiceClient::addAttendee, "add");
 
         String summary = InterviewService.buildSummary(interview);
 
@@ -136,17 +121,8 @@ public class ShadowingRequestService {
         ShadowingRequest saved = shadowingRequestRepository.save(request);
 
         if (wasApproved) {
-            Interview interview = request.getInterview();
-            if (interview.getGoogleEventId() != null) {
-                try {
-                    calendarServiceClient.removeAttendee(
-                            interview.getGoogleEventId(),
-                            new AttendeeRequest(interview.getGoogleEventId(), request.getShadower().getEmail()));
-                } catch (Exception e) {
-                    log.warn("Failed to remove shadower {} from Calendar event {}: {}",
-                            request.getShadower().getEmail(), interview.getGoogleEventId(), e.getMessage());
-                }
-            }
+            changeAttendee(request.getInterview(), request.getShadower().getEmail(),
+                    calendarServiceClient::removeAttendee, "remove");
         }
 
         return saved;
@@ -162,6 +138,28 @@ public class ShadowingRequestService {
         return shadowingRequestRepository.findByShadowerId(shadowerId);
     }
 
+    /**
+     * Applies an attendee change right away, so the shadower sees it in their calendar. When
+     * calendar-service fails, times out or is rejected by the circuit breaker, the change is
+     * queued as an event update in the calendar outbox instead: the update is built from the
+     * interview's approved shadowers at dispatch time, so it carries this change.
+     */
+    private void changeAttendee(Interview interview, String email,
+                                BiConsumer<String, AttendeeRequest> change, String action) {
+        String eventId = interview.getGoogleEventId();
+        if (eventId == null) {
+            return;
+        }
+        try {
+            change.accept(eventId, new AttendeeRequest(eventId, email));
+        } catch (Exception e) {
+            log.warn("Failed to {} shadower {} on Calendar event {}, queued for sync: {}",
+                    action, email, eventId, e.getMessage());
+            calendarOutboxRepository.save(
+                    CalendarOutboxDispatcher.newEntry(interview.getId(), CalendarOperation.UPDATE_EVENT, eventId));
+        }
+    }
+
     private ShadowingRequest findById(UUID id) {
         return shadowingRequestRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Shadowing request not found: " + id));
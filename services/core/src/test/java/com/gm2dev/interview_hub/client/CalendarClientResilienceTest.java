@@ -0,0 +1,198 @@
+package com.gm2dev.interview_hub.client;
+
+import com.gm2dev.interview_hub.config.CalendarClientProperties;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarClientResilienceTest {
+
+    private static final List<MethodMetadata> METADATA =
+            new SpringMvcContract().parseAndValidateMetadata(CalendarServiceClient.class);
+    private static final Request.Options DEFAULTS = new Request.Options();
+
+    private CalendarClientProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private CalendarClientResilience resilience;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CalendarClientProperties();
+        properties.setOperationTimeouts(Map.of("addAttendee", Duration.ofSeconds(3)));
+        properties.setSlidingWindowSize(4);
+        properties.setMinimumNumberOfCalls(4);
+        properties.setMaxConcurrentCalls(1);
+        meterRegistry = new SimpleMeterRegistry();
+        resilience = new CalendarClientResilience(properties, meterRegistry);
+    }
+
+    @Test
+    void execute_usesPerOperationReadTimeout() throws Exception {
+        AtomicReference<Request.Options> used = new AtomicReference<>();
+        Client client = resilience.enrich((request, options) -> {
+            used.set(options);
+            return response(request, 204);
+        });
+
+        client.execute(request("addAttendee"), DEFAULTS);
+        assertEquals(3000, used.get().readTimeoutMillis());
+        assertEquals(properties.getConnectTimeout().toMillis(), used.get().connectTimeoutMillis());
+
+        client.execute(request("updateEvent"), DEFAULTS);
+        assertEquals(properties.getReadTimeout().toMillis(), used.get().readTimeoutMillis());
+    }
+
+    @Test
+    void execute_serverErrorsOpenCircuitAndLaterCallsAreNotSent() throws Exception {
+        AtomicInteger sent = new AtomicInteger();
+        Client client = resilience.enrich((request, options) -> {
+            sent.incrementAndGet();
+            return response(request, 503);
+        });
+
+        for (int i = 0; i < properties.getMinimumNumberOfCalls(); i++) {
+            client.execute(request("updateEvent"), DEFAULTS);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, resilience.state());
+
+        assertThrows(CalendarServiceUnavailableException.class,
+                () -> client.execute(request("updateEvent"), DEFAULTS));
+        assertEquals(properties.getMinimumNumberOfCalls(), sent.get());
+        assertEquals(1.0, meterRegistry.get("calendar.client.rejected")
+                .tag("operation", "updateEvent").tag("reason", "circuit_open").counter().count());
+        assertEquals(1.0, meterRegistry.get("calendar.client.circuit.state")
+                .tag("breaker", "calls").tag("state", "open").gauge().value());
+    }
+
+    @Test
+    void execute_slowCallsOpenCircuitBySlowCallRate() throws Exception {
+        properties.setSlowCallThreshold(Duration.ofMillis(1));
+        properties.setFailureRateThreshold(100);
+        properties.setSlowCallRateThreshold(75);
+        resilience = new CalendarClientResilience(properties, new SimpleMeterRegistry());
+        Client client = resilience.enrich((request, options) -> {
+            sleep(5);
+            return response(request, 204);
+        });
+
+        for (int i = 0; i < properties.getMinimumNumberOfCalls(); i++) {
+            client.execute(request("updateEvent"), DEFAULTS);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, resilience.state());
+    }
+
+    @Test
+    void execute_batchCallsUseTheirOwnBreakerAndSlowCallThreshold() throws Exception {
+        properties.setSlowCallThreshold(Duration.ofMillis(1));
+        resilience = new CalendarClientResilience(properties, new SimpleMeterRegistry());
+        AtomicInteger sent = new AtomicInteger();
+        Client client = resilience.enrich((request, options) -> {
+            sent.incrementAndGet();
+            sleep(5);
+            return response(request, "executeBatch".equals(request.requestTemplate().methodMetadata().method().getName())
+                    ? 503 : 204);
+        });
+
+        for (int i = 0; i < properties.getMinimumNumberOfCalls(); i++) {
+            client.execute(request("executeBatch"), DEFAULTS);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, resilience.batchState());
+        assertEquals(CircuitBreaker.State.CLOSED, resilience.state());
+
+        client.execute(request("addAttendee"), DEFAULTS);
+        assertEquals(properties.getMinimumNumberOfCalls() + 1, sent.get());
+        assertThrows(CalendarServiceUnavailableException.class,
+                () -> client.execute(request("executeBatch"), DEFAULTS));
+    }
+
+    @Test
+    void execute_normalLengthBatchesAreNotSlowCalls() throws Exception {
+        properties.setSlowCallThreshold(Duration.ofMillis(1));
+        resilience = new CalendarClientResilience(properties, new SimpleMeterRegistry());
+        Client client = resilience.enrich((request, options) -> {
+            sleep(5);
+            return response(request, 200);
+        });
+
+        for (int i = 0; i < properties.getMinimumNumberOfCalls(); i++) {
+            client.execute(request("executeBatch"), DEFAULTS);
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, resilience.batchState());
+    }
+
+    @Test
+    void execute_fullBulkheadRejectsImmediately() throws Exception {
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Client client = resilience.enrich((request, options) -> {
+            inFlight.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return response(request, 204);
+        });
+
+        Thread first = Thread.ofVirtual().start(() -> {
+            try {
+                client.execute(request("deleteEvent"), DEFAULTS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+
+        assertThrows(CalendarServiceUnavailableException.class,
+                () -> client.execute(request("deleteEvent"), DEFAULTS));
+        release.countDown();
+        first.join();
+
+        assertEquals(1.0, meterRegistry.get("calendar.client.rejected").tag("reason", "bulkhead_full").counter().count());
+        assertEquals(1.0, meterRegistry.get("calendar.client.bulkhead.available").gauge().value());
+    }
+
+    private static Request request(String method) {
+        MethodMetadata metadata = METADATA.stream()
+                .filter(md -> md.method().getName().equals(method))
+                .findFirst()
+                .orElseThrow();
+        return Request.create(Request.HttpMethod.POST, "http://calendar-service/events", Map.of(),
+                "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, metadata.template());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Response response(Request request, int status) {
+        return Response.builder()
+                .request(request)
+                .status(status)
+                .headers(Map.of())
+                .build();
+    }
+}
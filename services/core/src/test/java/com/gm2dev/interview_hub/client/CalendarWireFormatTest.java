@@ -0,0 +1,123 @@
+package com.gm2dev.interview_hub.client;
+
+import com.gm2dev.interview_hub.config.CalendarClientProperties;
+import com.gm2dev.shared.calendar.AttendeeRequest;
+import com.gm2dev.shared.calendar.CalendarCbor;
+import com.gm2dev.shared.calendar.CalendarEventResponse;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarWireFormatTest {
+
+    private static final Encoder JSON_ENCODER = (body, bodyType, template) ->
+            template.body("{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+
+    @Test
+    void enrichEncoder_json_keepsSpringEncoder() {
+        CalendarWireFormat wireFormat = new CalendarWireFormat(new CalendarClientProperties());
+
+        assertSame(JSON_ENCODER, wireFormat.enrich(JSON_ENCODER));
+    }
+
+    @Test
+    void enrichEncoder_cbor_writesCalendarBodiesAsCbor() throws Exception {
+        AttendeeRequest attendee = new AttendeeRequest("evt-1", "shadow@example.com");
+        RequestTemplate template = new RequestTemplate();
+
+        cborWireFormat().enrich(JSON_ENCODER).encode(attendee, AttendeeRequest.class, template);
+
+        assertEquals(List.of(CalendarCbor.MEDIA_TYPE), List.copyOf(template.headers().get("Content-Type")));
+        assertTrue(template.headers().get("Accept").iterator().next().startsWith(CalendarCbor.MEDIA_TYPE));
+        assertEquals(attendee, CalendarCbor.read(new ByteArrayInputStream(template.body()), AttendeeRequest.class));
+    }
+
+    @Test
+    void enrichEncoder_cbor_leavesOtherBodiesToSpringEncoder() {
+        RequestTemplate template = new RequestTemplate();
+
+        cborWireFormat().enrich(JSON_ENCODER).encode("plain", String.class, template);
+
+        assertEquals("{}", new String(template.body(), StandardCharsets.UTF_8));
+        assertNull(template.headers().get("Content-Type"));
+    }
+
+    @Test
+    void enrichDecoder_decodesByResponseContentType() throws Exception {
+        CalendarEventResponse expected = new CalendarEventResponse("evt-1", null);
+        AtomicBoolean delegated = new AtomicBoolean();
+        Decoder decoder = cborWireFormat().enrich((response, type) -> {
+            delegated.set(true);
+            return expected;
+        });
+
+        Object fromCbor = decoder.decode(response(CalendarCbor.MEDIA_TYPE, CalendarCbor.write(expected)),
+                CalendarEventResponse.class);
+        assertEquals(expected, fromCbor);
+        assertFalse(delegated.get());
+
+        decoder.decode(response("application/json", "{}".getBytes(StandardCharsets.UTF_8)), CalendarEventResponse.class);
+        assertTrue(delegated.get());
+    }
+
+    @Test
+    void applicationYml_wireFormatEnvVar_enablesCbor() throws Exception {
+        CalendarClientProperties properties = bindApplicationYml(Map.of("CALENDAR_CLIENT_WIRE_FORMAT", "cbor"));
+        RequestTemplate template = new RequestTemplate();
+
+        new CalendarWireFormat(properties).enrich(JSON_ENCODER)
+                .encode(new AttendeeRequest("evt-1", "shadow@example.com"), AttendeeRequest.class, template);
+
+        assertEquals(CalendarClientProperties.WireFormat.CBOR, properties.getWireFormat());
+        assertEquals(List.of(CalendarCbor.MEDIA_TYPE), List.copyOf(template.headers().get("Content-Type")));
+    }
+
+    @Test
+    void applicationYml_withoutWireFormatEnvVar_defaultsToJson() throws Exception {
+        CalendarClientProperties properties = bindApplicationYml(Map.of());
+
+        assertEquals(CalendarClientProperties.WireFormat.JSON, properties.getWireFormat());
+        assertSame(JSON_ENCODER, new CalendarWireFormat(properties).enrich(JSON_ENCODER));
+    }
+
+    private static CalendarClientProperties bindApplicationYml(Map<String, Object> env) throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("env", env));
+        new YamlPropertySourceLoader().load("application.yml", new ClassPathResource("application.yml"))
+                .forEach(environment.getPropertySources()::addLast);
+        return Binder.get(environment).bindOrCreate("app.calendar-client", CalendarClientProperties.class);
+    }
+
+    private static CalendarWireFormat cborWireFormat() {
+        CalendarClientProperties properties = new CalendarClientProperties();
+        properties.setWireFormat(CalendarClientProperties.WireFormat.CBOR);
+        return new CalendarWireFormat(properties);
+    }
+
+    private static Response response(String contentType, byte[] body) {
+        return Response.builder()
+                .request(Request.create(Request.HttpMethod.POST, "http://calendar-service/events", Map.of(),
+                        null, StandardCharsets.UTF_8, null))
+                .status(200)
+                .headers(Map.of("Content-Type", List.of(contentType)))
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.gm2dev.interview_hub.config;
+
+import com.gm2dev.shared.security.InternalIdentity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InternalIdentityFilterTest {
+
+    private static final String SECRET = "test-signing-secret-that-is-at-least-32-bytes-long";
+    private static final Instant NOW = Instant.parse("2030-01-01T12:00:00Z");
+    private static final String USER_ID = "5f0c8a3e-1b2d-4c6e-9f00-112233445566";
+
+    private InternalIdentityFilter filter;
+    private final BearerTokenResolver resolver = InternalIdentityFilter.bearerTokenResolver();
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+        JwtGrantedAuthoritiesConverter authorities = new JwtGrantedAuthoritiesConverter();
+        authorities.setAuthorityPrefix("ROLE_");
+        authorities.setAuthoritiesClaimName("role");
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(authorities);
+        filter = new InternalIdentityFilter(SECRET, converter, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validHeaders_authenticateAndSkipBearerVerification() throws Exception {
+        MockHttpServletRequest request = signedRequest(new InternalIdentity(USER_ID, "user@gm2dev.com", "admin", NOW.plusSeconds(600)));
+        request.addHeader("Authorization", "Bearer original.jwt.token");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        JwtAuthenticationToken jwtAuth = assertInstanceOf(JwtAuthenticationToken.class, authentication);
+        assertEquals(USER_ID, jwtAuth.getToken().getSubject());
+        assertEquals("user@gm2dev.com", jwtAuth.getToken().getClaimAsString("email"));
+        assertEquals("original.jwt.token", jwtAuth.getToken().getTokenValue());
+        assertTrue(jwtAuth.getAuthorities().stream().map(GrantedAuthority::getAuthority).anyMatch("ROLE_admin"::equals));
+        assertNull(resolver.resolve(request));
+    }
+
+    @Test
+    void validHeadersWithoutEmailOrRoleOrBearer_stillAuthenticate() throws Exception {
+        MockHttpServletRequest request = signedRequest(new InternalIdentity(USER_ID, null, null, NOW.plusSeconds(600)));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        JwtAuthenticationToken jwtAuth = assertInstanceOf(JwtAuthenticationToken.class,
+                SecurityContextHolder.getContext().getAuthentication());
+        assertEquals("internal", jwtAuth.getToken().getTokenValue());
+        assertTrue(jwtAuth.getAuthorities().isEmpty());
+    }
+
+    @Test
+    void tamperedRole_fallsBackToBearerVerification() throws Exception {
+        MockHttpServletRequest request = signedRequest(new InternalIdentity(USER_ID, "user@gm2dev.com", "interviewer", NOW.plusSeconds(600)));
+        request.removeHeader(InternalIdentity.ROLE_HEADER);
+        request.addHeader(InternalIdentity.ROLE_HEADER, "admin");
+        request.addHeader("Authorization", "Bearer original.jwt.token");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals("original.jwt.token", resolver.resolve(request));
+    }
+
+    @Test
+    void expiredHeaders_areIgnored() throws Exception {
+        MockHttpServletRequest request = signedRequest(new InternalIdentity(USER_ID, "user@gm2dev.com", "admin", NOW));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void malformedExpiry_isIgnored() throws Exception {
+        MockHttpServletRequest request = signedRequest(new InternalIdentity(USER_ID, "user@gm2dev.com", "admin", NOW.plusSeconds(600)));
+        request.removeHeader(InternalIdentity.EXPIRES_AT_HEADER);
+        request.addHeader(InternalIdentity.EXPIRES_AT_HEADER, "tomorrow");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void missingHeaders_areIgnored() throws Exception {
+        MockHttpServletRequest noSubject = signedRequest(new InternalIdentity(USER_ID, null, null, NOW.plusSeconds(600)));
+        noSubject.removeHeader(InternalIdentity.SUBJECT_HEADER);
+        MockHttpServletRequest noExpiry = signedRequest(new InternalIdentity(USER_ID, null, null, NOW.plusSeconds(600)));
+        noExpiry.removeHeader(InternalIdentity.EXPIRES_AT_HEADER);
+        MockHttpServletRequest noSignature = signedRequest(new InternalIdentity(USER_ID, null, null, NOW.plusSeconds(600)));
+        noSignature.removeHeader(InternalIdentity.SIGNATURE_HEADER);
+
+        for (MockHttpServletRequest request : new MockHttpServletRequest[]{noSubject, noExpiry, noSignature}) {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+        }
+    }
+
+    @Test
+    void withoutSigningSecret_filterIsInert() throws Exception {
+        InternalIdentityFilter inert = new InternalIdentityFilter(null, new JwtAuthenticationConverter());
+
+        inert.doFilter(signedRequest(new InternalIdentity(USER_ID, null, null, Instant.now().plusSeconds(600))),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static MockHttpServletRequest signedRequest(InternalIdentity identity) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/interviews");
+        request.addHeader(InternalIdentity.SUBJECT_HEADER, identity.subject());
+        if (identity.email() != null) {
+            request.addHeader(InternalIdentity.EMAIL_HEADER, identity.email());
+        }
+        if (identity.role() != null) {
+            request.addHeader(InternalIdentity.ROLE_HEADER, identity.role());
+        }
+        request.addHeader(InternalIdentity.EXPIRES_AT_HEADER, Long.toString(identity.expiresAt().getEpochSecond()));
+        request.addHeader(InternalIdentity.SIGNATURE_HEADER, identity.sign(InternalIdentity.deriveKey(SECRET)));
+        return request;
+    }
+}
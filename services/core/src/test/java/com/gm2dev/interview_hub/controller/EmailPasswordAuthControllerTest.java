@@ -4,6 +4,8 @@ import com.gm2dev.interview_hub.config.JwtProperties;
 import com.gm2dev.interview_hub.config.SecurityConfig;
 import com.gm2dev.interview_hub.dto.AuthResponse;
 import com.gm2dev.interview_hub.service.EmailPasswordAuthService;
+import com.gm2dev.interview_hub.service.PasswordHashingException;
+import com.gm2dev.interview_hub.service.PasswordHashingUnavailableException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
@@ -81,6 +83,31 @@ class EmailPasswordAuthControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void login_whenPasswordHashingSaturated_returns503WithRetryAfter() throws Exception {
+        when(authService.login(any()))
+                .thenThrow(new PasswordHashingUnavailableException("Too many concurrent sign-in requests, try again shortly"));
+
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"user@gm2dev.com\", \"password\": \"Password1\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error").value("Too many concurrent sign-in requests, try again shortly"));
+    }
+
+    @Test
+    void login_whenPasswordHashingFails_returns500() throws Exception {
+        when(authService.login(any()))
+                .thenThrow(new PasswordHashingException("Password hashing failed", new AssertionError("boom")));
+
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"user@gm2dev.com\", \"password\": \"Password1\"}"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.error").value("Internal server error"));
+    }
+
     @Test
     void verify_withValidToken_returns200() throws Exception {
         mockMvc.perform(get("/auth/verify").param("token", "valid-token"))
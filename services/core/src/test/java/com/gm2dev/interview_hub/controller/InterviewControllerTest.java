@@ -15,8 +15,11 @@ import com.gm2dev.interview_hub.domain.Profile;
 import com.gm2dev.interview_hub.domain.ShadowingRequest;
 import com.gm2dev.interview_hub.domain.ShadowingRequestStatus;
 import com.gm2dev.interview_hub.dto.CreateInterviewRequest;
+import com.gm2dev.interview_hub.dto.InterviewCursor;
+import com.gm2dev.interview_hub.dto.InterviewSummaryDto;
 import com.gm2dev.interview_hub.dto.UpdateInterviewRequest;
 import com.gm2dev.interview_hub.service.InterviewService;
+import com.gm2dev.interview_hub.service.InvalidRangeException;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
@@ -31,7 +34,9 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -41,6 +46,7 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -133,6 +139,83 @@ class InterviewControllerTest {
                 .andExpect(jsonPath("$.number").value(0));
     }
 
+    @Test
+    void listInterviewSummaries_returns200WithSummaryFieldsOnly() throws Exception {
+        Interview interview = buildInterview();
+        InterviewSummaryDto summary = new InterviewSummaryDto(interview.getId(), interview.getTechStack(),
+                interview.getStartTime(), interview.getEndTime(), interview.getStatus());
+        when(interviewService.findAllSummaries(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(summary)));
+
+        mockMvc.perform(get("/api/interviews/summaries")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(interview.getId().toString()))
+                .andExpect(jsonPath("$.content[0].techStack").value("Java"))
+                .andExpect(jsonPath("$.content[0].status").value("SCHEDULED"))
+                .andExpect(jsonPath("$.content[0].interviewer").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void listInterviewsInRange_withMoreResults_returnsNextCursor() throws Exception {
+        Interview interview = buildInterview();
+        when(interviewService.findInRange(any(Instant.class), any(Instant.class), isNull(), eq(1)))
+                .thenReturn(new SliceImpl<>(List.of(interview), PageRequest.of(0, 1), true));
+
+        String expectedCursor = new InterviewCursor(interview.getStartTime(), interview.getId()).encode();
+
+        mockMvc.perform(get("/api/interviews/range")
+                        .param("from", "2026-04-01T00:00:00Z")
+                        .param("to", "2026-05-01T00:00:00Z")
+                        .param("size", "1")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(interview.getId().toString()))
+                .andExpect(jsonPath("$.nextCursor").value(expectedCursor))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void listInterviewsInRange_withCursor_passesDecodedPosition() throws Exception {
+        Interview interview = buildInterview();
+        InterviewCursor cursor = new InterviewCursor(Instant.parse("2026-04-10T10:00:00Z"), UUID.randomUUID());
+        when(interviewService.findInRange(any(Instant.class), any(Instant.class), eq(cursor), eq(50)))
+                .thenReturn(new SliceImpl<>(List.of(interview), PageRequest.of(0, 50), false));
+
+        mockMvc.perform(get("/api/interviews/range")
+                        .param("from", "2026-04-01T00:00:00Z")
+                        .param("to", "2026-05-01T00:00:00Z")
+                        .param("cursor", cursor.encode())
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(interview.getId().toString()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void listInterviewsInRange_withMalformedCursor_returns400() throws Exception {
+        mockMvc.perform(get("/api/interviews/range")
+                        .param("from", "2026-04-01T00:00:00Z")
+                        .param("to", "2026-05-01T00:00:00Z")
+                        .param("cursor", "not-a-cursor")
+                        .with(jwt()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid cursor"));
+    }
+
+    @Test
+    void listInterviewsInRange_withEmptyRange_returns400() throws Exception {
+        when(interviewService.findInRange(any(Instant.class), any(Instant.class), isNull(), eq(50)))
+                .thenThrow(new InvalidRangeException("'to' must be after 'from'"));
+
+        mockMvc.perform(get("/api/interviews/range")
+                        .param("from", "2026-05-01T00:00:00Z")
+                        .param("to", "2026-04-01T00:00:00Z")
+                        .with(jwt()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("'to' must be after 'from'"));
+    }
+
     @Test
     void getInterview_returns200() throws Exception {
         Interview interview = buildInterview();
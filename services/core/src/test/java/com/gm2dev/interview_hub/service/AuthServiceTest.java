@@ -6,7 +6,9 @@ import com.gm2dev.interview_hub.domain.Role;
 import com.gm2dev.interview_hub.dto.AuthResponse;
 import com.gm2dev.interview_hub.repository.ProfileRepository;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
 import com.google.api.client.googleapis.auth.oauth2.GoogleTokenResponse;
+import com.google.api.client.http.HttpTransport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,7 +16,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.io.IOException;
+import java.security.GeneralSecurityException;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,6 +36,12 @@ class AuthServiceTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private HttpTransport googleHttpTransport;
+
+    @Mock
+    private GoogleIdTokenVerifier idTokenVerifier;
+
     private AuthService authService;
 
     @BeforeEach
@@ -43,7 +51,7 @@ class AuthServiceTest {
         googleProps.setClientSecret("test-client-secret");
         googleProps.setRedirectUri("http://localhost:8080/auth/google/callback");
 
-        authService = spy(new AuthService(googleProps, profileRepository, jwtService));
+        authService = spy(new AuthService(googleProps, profileRepository, jwtService, googleHttpTransport, idTokenVerifier));
     }
 
     @Test
@@ -146,7 +154,38 @@ class AuthServiceTest {
         assertEquals(Role.interviewer, saved.getRole());
     }
 
-    private GoogleTokenResponse mockTokenResponse(String hostedDomain, String subject, String email) throws IOException {
+    @Test
+    void handleCallback_idTokenFailsVerification_throwsSecurityException() throws Exception {
+        GoogleTokenResponse tokenResponse = mock(GoogleTokenResponse.class);
+        when(tokenResponse.getIdToken()).thenReturn("forged-id-token");
+        when(idTokenVerifier.verify("forged-id-token")).thenReturn(null);
+        doReturn(tokenResponse).when(authService).exchangeCodeForTokens(eq("forged-code"), anyString());
+
+        assertThrows(SecurityException.class, () -> authService.handleCallback("forged-code"));
+        verify(profileRepository, never()).save(any());
+    }
+
+    @Test
+    void handleCallback_idTokenWithBadSignature_throwsSecurityException() throws Exception {
+        GoogleTokenResponse tokenResponse = mock(GoogleTokenResponse.class);
+        when(tokenResponse.getIdToken()).thenReturn("tampered-id-token");
+        when(idTokenVerifier.verify("tampered-id-token")).thenThrow(new GeneralSecurityException("bad signature"));
+        doReturn(tokenResponse).when(authService).exchangeCodeForTokens(eq("tampered-code"), anyString());
+
+        assertThrows(SecurityException.class, () -> authService.handleCallback("tampered-code"));
+        verify(jwtService, never()).issueToken(any());
+    }
+
+    @Test
+    void handleCallback_withoutIdToken_throwsSecurityException() throws Exception {
+        GoogleTokenResponse tokenResponse = mock(GoogleTokenResponse.class);
+        doReturn(tokenResponse).when(authService).exchangeCodeForTokens(eq("no-id-code"), anyString());
+
+        assertThrows(SecurityException.class, () -> authService.handleCallback("no-id-code"));
+        verifyNoInteractions(idTokenVerifier);
+    }
+
+    private GoogleTokenResponse mockTokenResponse(String hostedDomain, String subject, String email) throws Exception {
         GoogleIdToken.Payload payload = new GoogleIdToken.Payload();
         payload.setHostedDomain(hostedDomain);
         payload.setSubject(subject);
@@ -156,7 +195,8 @@ class AuthServiceTest {
         when(idToken.getPayload()).thenReturn(payload);
 
         GoogleTokenResponse tokenResponse = mock(GoogleTokenResponse.class);
-        when(tokenResponse.parseIdToken()).thenReturn(idToken);
+        when(tokenResponse.getIdToken()).thenReturn("id-token-" + subject);
+        when(idTokenVerifier.verify("id-token-" + subject)).thenReturn(idToken);
         lenient().when(tokenResponse.getAccessToken()).thenReturn("mock-access-token");
         lenient().when(tokenResponse.getRefreshToken()).thenReturn("mock-refresh-token");
         lenient().when(tokenResponse.getExpiresInSeconds()).thenReturn(3600L);
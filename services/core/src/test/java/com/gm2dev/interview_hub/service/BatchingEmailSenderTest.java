@@ -0,0 +1,238 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.client.CalendarServiceClient;
+import com.gm2dev.interview_hub.config.EmailPublisherProperties;
+import com.gm2dev.interview_hub.domain.EmailOutboxEntry;
+import com.gm2dev.interview_hub.domain.OutboxStatus;
+import com.gm2dev.interview_hub.repository.EmailOutboxRepository;
+import com.gm2dev.shared.email.EmailMessage;
+import com.gm2dev.shared.email.EmailMessageCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Drives {@link BatchingEmailSender#publishPending()} directly: the background thread does not
+ * start in the test profile ({@code app.scheduling.enabled: false}).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Rollback
+class BatchingEmailSenderTest {
+
+    private static final EmailMessage MESSAGE = new EmailMessage.VerificationEmailMessage("user@example.com", "token");
+
+    @Autowired
+    private BatchingEmailSender sender;
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    @Autowired
+    private EmailPublisherProperties properties;
+
+    @Autowired
+    private EmailOutboxCipher cipher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private StreamBridge streamBridge;
+
+    @MockitoBean
+    private CalendarServiceClient calendarServiceClient;
+
+    private Duration originalConfirmTimeout;
+    private boolean originalConfirms;
+
+    @BeforeEach
+    void setUp() {
+        originalConfirms = properties.isConfirms();
+        originalConfirmTimeout = properties.getConfirmTimeout();
+        properties.setConfirms(true);
+        properties.setConfirmTimeout(Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setConfirms(originalConfirms);
+        properties.setConfirmTimeout(originalConfirmTimeout);
+    }
+
+    private EmailOutboxEntry enqueue() {
+        return outboxRepository.save(BatchingEmailSender.newEntry(MESSAGE, cipher));
+    }
+
+    @Test
+    void publishPending_ackedMessage_isPublishedWithHeadersAndDeleted() throws InterruptedException {
+        EmailOutboxEntry entry = enqueue();
+        when(streamBridge.send(eq(BatchingEmailSender.BINDING), any())).thenAnswer(inv -> confirm(inv.getArgument(1), true));
+
+        assertEquals(1, sender.publishPending());
+
+        verify(streamBridge).send(eq(BatchingEmailSender.BINDING), argThat(sent -> {
+            Message<?> message = (Message<?>) sent;
+            return MESSAGE.equals(message.getPayload())
+                    && message.getHeaders().get(AmqpHeaders.PUBLISH_CONFIRM_CORRELATION) instanceof CorrelationData
+                    && "VERIFICATION".equals(message.getHeaders().get(BatchingEmailSender.ROUTING_KEY_HEADER))
+                    && message.getHeaders().get(EmailMessage.PUBLISHED_AT_HEADER) instanceof Long
+                    && Integer.valueOf(EmailMessageCodec.VERSION).equals(message.getHeaders().get(EmailMessageCodec.VERSION_HEADER));
+        }));
+        assertFalse(outboxRepository.findById(entry.getId()).isPresent());
+        assertEquals(0.0, meterRegistry.get("email.publish.unconfirmed").gauge().value());
+    }
+
+    @Test
+    void publishPending_nackedMessage_staysInOutboxWithBackoff() throws InterruptedException {
+        EmailOutboxEntry entry = enqueue();
+        when(streamBridge.send(eq(BatchingEmailSender.BINDING), any())).thenAnswer(inv -> confirm(inv.getArgument(1), false));
+
+        sender.publishPending();
+
+        EmailOutboxEntry retried = outboxRepository.findById(entry.getId()).orElseThrow();
+        assertEquals(OutboxStatus.PENDING, retried.getStatus());
+        assertEquals(1, retried.getAttempts());
+        assertEquals("nacked: nack", retried.getLastError());
+        assertTrue(retried.getNextAttemptAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void publishPending_retryAfterBackoff_publishesSameMessageId() throws InterruptedException {
+        EmailOutboxEntry entry = enqueue();
+        AtomicInteger attempts = new AtomicInteger();
+        when(streamBridge.send(eq(BatchingEmailSender.BINDING), any()))
+                .thenAnswer(inv -> confirm(inv.getArgument(1), attempts.incrementAndGet() > 1));
+
+        sender.publishPending();
+        EmailOutboxEntry retried = outboxRepository.findById(entry.getId()).orElseThrow();
+        retried.setNextAttemptAt(Instant.now());
+        outboxRepository.save(retried);
+        sender.publishPending();
+
+        verify(streamBridge, times(2)).send(eq(BatchingEmailSender.BINDING),
+                argThat(sent -> MESSAGE.messageId().equals(((EmailMessage) ((Message<?>) sent).getPayload()).messageId())));
+        assertFalse(outboxRepository.findById(entry.getId()).isPresent());
+    }
+
+    @Test
+    void publishPending_lastAttemptUnconfirmed_marksRowFailedInsteadOfDropping() throws InterruptedException {
+        EmailOutboxEntry entry = enqueue();
+        entry.setAttempts(properties.getMaxAttempts() - 1);
+        outboxRepository.save(entry);
+        when(streamBridge.send(eq(BatchingEmailSender.BINDING), any())).thenReturn(true);
+        double failedBefore = meterRegistry.get("email.publish.failed").counter().count();
+
+        sender.publishPending();
+
+        EmailOutboxEntry failed = outboxRepository.findById(entry.getId()).orElseThrow();
+        assertEquals(OutboxStatus.FAILED, failed.getStatus());
+        assertNull(failed.getPayload());
+        assertEquals(failedBefore + 1, meterRegistry.get("email.publish.failed").counter().count());
+    }
+
+    @Test
+    void publishPending_unreadablePayload_isMarkedFailedAndScrubbed() throws InterruptedException {
+        EmailOutboxEntry entry = enqueue();
+        entry.setPayload("not-a-sealed-payload");
+        outboxRepository.save(entry);
+
+        sender.publishPending();
+
+        EmailOutboxEntry failed = outboxRepository.findById(entry.getId()).orElseThrow();
+        assertEquals(OutboxStatus.FAILED, failed.getStatus());
+        assertNull(failed.getPayload());
+        verifyNoInteractions(streamBridge);
+    }
+
+    @Test
+    void purgeFailed_deletesOnlyFailedRowsPastRetention() {
+        EmailOutboxEntry expired = enqueue();
+        expired.setStatus(OutboxStatus.FAILED);
+        expired.setCreatedAt(Instant.now().minus(properties.getFailedRetention()).minusSeconds(60));
+        outboxRepository.save(expired);
+        EmailOutboxEntry recent = enqueue();
+        recent.setStatus(OutboxStatus.FAILED);
+        outboxRepository.save(recent);
+        EmailOutboxEntry pending = enqueue();
+        pending.setCreatedAt(expired.getCreatedAt());
+        outboxRepository.save(pending);
+        outboxRepository.flush();
+
+        sender.purgeFailed();
+
+        assertFalse(outboxRepository.existsById(expired.getId()));
+        assertTrue(outboxRepository.existsById(recent.getId()));
+        assertTrue(outboxRepository.existsById(pending.getId()));
+    }
+
+    @Test
+    void publishPending_bindingFailure_isRescheduled() throws InterruptedException {
+        EmailOutboxEntry entry = enqueue();
+        when(streamBridge.send(eq(BatchingEmailSender.BINDING), any())).thenThrow(new IllegalStateException("broker down"));
+
+        sender.publishPending();
+
+        EmailOutboxEntry retried = outboxRepository.findById(entry.getId()).orElseThrow();
+        assertEquals(1, retried.getAttempts());
+        assertEquals("broker down", retried.getLastError());
+    }
+
+    @Test
+    void publishPending_confirmsDisabled_deletesWithoutWaiting() throws InterruptedException {
+        properties.setConfirms(false);
+        EmailOutboxEntry entry = enqueue();
+        when(streamBridge.send(eq(BatchingEmailSender.BINDING), any())).thenReturn(true);
+
+        sender.publishPending();
+
+        assertFalse(outboxRepository.findById(entry.getId()).isPresent());
+    }
+
+    @Test
+    void publishPending_skipsRowsNotYetDue() throws InterruptedException {
+        EmailOutboxEntry entry = enqueue();
+        entry.setNextAttemptAt(Instant.now().plusSeconds(60));
+        outboxRepository.save(entry);
+
+        assertEquals(0, sender.publishPending());
+
+        verifyNoInteractions(streamBridge);
+        assertTrue(outboxRepository.findById(entry.getId()).isPresent());
+    }
+
+    @Test
+    void backoff_growsExponentiallyAndIsCapped() {
+        assertEquals(properties.getInitialBackoff(), sender.backoff(1));
+        assertEquals(properties.getInitialBackoff().multipliedBy(2), sender.backoff(2));
+        assertEquals(properties.getMaxBackoff(), sender.backoff(50));
+    }
+
+    private static boolean confirm(Message<?> message, boolean ack) {
+        CorrelationData correlation = (CorrelationData) message.getHeaders().get(AmqpHeaders.PUBLISH_CONFIRM_CORRELATION);
+        correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+        return true;
+    }
+}
@@ -0,0 +1,137 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedPasswordEncoderTest {
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private PasswordHashingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setTimeout(Duration.ofSeconds(5));
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(delegate, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    @Test
+    void encodeAndMatches_delegateOnWorkerThreadAndRecordLatency() {
+        when(delegate.encode("secret")).thenAnswer(inv -> Thread.currentThread().getName());
+        when(delegate.matches("secret", "hash")).thenReturn(true);
+
+        assertTrue(encoder.encode("secret").startsWith("password-hashing-"));
+        assertTrue(encoder.matches("secret", "hash"));
+
+        assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "matches").timer().count());
+        assertEquals(2, meterRegistry.get("password.hashing.wait").timer().count());
+    }
+
+    @Test
+    void upgradeEncoding_delegatesInline() {
+        when(delegate.upgradeEncoding("hash")).thenReturn(true);
+
+        assertTrue(encoder.upgradeEncoding("hash"));
+    }
+
+    @Test
+    void saturatedPool_rejectsImmediately() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode(any())).thenAnswer(inv -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        awaitQueueDepth(1);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode("third"));
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void slowHash_timesOutWithUnavailable() {
+        properties.setTimeout(Duration.ofMillis(50));
+        encoder.close();
+        encoder = new BoundedPasswordEncoder(delegate, properties, new SimpleMeterRegistry());
+        when(delegate.encode(any())).thenAnswer(inv -> {
+            Thread.sleep(5_000);
+            return "hash";
+        });
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode("secret"));
+    }
+
+    @Test
+    void delegateRuntimeException_isRethrownAsIs() {
+        when(delegate.matches("secret", "not-bcrypt")).thenThrow(new IllegalArgumentException("Invalid salt"));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> encoder.matches("secret", "not-bcrypt"));
+        assertEquals("Invalid salt", e.getMessage());
+    }
+
+    @Test
+    void delegateError_isWrappedInPasswordHashingException() {
+        when(delegate.encode("secret")).thenThrow(new AssertionError("boom"));
+
+        PasswordHashingException e = assertThrows(PasswordHashingException.class, () -> encoder.encode("secret"));
+        assertInstanceOf(AssertionError.class, e.getCause());
+    }
+
+    @Test
+    void interruptedCaller_getsUnavailableAndKeepsInterruptFlag() {
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode("secret"));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.queue").gauge().value() < depth) {
+            assertTrue(System.nanoTime() < deadline, "request was never queued");
+            Thread.sleep(5);
+        }
+    }
+}
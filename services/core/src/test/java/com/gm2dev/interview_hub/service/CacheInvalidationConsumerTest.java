@@ -0,0 +1,53 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.domain.CachedEntity;
+import com.gm2dev.interview_hub.dto.CacheInvalidationMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.stream.function.StreamBridge;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationConsumerTest {
+
+    @Mock
+    private EntityCacheInvalidator invalidator;
+
+    @Mock
+    private StreamBridge streamBridge;
+
+    @Test
+    void cacheInvalidation_evictsLocally() {
+        UUID id = UUID.randomUUID();
+
+        new CacheInvalidationConsumer().cacheInvalidation(invalidator)
+                .accept(new CacheInvalidationMessage(CachedEntity.CANDIDATE, id));
+
+        verify(invalidator).evictLocally(CachedEntity.CANDIDATE, id);
+    }
+
+    @Test
+    void publish_sendsToInvalidationBinding() {
+        CacheInvalidationMessage message = new CacheInvalidationMessage(CachedEntity.PROFILE, UUID.randomUUID());
+
+        new CacheInvalidationPublisher(streamBridge).publish(message);
+
+        verify(streamBridge).send("cacheInvalidation-out-0", message);
+    }
+
+    @Test
+    void publish_brokerFailure_isSwallowed() {
+        when(streamBridge.send(eq("cacheInvalidation-out-0"), any())).thenThrow(new IllegalStateException("broker down"));
+
+        assertDoesNotThrow(() -> new CacheInvalidationPublisher(streamBridge)
+                .publish(new CacheInvalidationMessage(CachedEntity.INTERVIEW, UUID.randomUUID())));
+    }
+}
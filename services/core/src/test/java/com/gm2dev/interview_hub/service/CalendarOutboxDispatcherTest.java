@@ -0,0 +1,283 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.client.CalendarServiceClient;
+import com.gm2dev.interview_hub.client.CalendarServiceUnavailableException;
+import com.gm2dev.interview_hub.config.CalendarOutboxProperties;
+import com.gm2dev.interview_hub.domain.CalendarOperation;
+import com.gm2dev.interview_hub.domain.CalendarOutboxEntry;
+import com.gm2dev.interview_hub.domain.Candidate;
+import com.gm2dev.interview_hub.domain.Interview;
+import com.gm2dev.interview_hub.domain.InterviewStatus;
+import com.gm2dev.interview_hub.domain.OutboxStatus;
+import com.gm2dev.interview_hub.domain.Profile;
+import com.gm2dev.interview_hub.domain.Role;
+import com.gm2dev.interview_hub.repository.CalendarOutboxRepository;
+import com.gm2dev.interview_hub.repository.CandidateRepository;
+import com.gm2dev.interview_hub.repository.InterviewRepository;
+import com.gm2dev.interview_hub.repository.ProfileRepository;
+import com.gm2dev.shared.calendar.CalendarEventResponse;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Rollback
+class CalendarOutboxDispatcherTest {
+
+    @Autowired
+    private CalendarOutboxDispatcher dispatcher;
+
+    @Autowired
+    private CalendarOutboxRepository outboxRepository;
+
+    @Autowired
+    private CalendarOutboxProperties properties;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private CalendarServiceClient calendarServiceClient;
+
+    private Interview interview;
+
+    @BeforeEach
+    void setUp() {
+        Profile interviewer = profileRepository.save(
+                new Profile(UUID.randomUUID(), "outbox@example.com", Role.interviewer));
+        Candidate candidate = candidateRepository.save(
+                new Candidate(null, "Outbox Candidate", "outbox-candidate@example.com", null, null, null));
+
+        interview = new Interview();
+        interview.setInterviewer(interviewer);
+        interview.setCandidate(candidate);
+        interview.setTechStack("Java");
+        interview.setStartTime(Instant.now().plus(1, ChronoUnit.DAYS));
+        interview.setEndTime(Instant.now().plus(1, ChronoUnit.DAYS).plus(1, ChronoUnit.HOURS));
+        interview.setStatus(InterviewStatus.SCHEDULED);
+        interview = interviewRepository.save(interview);
+    }
+
+    private CalendarOutboxEntry enqueue(CalendarOperation operation, String googleEventId) {
+        return outboxRepository.save(CalendarOutboxDispatcher.newEntry(interview.getId(), operation, googleEventId));
+    }
+
+    @Test
+    void dispatchPending_createEvent_storesEventIdAndRemovesEntry() {
+        CalendarOutboxEntry entry = enqueue(CalendarOperation.CREATE_EVENT, null);
+        when(calendarServiceClient.createEvent(any())).thenReturn(new CalendarEventResponse("gcal-outbox-1", null));
+
+        dispatcher.dispatchPending();
+
+        assertEquals("gcal-outbox-1", interviewRepository.findById(interview.getId()).orElseThrow().getGoogleEventId());
+        assertFalse(outboxRepository.findById(entry.getId()).isPresent());
+    }
+
+    @Test
+    void dispatchPending_updateEvent_sendsCurrentInterviewState() {
+        interview.setGoogleEventId("gcal-outbox-2");
+        interview.setTechStack("Kotlin");
+        interviewRepository.save(interview);
+        enqueue(CalendarOperation.UPDATE_EVENT, "gcal-outbox-2");
+
+        dispatcher.dispatchPending();
+
+        verify(calendarServiceClient).updateEvent(eq("gcal-outbox-2"),
+                argThat(request -> "Kotlin".equals(request.techStack())));
+        assertTrue(outboxRepository.findByInterviewId(interview.getId()).isEmpty());
+    }
+
+    @Test
+    void dispatchPending_deleteEvent_usesStoredEventIdAfterInterviewIsGone() {
+        enqueue(CalendarOperation.DELETE_EVENT, "gcal-outbox-3");
+        interviewRepository.delete(interview);
+
+        dispatcher.dispatchPending();
+
+        verify(calendarServiceClient).deleteEvent("gcal-outbox-3");
+        assertTrue(outboxRepository.findByInterviewId(interview.getId()).isEmpty());
+    }
+
+    @Test
+    void dispatchPending_updateForDeletedInterview_isDroppedWithoutCall() {
+        enqueue(CalendarOperation.UPDATE_EVENT, "gcal-outbox-4");
+        interviewRepository.delete(interview);
+
+        dispatcher.dispatchPending();
+
+        verifyNoInteractions(calendarServiceClient);
+        assertTrue(outboxRepository.findByInterviewId(interview.getId()).isEmpty());
+    }
+
+    @Test
+    void dispatchPending_updateDuringInFlightCreate_isSentOnceEventExists() {
+        enqueue(CalendarOperation.CREATE_EVENT, null);
+        CalendarOutboxEntry update = enqueue(CalendarOperation.UPDATE_EVENT, null);
+        when(calendarServiceClient.createEvent(any())).thenReturn(new CalendarEventResponse("gcal-outbox-5", null));
+
+        dispatcher.dispatchPending();
+
+        verify(calendarServiceClient, never()).updateEvent(any(), any());
+        CalendarOutboxEntry waiting = outboxRepository.findById(update.getId()).orElseThrow();
+        assertEquals(0, waiting.getAttempts());
+        assertTrue(waiting.getNextAttemptAt().isAfter(Instant.now()));
+
+        waiting.setNextAttemptAt(Instant.now());
+        outboxRepository.save(waiting);
+        interview.setTechStack("Kotlin");
+        interviewRepository.save(interview);
+
+        dispatcher.dispatchPending();
+
+        verify(calendarServiceClient).updateEvent(eq("gcal-outbox-5"),
+                argThat(request -> "Kotlin".equals(request.techStack())));
+        assertTrue(outboxRepository.findByInterviewId(interview.getId()).isEmpty());
+    }
+
+    @Test
+    void dispatchPending_updateAfterCreateFailedForGood_isDropped() {
+        CalendarOutboxEntry create = enqueue(CalendarOperation.CREATE_EVENT, null);
+        create.setStatus(OutboxStatus.FAILED);
+        outboxRepository.save(create);
+        CalendarOutboxEntry update = enqueue(CalendarOperation.UPDATE_EVENT, null);
+
+        dispatcher.dispatchPending();
+
+        verifyNoInteractions(calendarServiceClient);
+        assertFalse(outboxRepository.findById(update.getId()).isPresent());
+    }
+
+    @Test
+    void dispatchPending_calendarFailure_reschedulesWithBackoff() {
+        CalendarOutboxEntry entry = enqueue(CalendarOperation.CREATE_EVENT, null);
+        when(calendarServiceClient.createEvent(any())).thenThrow(new RuntimeException("Calendar unavailable"));
+
+        dispatcher.dispatchPending();
+
+        CalendarOutboxEntry retried = outboxRepository.findById(entry.getId()).orElseThrow();
+        assertEquals(OutboxStatus.PENDING, retried.getStatus());
+        assertEquals(1, retried.getAttempts());
+        assertEquals("Calendar unavailable", retried.getLastError());
+        assertTrue(retried.getNextAttemptAt().isAfter(Instant.now()));
+        assertNull(interviewRepository.findById(interview.getId()).orElseThrow().getGoogleEventId());
+    }
+
+    @Test
+    void dispatchPending_callRejected_defersWithoutCountingAttempt() {
+        CalendarOutboxEntry entry = enqueue(CalendarOperation.CREATE_EVENT, null);
+        when(calendarServiceClient.createEvent(any()))
+                .thenThrow(new CalendarServiceUnavailableException("circuit open", null));
+
+        dispatcher.dispatchPending();
+
+        CalendarOutboxEntry deferred = outboxRepository.findById(entry.getId()).orElseThrow();
+        assertEquals(OutboxStatus.PENDING, deferred.getStatus());
+        assertEquals(0, deferred.getAttempts());
+        assertNull(deferred.getLastError());
+        assertTrue(deferred.getNextAttemptAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void dispatchPending_lastAttemptFails_marksEntryFailed() {
+        CalendarOutboxEntry entry = enqueue(CalendarOperation.CREATE_EVENT, null);
+        entry.setAttempts(properties.getMaxAttempts() - 1);
+        outboxRepository.save(entry);
+        when(calendarServiceClient.createEvent(any())).thenThrow(new RuntimeException("Calendar unavailable"));
+
+        dispatcher.dispatchPending();
+
+        assertEquals(OutboxStatus.FAILED, outboxRepository.findById(entry.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void dispatchPending_clientError_marksEntryFailedWithoutRetry() {
+        CalendarOutboxEntry entry = enqueue(CalendarOperation.UPDATE_EVENT, "gcal-gone");
+        interview.setGoogleEventId("gcal-gone");
+        interviewRepository.save(interview);
+        doThrow(feignError(404)).when(calendarServiceClient).updateEvent(eq("gcal-gone"), any());
+
+        dispatcher.dispatchPending();
+
+        CalendarOutboxEntry failed = outboxRepository.findById(entry.getId()).orElseThrow();
+        assertEquals(OutboxStatus.FAILED, failed.getStatus());
+        assertEquals(1, failed.getAttempts());
+    }
+
+    @Test
+    void isRetryable_retriesServerErrorsThrottlingAndTransportFailures() {
+        assertTrue(CalendarOutboxDispatcher.isRetryable(feignError(503)));
+        assertTrue(CalendarOutboxDispatcher.isRetryable(feignError(429)));
+        assertTrue(CalendarOutboxDispatcher.isRetryable(feignError(408)));
+        assertTrue(CalendarOutboxDispatcher.isRetryable(new RuntimeException("connection reset")));
+        assertFalse(CalendarOutboxDispatcher.isRetryable(feignError(400)));
+        assertFalse(CalendarOutboxDispatcher.isRetryable(feignError(404)));
+    }
+
+    @Test
+    void refreshBacklogMetrics_reportsPendingCount() {
+        enqueue(CalendarOperation.CREATE_EVENT, null);
+
+        dispatcher.refreshBacklogMetrics();
+
+        assertTrue(meterRegistry.get("calendar.outbox.pending").gauge().value() >= 1);
+    }
+
+    @Test
+    void dispatchPending_skipsEntriesNotYetDue() {
+        CalendarOutboxEntry entry = enqueue(CalendarOperation.CREATE_EVENT, null);
+        entry.setNextAttemptAt(Instant.now().plus(1, ChronoUnit.HOURS));
+        outboxRepository.save(entry);
+
+        dispatcher.dispatchPending();
+
+        verifyNoInteractions(calendarServiceClient);
+        assertTrue(outboxRepository.findById(entry.getId()).isPresent());
+    }
+
+    @Test
+    void backoff_growsExponentiallyAndIsCapped() {
+        assertEquals(properties.getInitialBackoff(), dispatcher.backoff(1));
+        assertEquals(properties.getInitialBackoff().multipliedBy(2), dispatcher.backoff(2));
+        assertEquals(properties.getMaxBackoff(), dispatcher.backoff(50));
+        assertTrue(dispatcher.backoff(50).compareTo(Duration.ZERO) > 0);
+    }
+
+    private static FeignException feignError(int status) {
+        Request request = Request.create(Request.HttpMethod.PUT, "http://calendar-service/events/gcal-gone", Map.of(),
+                null, StandardCharsets.UTF_8, null);
+        return FeignException.errorStatus("CalendarServiceClient#updateEvent",
+                Response.builder().request(request).status(status).headers(Map.of()).build());
+    }
+}
@@ -0,0 +1,52 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.config.EmailPublisherProperties;
+import com.gm2dev.shared.email.EmailMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailOutboxCipherTest {
+
+    private static final EmailMessage MESSAGE =
+            new EmailMessage.TemporaryPasswordEmailMessage("user@example.com", "s3cret-Temp-Pass");
+
+    private final EmailOutboxCipher cipher = cipher("test-email-outbox-secret-at-least-32-bytes");
+
+    @Test
+    void encrypt_roundTripsWithoutCleartextSecrets() {
+        String payload = cipher.encrypt(MESSAGE);
+
+        assertFalse(new String(Base64.getDecoder().decode(payload)).contains("s3cret-Temp-Pass"));
+        assertEquals(MESSAGE, cipher.decrypt(payload));
+    }
+
+    @Test
+    void encrypt_usesFreshIvPerPayload() {
+        assertNotEquals(cipher.encrypt(MESSAGE), cipher.encrypt(MESSAGE));
+    }
+
+    @Test
+    void decrypt_tamperedOrForeignPayload_throwsIllegalArgument() {
+        byte[] sealed = Base64.getDecoder().decode(cipher.encrypt(MESSAGE));
+        sealed[sealed.length - 1] ^= 1;
+
+        assertThrows(IllegalArgumentException.class, () -> cipher.decrypt(Base64.getEncoder().encodeToString(sealed)));
+        assertThrows(IllegalArgumentException.class,
+                () -> cipher("another-email-outbox-secret-of-32-bytes").decrypt(cipher.encrypt(MESSAGE)));
+        assertThrows(IllegalArgumentException.class, () -> cipher.decrypt("{\"type\":\"VERIFICATION\"}"));
+    }
+
+    @Test
+    void constructor_shortSecret_isRejected() {
+        assertThrows(IllegalStateException.class, () -> cipher("too-short"));
+    }
+
+    private static EmailOutboxCipher cipher(String secret) {
+        EmailPublisherProperties properties = new EmailPublisherProperties();
+        properties.setPayloadSecret(secret);
+        return new EmailOutboxCipher(properties);
+    }
+}
@@ -0,0 +1,93 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.config.EmailPublisherProperties;
+import com.gm2dev.interview_hub.domain.EmailOutboxEntry;
+import com.gm2dev.interview_hub.domain.OutboxStatus;
+import com.gm2dev.interview_hub.repository.EmailOutboxRepository;
+import com.gm2dev.shared.email.EmailMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailPublisherTest {
+
+    private static final EmailMessage MESSAGE = new EmailMessage.PasswordResetEmailMessage("user@example.com", "token");
+
+    @Mock
+    private EmailOutboxRepository outboxRepository;
+
+    @Mock
+    private BatchingEmailSender sender;
+
+    private EmailOutboxCipher cipher;
+    private EmailPublisher emailPublisher;
+
+    @BeforeEach
+    void setUp() {
+        EmailPublisherProperties properties = new EmailPublisherProperties();
+        properties.setPayloadSecret("test-email-outbox-secret-at-least-32-bytes");
+        cipher = new EmailOutboxCipher(properties);
+        emailPublisher = new EmailPublisher(outboxRepository, cipher, sender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publish_writesEncryptedMessageToOutbox() {
+        emailPublisher.publish(MESSAGE);
+
+        ArgumentCaptor<EmailOutboxEntry> captor = ArgumentCaptor.forClass(EmailOutboxEntry.class);
+        verify(outboxRepository).save(captor.capture());
+        EmailOutboxEntry entry = captor.getValue();
+        assertEquals("PASSWORD_RESET", entry.getEmailType());
+        assertEquals(OutboxStatus.PENDING, entry.getStatus());
+        assertFalse(entry.getPayload().contains("user@example.com"));
+        assertEquals(MESSAGE, cipher.decrypt(entry.getPayload()));
+    }
+
+    @Test
+    void publish_outsideTransaction_wakesSenderImmediately() {
+        emailPublisher.publish(MESSAGE);
+
+        verify(sender).wakeUp();
+    }
+
+    @Test
+    void publish_insideTransaction_wakesSenderAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        emailPublisher.publish(MESSAGE);
+        verify(outboxRepository).save(any());
+        verifyNoInteractions(sender);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(sender).wakeUp();
+    }
+
+    @Test
+    void publish_rolledBackTransaction_neverWakesSender() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        emailPublisher.publish(MESSAGE);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(sender);
+    }
+}
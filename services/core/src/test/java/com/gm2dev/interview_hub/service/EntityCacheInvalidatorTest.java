@@ -0,0 +1,212 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.client.CalendarServiceClient;
+import com.gm2dev.interview_hub.domain.CachedEntity;
+import com.gm2dev.interview_hub.domain.Candidate;
+import com.gm2dev.interview_hub.domain.Interview;
+import com.gm2dev.interview_hub.domain.InterviewStatus;
+import com.gm2dev.interview_hub.domain.Profile;
+import com.gm2dev.interview_hub.domain.Role;
+import com.gm2dev.interview_hub.dto.CacheInvalidationMessage;
+import com.gm2dev.interview_hub.repository.CandidateRepository;
+import com.gm2dev.interview_hub.repository.InterviewRepository;
+import com.gm2dev.interview_hub.repository.ProfileRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Runs without a test-managed transaction: second-level cache puts and after-commit evictions
+ * only happen when real transactions commit. The cache-invalidation binding is disabled in the
+ * test profile, so the publisher is a mock.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EntityCacheInvalidatorTest {
+
+    @Autowired
+    private EntityCacheInvalidator invalidator;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private CalendarServiceClient calendarServiceClient;
+
+    @MockitoBean
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    private TransactionTemplate tx;
+    private Cache cache;
+    private UUID profileId;
+    private UUID candidateId;
+    private UUID interviewId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        cache = entityManagerFactory.getCache();
+        profileId = profileRepository.save(
+                new Profile(UUID.randomUUID(), "cache-" + UUID.randomUUID() + "@example.com", Role.interviewer)).getId();
+        candidateId = candidateRepository.save(
+                new Candidate(null, "Cache Candidate", "cache-candidate@example.com", null, null, null)).getId();
+        interviewId = interviewRepository.save(newInterview()).getId();
+        cache.evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        interviewRepository.deleteById(interviewId);
+        candidateRepository.deleteById(candidateId);
+        profileRepository.deleteById(profileId);
+    }
+
+    @Test
+    void findById_populatesCacheForProfilesAndCandidates() {
+        tx.executeWithoutResult(status -> {
+            profileRepository.findById(profileId);
+            candidateRepository.findById(candidateId);
+        });
+
+        assertTrue(cache.contains(Profile.class, profileId));
+        assertTrue(cache.contains(Candidate.class, candidateId));
+    }
+
+    @Test
+    void findById_populatesCacheForInterviews() {
+        tx.executeWithoutResult(status -> interviewRepository.findById(interviewId));
+
+        assertTrue(cache.contains(Interview.class, interviewId));
+    }
+
+    @Test
+    void evictProfile_outsideTransaction_evictsImmediately() {
+        tx.executeWithoutResult(status -> profileRepository.findById(profileId));
+
+        invalidator.evictProfile(profileId);
+
+        assertFalse(cache.contains(Profile.class, profileId));
+        verify(cacheInvalidationPublisher).publish(new CacheInvalidationMessage(CachedEntity.PROFILE, profileId));
+    }
+
+    @Test
+    void evictCandidate_insideTransaction_waitsForCommit() {
+        tx.executeWithoutResult(status -> candidateRepository.findById(candidateId));
+
+        tx.executeWithoutResult(status -> {
+            invalidator.evictCandidate(candidateId);
+            assertTrue(cache.contains(Candidate.class, candidateId));
+            verifyNoInteractions(cacheInvalidationPublisher);
+        });
+
+        assertFalse(cache.contains(Candidate.class, candidateId));
+        verify(cacheInvalidationPublisher).publish(new CacheInvalidationMessage(CachedEntity.CANDIDATE, candidateId));
+    }
+
+    @Test
+    void evictProfile_rolledBackTransaction_keepsEntry() {
+        tx.executeWithoutResult(status -> profileRepository.findById(profileId));
+
+        tx.executeWithoutResult(status -> {
+            invalidator.evictProfile(profileId);
+            status.setRollbackOnly();
+        });
+
+        assertTrue(cache.contains(Profile.class, profileId));
+        verifyNoInteractions(cacheInvalidationPublisher);
+    }
+
+    @Test
+    void evictLocally_doesNotRebroadcast() {
+        tx.executeWithoutResult(status -> profileRepository.findById(profileId));
+
+        invalidator.evictLocally(CachedEntity.PROFILE, profileId);
+
+        assertFalse(cache.contains(Profile.class, profileId));
+        verifyNoInteractions(cacheInvalidationPublisher);
+    }
+
+    @Test
+    void evictInterview_evictsAndPublishesInterviewKey() {
+        tx.executeWithoutResult(status -> interviewRepository.findById(interviewId));
+
+        invalidator.evictInterview(interviewId);
+
+        assertFalse(cache.contains(Interview.class, interviewId));
+        verify(cacheInvalidationPublisher).publish(new CacheInvalidationMessage(CachedEntity.INTERVIEW, interviewId));
+    }
+
+    @Test
+    void profileUpdate_evictsAndPublishesAfterCommitWithoutExplicitCall() {
+        tx.executeWithoutResult(status -> profileRepository.findById(profileId));
+
+        tx.executeWithoutResult(status -> {
+            Profile profile = profileRepository.findById(profileId).orElseThrow();
+            profile.setEmailVerified(true);
+            profileRepository.saveAndFlush(profile);
+            verifyNoInteractions(cacheInvalidationPublisher);
+        });
+
+        verify(cacheInvalidationPublisher).publish(new CacheInvalidationMessage(CachedEntity.PROFILE, profileId));
+        assertTrue(tx.execute(status -> profileRepository.findById(profileId).orElseThrow().isEmailVerified()));
+    }
+
+    @Test
+    void rolledBackUpdate_publishesNothing() {
+        tx.executeWithoutResult(status -> {
+            Candidate candidate = candidateRepository.findById(candidateId).orElseThrow();
+            candidate.setName("Renamed");
+            candidateRepository.saveAndFlush(candidate);
+            status.setRollbackOnly();
+        });
+
+        verifyNoInteractions(cacheInvalidationPublisher);
+    }
+
+    @Test
+    void interviewDelete_publishesInterviewKey() {
+        interviewRepository.deleteById(interviewId);
+
+        verify(cacheInvalidationPublisher).publish(new CacheInvalidationMessage(CachedEntity.INTERVIEW, interviewId));
+        interviewId = interviewRepository.save(newInterview()).getId();
+    }
+
+    private Interview newInterview() {
+        Interview interview = new Interview();
+        interview.setInterviewer(profileRepository.findById(profileId).orElseThrow());
+        interview.setCandidate(candidateRepository.findById(candidateId).orElseThrow());
+        interview.setTechStack("Java");
+        interview.setStartTime(Instant.now().plus(1, ChronoUnit.DAYS));
+        interview.setEndTime(Instant.now().plus(1, ChronoUnit.DAYS).plus(1, ChronoUnit.HOURS));
+        interview.setStatus(InterviewStatus.SCHEDULED);
+        return interview;
+    }
+}
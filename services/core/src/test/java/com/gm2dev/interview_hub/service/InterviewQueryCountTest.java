@@ -0,0 +1,171 @@
+package com.gm2dev.interview_hub.service;
+
+import com.gm2dev.interview_hub.client.CalendarServiceClient;
+import com.gm2dev.interview_hub.domain.Candidate;
+import com.gm2dev.interview_hub.domain.Interview;
+import com.gm2dev.interview_hub.domain.InterviewStatus;
+import com.gm2dev.interview_hub.domain.Profile;
+import com.gm2dev.interview_hub.domain.Role;
+import com.gm2dev.interview_hub.domain.ShadowingRequest;
+import com.gm2dev.interview_hub.domain.ShadowingRequestStatus;
+import com.gm2dev.interview_hub.dto.InterviewDto;
+import com.gm2dev.interview_hub.dto.InterviewSummaryDto;
+import com.gm2dev.interview_hub.mapper.InterviewMapper;
+import com.gm2dev.interview_hub.repository.CandidateRepository;
+import com.gm2dev.interview_hub.repository.InterviewRepository;
+import com.gm2dev.interview_hub.repository.ProfileRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the interview endpoints against N+1 loading: each read path is mapped to DTOs exactly
+ * as the controller does, and the number of SQL statements must not grow with the number of rows.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Rollback
+class InterviewQueryCountTest {
+
+    private static final Instant BASE = Instant.parse("2031-03-01T09:00:00Z");
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private InterviewMapper interviewMapper;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private CalendarServiceClient calendarServiceClient;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void listEndpoint_statementCountIsIndependentOfRowCount() {
+        createInterviews(2);
+        long small = countStatements(() -> interviewService.findAll(PageRequest.of(0, 20)).map(interviewMapper::toDto).getContent());
+
+        createInterviews(6);
+        long large = countStatements(() -> interviewService.findAll(PageRequest.of(0, 20)).map(interviewMapper::toDto).getContent());
+
+        assertEquals(small, large);
+        assertTrue(large <= 4, "list endpoint issued " + large + " statements");
+    }
+
+    @Test
+    void rangeEndpoint_statementCountIsIndependentOfRowCount() {
+        createInterviews(2);
+        long small = countStatements(() -> interviewService.findInRange(BASE, BASE.plus(30, ChronoUnit.DAYS), null, 50)
+                .map(interviewMapper::toDto).getContent());
+
+        createInterviews(6);
+        long large = countStatements(() -> interviewService.findInRange(BASE, BASE.plus(30, ChronoUnit.DAYS), null, 50)
+                .map(interviewMapper::toDto).getContent());
+
+        assertEquals(small, large);
+        assertTrue(large <= 3, "range endpoint issued " + large + " statements");
+    }
+
+    @Test
+    void detailEndpoint_loadsEverythingInOneStatement() {
+        UUID id = createInterviews(1).getFirst().getId();
+
+        long statements = countStatements(() -> List.of(interviewMapper.toDto(interviewService.findById(id))));
+
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void summaryEndpoint_usesOneStatementAndManagesNoEntities() {
+        createInterviews(3);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Page<InterviewSummaryDto> page = interviewService.findAllSummaries(PageRequest.of(0, 20, Sort.by("startTime")));
+
+        assertEquals(3, page.getNumberOfElements());
+        assertEquals(BASE.plus(1, ChronoUnit.HOURS), page.getContent().getFirst().getStartTime());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    private long countStatements(Supplier<List<InterviewDto>> endpoint) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        List<InterviewDto> result = endpoint.get();
+        assertFalse(result.isEmpty());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Interview> createInterviews(int count) {
+        List<Interview> interviews = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Profile interviewer = profileRepository.save(
+                    new Profile(UUID.randomUUID(), "qc-interviewer-" + UUID.randomUUID() + "@example.com", Role.interviewer));
+            Profile ta = profileRepository.save(
+                    new Profile(UUID.randomUUID(), "qc-ta-" + UUID.randomUUID() + "@example.com", Role.admin));
+            Profile shadower = profileRepository.save(
+                    new Profile(UUID.randomUUID(), "qc-shadower-" + UUID.randomUUID() + "@example.com", Role.interviewer));
+            Candidate candidate = candidateRepository.save(
+                    new Candidate(null, "QC Candidate", "qc-" + UUID.randomUUID() + "@example.com", null, null, null));
+
+            Interview interview = new Interview();
+            interview.setInterviewer(interviewer);
+            interview.setCandidate(candidate);
+            interview.setTalentAcquisition(ta);
+            interview.setTechStack("Java");
+            interview.setStartTime(BASE.plus(interviews.size() + 1L, ChronoUnit.HOURS));
+            interview.setEndTime(BASE.plus(interviews.size() + 2L, ChronoUnit.HOURS));
+            interview.setStatus(InterviewStatus.SCHEDULED);
+            interview.getShadowingRequests().add(
+                    new ShadowingRequest(null, interview, shadower, ShadowingRequestStatus.PENDING, null));
+            interviews.add(interviewRepository.save(interview));
+        }
+        return interviews;
+    }
+}
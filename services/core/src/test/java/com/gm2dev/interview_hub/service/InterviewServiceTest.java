@@ -1,17 +1,20 @@
 package com.gm2dev.interview_hub.service;
 
 import com.gm2dev.interview_hub.client.CalendarServiceClient;
+import com.gm2dev.interview_hub.domain.CalendarOperation;
+import com.gm2dev.interview_hub.domain.CalendarOutboxEntry;
 import com.gm2dev.interview_hub.domain.Candidate;
 import com.gm2dev.interview_hub.domain.Interview;
 import com.gm2dev.interview_hub.domain.InterviewStatus;
 import com.gm2dev.interview_hub.domain.Profile;
 import com.gm2dev.interview_hub.domain.Role;
 import com.gm2dev.interview_hub.dto.CreateInterviewRequest;
+import com.gm2dev.interview_hub.dto.InterviewCursor;
 import com.gm2dev.interview_hub.dto.UpdateInterviewRequest;
+import com.gm2dev.interview_hub.repository.CalendarOutboxRepository;
 import com.gm2dev.interview_hub.repository.CandidateRepository;
 import com.gm2dev.interview_hub.repository.InterviewRepository;
 import com.gm2dev.interview_hub.repository.ProfileRepository;
-import com.gm2dev.shared.calendar.CalendarEventResponse;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -27,10 +31,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
@@ -51,6 +55,9 @@ class InterviewServiceTest {
     @Autowired
     private CandidateRepository candidateRepository;
 
+    @Autowired
+    private CalendarOutboxRepository calendarOutboxRepository;
+
     @MockitoBean
     private CalendarServiceClient calendarServiceClient;
 
@@ -228,7 +235,7 @@ class InterviewServiceTest {
     }
 
     @Test
-    void createInterview_calendarSuccess_setsGoogleEventId() throws Exception {
+    void createInterview_enqueuesCalendarCreateWithoutCallingCalendarService() {
         UUID profileId = UUID.randomUUID();
         Profile interviewer = new Profile(profileId, "cal@example.com", Role.interviewer);
         profileRepository.save(interviewer);
@@ -238,19 +245,20 @@ class InterviewServiceTest {
         Instant start = Instant.now().plus(1, ChronoUnit.DAYS);
         Instant end = start.plus(1, ChronoUnit.HOURS);
 
-        when(calendarServiceClient.createEvent(any()))
-                .thenReturn(new CalendarEventResponse("gcal-event-123", null));
-
         Interview result = interviewService.createInterview(
                 new CreateInterviewRequest(profileId, candidate.getId(), null, "Java", start, end));
 
-        assertEquals("gcal-event-123", result.getGoogleEventId());
+        assertNull(result.getGoogleEventId());
+        List<CalendarOutboxEntry> outbox = calendarOutboxRepository.findByInterviewId(result.getId());
+        assertEquals(1, outbox.size());
+        assertEquals(CalendarOperation.CREATE_EVENT, outbox.get(0).getOperation());
+        verifyNoInteractions(calendarServiceClient);
     }
 
     @Test
-    void createInterview_calendarFailure_stillCreatesInterview() throws Exception {
+    void updateInterview_withGoogleEventId_enqueuesCalendarUpdate() {
         UUID profileId = UUID.randomUUID();
-        Profile interviewer = new Profile(profileId, "calfail@example.com", Role.interviewer);
+        Profile interviewer = new Profile(profileId, "upd-cal@example.com", Role.interviewer);
         profileRepository.save(interviewer);
 
         Candidate candidate = createTestCandidate();
@@ -258,20 +266,27 @@ class InterviewServiceTest {
         Instant start = Instant.now().plus(1, ChronoUnit.DAYS);
         Instant end = start.plus(1, ChronoUnit.HOURS);
 
-        when(calendarServiceClient.createEvent(any()))
-                .thenThrow(new RuntimeException("Calendar unavailable"));
-
-        Interview result = interviewService.createInterview(
+        Interview created = interviewService.createInterview(
                 new CreateInterviewRequest(profileId, candidate.getId(), null, "Java", start, end));
+        created.setGoogleEventId("gcal-upd-event");
+        interviewRepository.save(created);
 
-        assertNotNull(result.getId());
-        assertNull(result.getGoogleEventId());
+        Instant newStart = Instant.now().plus(2, ChronoUnit.DAYS);
+        Instant newEnd = newStart.plus(1, ChronoUnit.HOURS);
+
+        interviewService.updateInterview(created.getId(), new UpdateInterviewRequest(
+                candidate.getId(), null, "Kotlin", newStart, newEnd, InterviewStatus.SCHEDULED), profileId);
+
+        assertTrue(calendarOutboxRepository.findByInterviewId(created.getId()).stream()
+                .anyMatch(e -> e.getOperation() == CalendarOperation.UPDATE_EVENT
+                        && "gcal-upd-event".equals(e.getGoogleEventId())));
+        verifyNoInteractions(calendarServiceClient);
     }
 
     @Test
-    void updateInterview_withGoogleEventId_callsCalendarUpdate() throws Exception {
+    void updateInterview_withoutGoogleEventId_stillEnqueuesUpdate() {
         UUID profileId = UUID.randomUUID();
-        Profile interviewer = new Profile(profileId, "upd-cal@example.com", Role.interviewer);
+        Profile interviewer = new Profile(profileId, "upd-nocal@example.com", Role.interviewer);
         profileRepository.save(interviewer);
 
         Candidate candidate = createTestCandidate();
@@ -279,23 +294,18 @@ class InterviewServiceTest {
         Instant start = Instant.now().plus(1, ChronoUnit.DAYS);
         Instant end = start.plus(1, ChronoUnit.HOURS);
 
-        when(calendarServiceClient.createEvent(any()))
-                .thenReturn(new CalendarEventResponse("gcal-upd-event", null));
-
         Interview created = interviewService.createInterview(
                 new CreateInterviewRequest(profileId, candidate.getId(), null, "Java", start, end));
 
-        Instant newStart = Instant.now().plus(2, ChronoUnit.DAYS);
-        Instant newEnd = newStart.plus(1, ChronoUnit.HOURS);
-
         interviewService.updateInterview(created.getId(), new UpdateInterviewRequest(
-                candidate.getId(), null, "Kotlin", newStart, newEnd, InterviewStatus.SCHEDULED), profileId);
+                candidate.getId(), null, "Kotlin", start, end, InterviewStatus.SCHEDULED), profileId);
 
-        verify(calendarServiceClient).updateEvent(any(), any());
+        assertTrue(calendarOutboxRepository.findByInterviewId(created.getId()).stream()
+                .anyMatch(e -> e.getOperation() == CalendarOperation.UPDATE_EVENT && e.getGoogleEventId() == null));
     }
 
     @Test
-    void deleteInterview_withGoogleEventId_callsCalendarDelete() throws Exception {
+    void deleteInterview_withGoogleEventId_enqueuesCalendarDelete() {
         UUID profileId = UUID.randomUUID();
         Profile interviewer = new Profile(profileId, "del-cal@example.com", Role.interviewer);
         profileRepository.save(interviewer);
@@ -305,15 +315,17 @@ class InterviewServiceTest {
         Instant start = Instant.now().plus(1, ChronoUnit.DAYS);
         Instant end = start.plus(1, ChronoUnit.HOURS);
 
-        when(calendarServiceClient.createEvent(any()))
-                .thenReturn(new CalendarEventResponse("gcal-del-event", null));
-
         Interview created = interviewService.createInterview(
                 new CreateInterviewRequest(profileId, candidate.getId(), null, "Rust", start, end));
+        created.setGoogleEventId("gcal-del-event");
+        interviewRepository.save(created);
 
         interviewService.deleteInterview(created.getId(), profileId);
 
-        verify(calendarServiceClient).deleteEvent(eq("gcal-del-event"));
+        assertTrue(calendarOutboxRepository.findByInterviewId(created.getId()).stream()
+                .anyMatch(e -> e.getOperation() == CalendarOperation.DELETE_EVENT
+                        && "gcal-del-event".equals(e.getGoogleEventId())));
+        verifyNoInteractions(calendarServiceClient);
     }
 
     @Test
@@ -411,4 +423,88 @@ class InterviewServiceTest {
         assertNotNull(result.getTalentAcquisition());
         assertEquals(taId, result.getTalentAcquisition().getId());
     }
+
+    @Test
+    void findInRange_pagesThroughRangeInStartTimeOrder() {
+        UUID profileId = UUID.randomUUID();
+        profileRepository.save(new Profile(profileId, "range@example.com", Role.interviewer));
+        Candidate candidate = createTestCandidate();
+
+        Instant base = Instant.parse("2030-01-01T10:00:00Z");
+        for (int i = 0; i < 5; i++) {
+            Instant start = base.plus(i, ChronoUnit.HOURS);
+            interviewService.createInterview(new CreateInterviewRequest(
+                    profileId, candidate.getId(), null, "Stack " + i, start, start.plus(30, ChronoUnit.MINUTES)));
+        }
+        // Outside the range: must never be returned
+        interviewService.createInterview(new CreateInterviewRequest(profileId, candidate.getId(), null, "Late",
+                base.plus(1, ChronoUnit.DAYS), base.plus(1, ChronoUnit.DAYS).plus(1, ChronoUnit.HOURS)));
+
+        Instant to = base.plus(5, ChronoUnit.HOURS);
+        Slice<Interview> first = interviewService.findInRange(base, to, null, 2);
+        assertEquals(List.of("Stack 0", "Stack 1"), first.getContent().stream().map(Interview::getTechStack).toList());
+        assertTrue(first.hasNext());
+
+        Interview last = first.getContent().getLast();
+        Slice<Interview> second = interviewService.findInRange(base, to,
+                new InterviewCursor(last.getStartTime(), last.getId()), 2);
+        assertEquals(List.of("Stack 2", "Stack 3"), second.getContent().stream().map(Interview::getTechStack).toList());
+
+        last = second.getContent().getLast();
+        Slice<Interview> third = interviewService.findInRange(base, to,
+                new InterviewCursor(last.getStartTime(), last.getId()), 2);
+        assertEquals(List.of("Stack 4"), third.getContent().stream().map(Interview::getTechStack).toList());
+        assertFalse(third.hasNext());
+    }
+
+    @Test
+    void findInRange_withSameStartTime_breaksTiesById() {
+        UUID profileId = UUID.randomUUID();
+        profileRepository.save(new Profile(profileId, "range-tie@example.com", Role.interviewer));
+        Candidate candidate = createTestCandidate();
+
+        Instant start = Instant.parse("2031-03-01T09:00:00Z");
+        for (int i = 0; i < 3; i++) {
+            interviewService.createInterview(new CreateInterviewRequest(
+                    profileId, candidate.getId(), null, "Tie " + i, start, start.plus(1, ChronoUnit.HOURS)));
+        }
+
+        Instant to = start.plus(1, ChronoUnit.MINUTES);
+        Slice<Interview> first = interviewService.findInRange(start, to, null, 2);
+        Interview last = first.getContent().getLast();
+        Slice<Interview> second = interviewService.findInRange(start, to,
+                new InterviewCursor(last.getStartTime(), last.getId()), 2);
+
+        assertEquals(2, first.getContent().size());
+        assertEquals(1, second.getContent().size());
+        assertTrue(first.getContent().stream().noneMatch(i -> i.getId().equals(second.getContent().get(0).getId())));
+    }
+
+    @Test
+    void findInRange_withCursorBeforeFrom_staysWithinRange() {
+        UUID profileId = UUID.randomUUID();
+        profileRepository.save(new Profile(profileId, "range-stale@example.com", Role.interviewer));
+        Candidate candidate = createTestCandidate();
+
+        Instant base = Instant.parse("2032-05-01T10:00:00Z");
+        for (int i = 0; i < 3; i++) {
+            Instant start = base.plus(i, ChronoUnit.HOURS);
+            interviewService.createInterview(new CreateInterviewRequest(
+                    profileId, candidate.getId(), null, "Stale " + i, start, start.plus(30, ChronoUnit.MINUTES)));
+        }
+
+        // A cursor from an earlier query must not reach back before the requested 'from'.
+        InterviewCursor stale = new InterviewCursor(base.minus(1, ChronoUnit.DAYS), UUID.randomUUID());
+        Slice<Interview> slice = interviewService.findInRange(base.plus(1, ChronoUnit.HOURS),
+                base.plus(3, ChronoUnit.HOURS), stale, 10);
+
+        assertEquals(List.of("Stale 1", "Stale 2"), slice.getContent().stream().map(Interview::getTechStack).toList());
+    }
+
+    @Test
+    void findInRange_withToNotAfterFrom_throwsInvalidRangeException() {
+        Instant from = Instant.parse("2030-01-01T10:00:00Z");
+        assertThrows(InvalidRangeException.class,
+                () -> interviewService.findInRange(from, from, null, 10));
+    }
 }
@@ -1,9 +1,11 @@
 package com.gm2dev.interview_hub.service;
 
 import com.gm2dev.interview_hub.client.CalendarServiceClient;
+import com.gm2dev.interview_hub.client.CalendarServiceUnavailableException;
 import com.gm2dev.interview_hub.domain.*;
 import com.gm2dev.shared.calendar.AttendeeRequest;
 import com.gm2dev.shared.email.EmailMessage;
+import com.gm2dev.interview_hub.repository.CalendarOutboxRepository;
 import com.gm2dev.interview_hub.repository.CandidateRepository;
 import com.gm2dev.interview_hub.repository.InterviewRepository;
 import com.gm2dev.interview_hub.repository.ProfileRepository;
@@ -28,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 
 @SpringBootTest
@@ -51,6 +54,9 @@ class ShadowingRequestServiceTest {
     @Autowired
     private CandidateRepository candidateRepository;
 
+    @Autowired
+    private CalendarOutboxRepository calendarOutboxRepository;
+
     @MockitoBean
     private CalendarServiceClient calendarServiceClient;
 
@@ -184,6 +190,36 @@ class ShadowingRequestServiceTest {
                 eq("gcal-shadow-event"), any(AttendeeRequest.class));
     }
 
+    @Test
+    void approveShadowingRequest_calendarUnavailable_queuesEventUpdate() {
+        interview.setGoogleEventId("gcal-shadow-unavailable");
+        interview = interviewRepository.save(interview);
+        doThrow(new CalendarServiceUnavailableException("circuit open", null))
+                .when(calendarServiceClient).addAttendee(eq("gcal-shadow-unavailable"), any(AttendeeRequest.class));
+
+        ShadowingRequest request = shadowingRequestService.requestShadowing(interview.getId(), shadower.getId());
+        ShadowingRequest approved = shadowingRequestService.approveShadowingRequest(request.getId(), interviewer.getId());
+
+        assertEquals(ShadowingRequestStatus.APPROVED, approved.getStatus());
+        CalendarOutboxEntry queued = calendarOutboxRepository.findByInterviewId(interview.getId()).getFirst();
+        assertEquals(CalendarOperation.UPDATE_EVENT, queued.getOperation());
+        assertEquals("gcal-shadow-unavailable", queued.getGoogleEventId());
+    }
+
+    @Test
+    void rejectShadowingRequest_whenApprovedAndCalendarFails_queuesEventUpdate() {
+        interview.setGoogleEventId("gcal-reject-failing");
+        interview = interviewRepository.save(interview);
+        doThrow(new RuntimeException("Read timed out"))
+                .when(calendarServiceClient).removeAttendee(eq("gcal-reject-failing"), any(AttendeeRequest.class));
+
+        ShadowingRequest request = shadowingRequestService.requestShadowing(interview.getId(), shadower.getId());
+        shadowingRequestService.approveShadowingRequest(request.getId(), interviewer.getId());
+        shadowingRequestService.rejectShadowingRequest(request.getId(), "reason", interviewer.getId());
+
+        assertEquals(1, calendarOutboxRepository.findByInterviewId(interview.getId()).size());
+    }
+
     @Test
     void cancelShadowingRequest_byNonShadower_throwsAccessDeniedException() {
         ShadowingRequest request = shadowingRequestService.requestShadowing(interview.getId(), shadower.getId());
@@ -0,0 +1,45 @@
+package com.gm2dev.notification_service;
+
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Declares the retry and parking topology next to the binder-managed email queue.
+ *
+ * <p>Each attempt has a direct exchange and a delay queue of the same name, bound once per
+ * {@link EmailLane} with the lane's queue name as key. Messages carry their delay as a per-message
+ * expiration (uniform within a queue, so nothing waits behind a longer TTL) and dead-letter
+ * through the default exchange with their original routing key, i.e. straight back to their lane.
+ * Keeping the TTL off the queue arguments means changing the back-off never conflicts with an
+ * already declared queue.
+ */
+@Configuration
+public class DeadLetterConfig {
+
+    @Bean
+    public Declarables emailRetryTopology(EmailDeliveryProperties properties) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (int attempt = 1; attempt < properties.maxAttempts(); attempt++) {
+            DirectExchange exchange = new DirectExchange(EmailRetryPublisher.retryTier(attempt));
+            Queue delay = QueueBuilder.durable(EmailRetryPublisher.retryTier(attempt))
+                    .deadLetterExchange("")
+                    .build();
+            declarables.add(exchange);
+            declarables.add(delay);
+            for (EmailLane lane : EmailLane.values()) {
+                declarables.add(BindingBuilder.bind(delay).to(exchange).with(lane.queue()));
+            }
+        }
+        declarables.add(QueueBuilder.durable(EmailRetryPublisher.PARKED_QUEUE).build());
+        return new Declarables(declarables);
+    }
+}
@@ -0,0 +1,17 @@
+package com.gm2dev.notification_service;
+
+import java.time.Instant;
+
+/**
+ * Durable record of delivered message IDs that {@link EmailDeduplicator} consults behind its
+ * in-memory window, so deduplication survives restarts and is shared between instances. Define a
+ * bean of this type to enable it; without one only the in-memory window and Resend's idempotency
+ * keys apply.
+ */
+public interface DeliveredEmailStore {
+
+    boolean contains(String messageId);
+
+    /** Records a delivered message; entries may be discarded once {@code expiresAt} has passed. */
+    void record(String messageId, Instant expiresAt);
+}
@@ -1,21 +1,164 @@
 package com.gm2dev.notification_service;
 
 import com.gm2dev.shared.email.EmailMessage;
+import com.gm2dev.shared.email.EmailMessageCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
+/**
+ * Consumes each {@link EmailLane} from its own queue in batches (see {@code batch-size} and
+ * {@code receive-timeout} on the lane bindings) and delivers first attempts through Resend's batch
+ * endpoint and retries one by one (see {@link ResendEmailSender#sendEach}), skipping messages
+ * {@link EmailDeduplicator} has already seen delivered. Emails that
+ * fail, or that are in a format version this instance cannot read, are handed to
+ * {@link EmailRetryPublisher}, so the batch is always acknowledged and the consumer never sleeps
+ * through a back-off.
+ *
+ * <p>Lanes take raw payloads and decode them here with {@link EmailMessageCodec}: the binder
+ * converts every message of a batch with the batch's headers, so only this loop can match a
+ * message to its own version header under {@link AmqpHeaders#BATCHED_HEADERS}.
+ */
 @Configuration
 @Slf4j
+@EnableConfigurationProperties(EmailDeliveryProperties.class)
 public class EmailConsumer {
 
+    private final ResendEmailSender sender;
+    private final EmailRetryPublisher retryPublisher;
+    private final EmailDeduplicator deduplicator;
+    private final MeterRegistry meterRegistry;
+
+    public EmailConsumer(ResendEmailSender sender, EmailRetryPublisher retryPublisher,
+                         EmailDeduplicator deduplicator, MeterRegistry meterRegistry) {
+        this.sender = sender;
+        this.retryPublisher = retryPublisher;
+        this.deduplicator = deduplicator;
+        this.meterRegistry = meterRegistry;
+    }
+
     @Bean
-    public Consumer<EmailMessage> processEmail(ResendEmailSender sender) {
-        return message -> {
-            log.debug("Received {} for {}", message.getClass().getSimpleName(), message.to());
-            sender.send(message);
-        };
+    public Consumer<Message<List<byte[]>>> verificationEmails() {
+        return batch -> deliver(EmailLane.VERIFICATION, batch);
+    }
+
+    @Bean
+    public Consumer<Message<List<byte[]>>> passwordResetEmails() {
+        return batch -> deliver(EmailLane.PASSWORD_RESET, batch);
+    }
+
+    @Bean
+    public Consumer<Message<List<byte[]>>> shadowingApprovedEmails() {
+        return batch -> deliver(EmailLane.SHADOWING_APPROVED, batch);
+    }
+
+    @Bean
+    public Consumer<Message<List<byte[]>>> temporaryPasswordEmails() {
+        return batch -> deliver(EmailLane.TEMPORARY_PASSWORD, batch);
+    }
+
+    /**
+     * Decodes each message of a batch with its own format version. A message this instance
+     * cannot read is parked as received, so it can be replayed once a newer notification-service
+     * is deployed, and the rest of the batch is still delivered.
+     */
+    void deliver(EmailLane lane, Message<List<byte[]>> batch) {
+        List<byte[]> payloads = batch.getPayload();
+        log.debug("Received batch of {} {} emails", payloads.size(), lane.tag());
+        List<Map<?, ?>> headers = batchedHeaders(batch);
+        recordQueueWait(lane, headers);
+
+        List<EmailMessage> messages = new ArrayList<>(payloads.size());
+        List<Map<?, ?>> readHeaders = new ArrayList<>(headers.isEmpty() ? 0 : payloads.size());
+        for (int i = 0; i < payloads.size(); i++) {
+            Map<?, ?> messageHeaders = headers.isEmpty() ? batch.getHeaders() : headers.get(i);
+            try {
+                messages.add(EmailMessageCodec.decode(payloads.get(i), version(messageHeaders)));
+            } catch (IllegalArgumentException e) {
+                retryPublisher.parkUnreadable(lane, payloads.get(i), messageHeaders, e.getMessage());
+                continue;
+            }
+            if (!headers.isEmpty()) {
+                readHeaders.add(messageHeaders);
+            }
+        }
+        deliver(lane, messages, readHeaders);
+    }
+
+    /** Delivers decoded messages; {@code headers} holds their per-message headers, or is empty. */
+    void deliver(EmailLane lane, List<EmailMessage> messages, List<Map<?, ?>> headers) {
+        List<EmailMessage> fresh = deduplicator.undelivered(messages);
+        if (fresh.isEmpty()) {
+            return;
+        }
+        Map<EmailMessage, Integer> attempts = attempts(messages, headers);
+        List<EmailMessage> firstAttempts = new ArrayList<>(fresh.size());
+        List<EmailMessage> retries = new ArrayList<>();
+        for (EmailMessage message : fresh) {
+            (attempts.getOrDefault(message, 1) > 1 ? retries : firstAttempts).add(message);
+        }
+        Set<EmailMessage> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (!firstAttempts.isEmpty()) {
+            failed.addAll(sender.sendBatch(firstAttempts, lane.priority()));
+        }
+        if (!retries.isEmpty()) {
+            failed.addAll(sender.sendEach(retries, lane.priority()));
+        }
+        failed.forEach(message -> retryPublisher.retry(message, attempts.getOrDefault(message, 1)));
+    }
+
+    private void recordQueueWait(EmailLane lane, List<Map<?, ?>> headers) {
+        Timer timer = Timer.builder("email.queue.wait")
+                .description("Time between publishing an email and its lane consuming it")
+                .tag("lane", lane.tag())
+                .register(meterRegistry);
+        long now = System.currentTimeMillis();
+        for (Map<?, ?> messageHeaders : headers) {
+            if (messageHeaders.get(EmailMessage.PUBLISHED_AT_HEADER) instanceof Number publishedAt) {
+                timer.record(Duration.ofMillis(Math.max(0, now - publishedAt.longValue())));
+            }
+        }
+    }
+
+    /** Per-message headers of a consumer-side batch, or an empty list if the binder did not supply them. */
+    static List<Map<?, ?>> batchedHeaders(Message<? extends List<?>> batch) {
+        if (batch.getHeaders().get(AmqpHeaders.BATCHED_HEADERS) instanceof List<?> headers
+                && headers.size() == batch.getPayload().size()) {
+            List<Map<?, ?>> perMessage = new ArrayList<>(headers.size());
+            for (Object entry : headers) {
+                perMessage.add(entry instanceof Map<?, ?> map ? map : Map.of());
+            }
+            return perMessage;
+        }
+        return List.of();
+    }
+
+    /** The message's format version; 1 when the publisher did not set it. */
+    static int version(Map<?, ?> headers) {
+        return headers.get(EmailMessageCodec.VERSION_HEADER) instanceof Number version ? version.intValue() : 1;
+    }
+
+    private static Map<EmailMessage, Integer> attempts(List<EmailMessage> messages, List<Map<?, ?>> headers) {
+        Map<EmailMessage, Integer> attempts = new IdentityHashMap<>();
+        for (int i = 0; i < headers.size(); i++) {
+            if (headers.get(i).get(EmailRetryPublisher.ATTEMPT_HEADER) instanceof Number attempt) {
+                attempts.put(messages.get(i), attempt.intValue());
+            }
+        }
+        return attempts;
     }
 }
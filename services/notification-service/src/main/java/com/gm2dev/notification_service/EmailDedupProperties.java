@@ -0,0 +1,14 @@
+package com.gm2dev.notification_service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Bounds of the delivered-email window. The default window matches the 24 hours for which Resend
+ * honours an idempotency key, so a redelivery older than the window is still deduplicated there.
+ */
+@ConfigurationProperties(prefix = "app.email-dedup")
+public record EmailDedupProperties(@DefaultValue("24h") Duration window,
+                                   @DefaultValue("100000") long maxEntries) {}
@@ -0,0 +1,83 @@
+package com.gm2dev.notification_service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gm2dev.shared.email.EmailMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Remembers the IDs of delivered emails for {@code app.email-dedup.window}, bounded to
+ * {@code max-entries}, so a redelivered message is dropped with a hash lookup instead of another
+ * Resend call. {@link ResendEmailSender} records an ID as soon as Resend accepts the email; a
+ * failed email stays eligible for retry.
+ */
+@Component
+@Slf4j
+@EnableConfigurationProperties(EmailDedupProperties.class)
+public class EmailDeduplicator {
+
+    private final Cache<String, Boolean> delivered;
+    private final DeliveredEmailStore backingStore;
+    private final EmailDedupProperties properties;
+    private final Clock clock;
+
+    public EmailDeduplicator(EmailDedupProperties properties, ObjectProvider<DeliveredEmailStore> backingStore) {
+        this(properties, backingStore.getIfAvailable(), Clock.systemUTC());
+    }
+
+    EmailDeduplicator(EmailDedupProperties properties, DeliveredEmailStore backingStore, Clock clock) {
+        this.properties = properties;
+        this.backingStore = backingStore;
+        this.clock = clock;
+        this.delivered = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .expireAfterWrite(properties.window())
+                .build();
+    }
+
+    /** Returns the messages not yet delivered, keeping only the first of any repeated ID. */
+    public List<EmailMessage> undelivered(List<EmailMessage> messages) {
+        List<EmailMessage> fresh = new ArrayList<>(messages.size());
+        Set<String> seen = new HashSet<>();
+        for (EmailMessage message : messages) {
+            if (!seen.add(message.messageId()) || isDelivered(message.messageId())) {
+                log.debug("Skipping duplicate {} email {} to {}",
+                        message.getClass().getSimpleName(), message.messageId(), message.to());
+                continue;
+            }
+            fresh.add(message);
+        }
+        return fresh;
+    }
+
+    public void markDelivered(EmailMessage message) {
+        delivered.put(message.messageId(), Boolean.TRUE);
+        if (backingStore != null) {
+            backingStore.record(message.messageId(), clock.instant().plus(properties.window()));
+        }
+    }
+
+    public boolean isDelivered(EmailMessage message) {
+        return isDelivered(message.messageId());
+    }
+
+    private boolean isDelivered(String messageId) {
+        if (delivered.getIfPresent(messageId) != null) {
+            return true;
+        }
+        if (backingStore != null && backingStore.contains(messageId)) {
+            delivered.put(messageId, Boolean.TRUE);
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,22 @@
+package com.gm2dev.notification_service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Retry policy for emails that fail delivery. Failed messages wait in delay queues
+ * ({@code backoff} doubling per attempt, capped at {@code maxBackoff}) and are parked in the
+ * dead-letter queue after {@code maxAttempts} deliveries.
+ */
+@ConfigurationProperties(prefix = "app.email-delivery")
+public record EmailDeliveryProperties(@DefaultValue("5") int maxAttempts,
+                                      @DefaultValue("30s") Duration backoff,
+                                      @DefaultValue("15m") Duration maxBackoff) {
+
+    Duration backoff(int attempt) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
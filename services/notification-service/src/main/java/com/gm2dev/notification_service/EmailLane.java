@@ -0,0 +1,60 @@
+package com.gm2dev.notification_service;
+
+import com.gm2dev.shared.email.EmailMessage;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * One consumer lane per {@link EmailMessage} type. Each lane has its own queue (bound to the
+ * type's routing key) and listener, so a backlog of one type never delays another, and a priority
+ * that decides who gets Resend quota first when {@link SendRateLimiter} is short of tokens.
+ */
+public enum EmailLane {
+
+    VERIFICATION("VERIFICATION", "verification", Priority.HIGH),
+    PASSWORD_RESET("PASSWORD_RESET", "password-reset", Priority.HIGH),
+    SHADOWING_APPROVED("SHADOWING_APPROVED", "shadowing-approved", Priority.LOW),
+    TEMPORARY_PASSWORD("TEMPORARY_PASSWORD", "temporary-password", Priority.LOW);
+
+    public enum Priority { HIGH, LOW }
+
+    static final String DESTINATION = "notification.emails";
+    static final String GROUP_PREFIX = "notification-service.";
+
+    private final String routingKey;
+    private final String tag;
+    private final Priority priority;
+
+    EmailLane(String routingKey, String tag, Priority priority) {
+        this.routingKey = routingKey;
+        this.tag = tag;
+        this.priority = priority;
+    }
+
+    public String routingKey() {
+        return routingKey;
+    }
+
+    /** Metric tag and consumer group suffix. */
+    public String tag() {
+        return tag;
+    }
+
+    public Priority priority() {
+        return priority;
+    }
+
+    /** Binder-managed queue of this lane's binding ({@code <destination>.<group>}). */
+    public String queue() {
+        return DESTINATION + "." + GROUP_PREFIX + tag;
+    }
+
+    public static EmailLane of(EmailMessage message) {
+        return fromRoutingKey(message.routingKey()).orElseThrow();
+    }
+
+    public static Optional<EmailLane> fromRoutingKey(String routingKey) {
+        return Arrays.stream(values()).filter(lane -> lane.routingKey.equals(routingKey)).findFirst();
+    }
+}
@@ -0,0 +1,17 @@
+package com.gm2dev.notification_service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Resend API quota. A batch request counts as one request regardless of how many emails it carries.
+ *
+ * @param requestsPerSecond sustained request rate (Resend's default team limit is 2/s)
+ * @param burst             bucket capacity
+ * @param reservedForHigh   tokens low-priority lanes may not take, so high-priority mail finds
+ *                          quota immediately; must be below {@code burst}
+ */
+@ConfigurationProperties(prefix = "app.email-rate-limit")
+public record EmailRateLimitProperties(@DefaultValue("2") double requestsPerSecond,
+                                       @DefaultValue("2") int burst,
+                                       @DefaultValue("1") int reservedForHigh) {}
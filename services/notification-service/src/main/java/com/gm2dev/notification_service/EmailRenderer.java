@@ -3,68 +3,91 @@ package com.gm2dev.notification_service;
 import com.gm2dev.shared.email.EmailMessage;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.util.HtmlUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders notification emails from the templates under {@code templates/email/} on the classpath.
+ *
+ * <p>The first line of a template file is the subject (plain text); the rest is the HTML body.
+ * Templates are compiled once at startup with {@code {{frontendUrl}}} folded into the literal
+ * text, so rendering only escapes the message fields into a per-thread buffer.
+ */
 @Component
 public class EmailRenderer {
 
-    private final String frontendUrl;
+    static final String TEMPLATE_LOCATION = "templates/email/";
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(512));
+
+    private final CompiledEmail verification;
+    private final CompiledEmail passwordReset;
+    private final CompiledEmail temporaryPassword;
+    private final CompiledEmail shadowingApproved;
 
     public EmailRenderer(@Value("${app.frontend-url}") String frontendUrl) {
-        this.frontendUrl = frontendUrl;
+        Map<String, String> constants = Map.of("frontendUrl", frontendUrl);
+        this.verification = load("verification", List.of("token"), constants);
+        this.passwordReset = load("password-reset", List.of("token"), constants);
+        this.temporaryPassword = load("temporary-password", List.of("temporaryPassword"), constants);
+        this.shadowingApproved = load("shadowing-approved", List.of("summary", "startTime", "endTime"), constants);
     }
 
-    public String subject(EmailMessage message) {
+    public RenderedEmail render(EmailMessage message) {
         return switch (message) {
-            case EmailMessage.VerificationEmailMessage ignored ->
-                    "Interview Hub — Verify your email";
-            case EmailMessage.PasswordResetEmailMessage ignored ->
-                    "Interview Hub — Reset your password";
-            case EmailMessage.TemporaryPasswordEmailMessage ignored ->
-                    "Interview Hub — Your account has been created";
+            case EmailMessage.VerificationEmailMessage m -> verification.render(m.token());
+            case EmailMessage.PasswordResetEmailMessage m -> passwordReset.render(m.token());
+            case EmailMessage.TemporaryPasswordEmailMessage m -> temporaryPassword.render(m.temporaryPassword());
             case EmailMessage.ShadowingApprovedEmailMessage m ->
-                    "Interview Hub — Shadowing Approved: " + m.summary();
+                    shadowingApproved.render(m.summary(), m.startTime(), m.endTime());
         };
     }
 
-    public String htmlBody(EmailMessage message) {
-        return switch (message) {
-            case EmailMessage.VerificationEmailMessage m -> renderVerification(m);
-            case EmailMessage.PasswordResetEmailMessage m -> renderPasswordReset(m);
-            case EmailMessage.TemporaryPasswordEmailMessage m -> renderTemporaryPassword(m);
-            case EmailMessage.ShadowingApprovedEmailMessage m -> renderShadowingApproved(m);
-        };
+    public String subject(EmailMessage message) {
+        return render(message).subject();
     }
 
-    private String renderVerification(EmailMessage.VerificationEmailMessage m) {
-        String link = frontendUrl + "/auth/verify?token=" + m.token();
-        return "<h2>Welcome to Interview Hub</h2>"
-                + "<p>Click the link below to verify your email address:</p>"
-                + "<p><a href=\"" + link + "\">Verify Email</a></p>"
-                + "<p>This link expires in 24 hours.</p>";
+    public String htmlBody(EmailMessage message) {
+        return render(message).html();
     }
 
-    private String renderPasswordReset(EmailMessage.PasswordResetEmailMessage m) {
-        String link = frontendUrl + "/auth/reset-password?token=" + m.token();
-        return "<h2>Password Reset</h2>"
-                + "<p>Click the link below to reset your password:</p>"
-                + "<p><a href=\"" + link + "\">Reset Password</a></p>"
-                + "<p>This link expires in 1 hour. If you didn't request this, ignore this email.</p>";
+    private static CompiledEmail load(String name, List<String> parameters, Map<String, String> constants) {
+        String path = TEMPLATE_LOCATION + name + ".html";
+        String source;
+        try (InputStream in = EmailRenderer.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Email template not found on classpath: " + path);
+            }
+            source = new String(in.readAllBytes(), StandardCharsets.UTF_8).strip();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read email template " + path, e);
+        }
+        int newline = source.indexOf('\n');
+        if (newline < 0) {
+            throw new IllegalStateException("Email template " + path + " needs a subject line and a body");
+        }
+        return new CompiledEmail(
+                EmailTemplate.compile(source.substring(0, newline).strip(), parameters, constants, false),
+                EmailTemplate.compile(source.substring(newline + 1), parameters, constants, true));
     }
 
-    private String renderTemporaryPassword(EmailMessage.TemporaryPasswordEmailMessage m) {
-        return "<h2>Welcome to Interview Hub</h2>"
-                + "<p>An admin has created an account for you.</p>"
-                + "<p>Your temporary password is: <strong>" + m.temporaryPassword() + "</strong></p>"
-                + "<p>Please log in and change your password.</p>";
+    public record RenderedEmail(String subject, String html) {
     }
 
-    private String renderShadowingApproved(EmailMessage.ShadowingApprovedEmailMessage m) {
-        String safeSummary = HtmlUtils.htmlEscape(m.summary());
-        return "<h2>Shadowing Request Approved</h2>"
-                + "<p><strong>" + safeSummary + "</strong></p>"
-                + "<p>Start: " + HtmlUtils.htmlEscape(m.startTime()) + "</p>"
-                + "<p>End: " + HtmlUtils.htmlEscape(m.endTime()) + "</p>"
-                + "<p>You have been added to the calendar event as an attendee.</p>";
+    private record CompiledEmail(EmailTemplate subject, EmailTemplate body) {
+
+        RenderedEmail render(String... values) {
+            StringBuilder buffer = BUFFER.get();
+            buffer.setLength(0);
+            subject.renderTo(buffer, values);
+            int subjectLength = buffer.length();
+            body.renderTo(buffer, values);
+            return new RenderedEmail(buffer.substring(0, subjectLength), buffer.substring(subjectLength));
+        }
     }
 }
@@ -0,0 +1,90 @@
+package com.gm2dev.notification_service;
+
+import com.gm2dev.shared.email.EmailMessage;
+import com.gm2dev.shared.email.EmailMessageCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Moves emails that failed delivery off the consumer thread: into the delay queue for their
+ * attempt, or into the parking queue once {@code max-attempts} is reached. Messages the consumer
+ * cannot decode are parked straight away. Retries are routed with their lane's queue name as
+ * routing key, which dead-lettering keeps, so each email returns to the lane it came from.
+ */
+@Component
+@Slf4j
+public class EmailRetryPublisher {
+
+    static final String RETRY_PREFIX = EmailLane.DESTINATION + ".retry.";
+    static final String PARKED_QUEUE = EmailLane.DESTINATION + ".notification-service.dlq";
+
+    static final String ATTEMPT_HEADER = "x-email-attempt";
+    static final String PARKED_AT_HEADER = "x-email-parked-at";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final EmailDeliveryProperties properties;
+
+    public EmailRetryPublisher(RabbitTemplate rabbitTemplate, EmailDeliveryProperties properties) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.properties = properties;
+    }
+
+    /** Name of both the exchange and the delay queue for the given attempt. */
+    static String retryTier(int attempt) {
+        return RETRY_PREFIX + attempt;
+    }
+
+    /** Schedules another delivery of a message whose {@code attempt}-th delivery just failed. */
+    public void retry(EmailMessage email, int attempt) {
+        if (attempt >= properties.maxAttempts()) {
+            park(email, attempt);
+            return;
+        }
+        long delayMillis = properties.backoff(attempt).toMillis();
+        MessageProperties messageProperties = jsonProperties(attempt + 1);
+        messageProperties.setExpiration(String.valueOf(delayMillis));
+        // Queue wait for the retry counts from when the delay expires
+        messageProperties.setHeader(EmailMessage.PUBLISHED_AT_HEADER, System.currentTimeMillis() + delayMillis);
+        rabbitTemplate.send(retryTier(attempt), EmailLane.of(email).queue(), new Message(EmailMessageCodec.encode(email), messageProperties));
+        log.warn("Delivery of {} email to {} failed (attempt {}), retrying in {}",
+                email.getClass().getSimpleName(), email.to(), attempt, properties.backoff(attempt));
+    }
+
+    private void park(EmailMessage email, int attempt) {
+        MessageProperties messageProperties = jsonProperties(attempt);
+        messageProperties.setHeader(PARKED_AT_HEADER, Instant.now().toString());
+        rabbitTemplate.send("", PARKED_QUEUE, new Message(EmailMessageCodec.encode(email), messageProperties));
+        log.error("Parked {} email to {} after {} attempts", email.getClass().getSimpleName(), email.to(), attempt);
+    }
+
+    /**
+     * Parks a message this instance could not decode, body and format version unchanged, so a
+     * replay after deploying a notification-service that reads it delivers it as sent.
+     */
+    public void parkUnreadable(EmailLane lane, byte[] body, Map<?, ?> headers, String reason) {
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        messageProperties.setHeader(ATTEMPT_HEADER,
+                headers.get(ATTEMPT_HEADER) instanceof Number attempt ? attempt.intValue() : 1);
+        if (headers.get(EmailMessageCodec.VERSION_HEADER) instanceof Number version) {
+            messageProperties.setHeader(EmailMessageCodec.VERSION_HEADER, version.intValue());
+        }
+        messageProperties.setHeader(PARKED_AT_HEADER, Instant.now().toString());
+        rabbitTemplate.send("", PARKED_QUEUE, new Message(body, messageProperties));
+        log.error("Parked unreadable {} email: {}", lane.tag(), reason);
+    }
+
+    private static MessageProperties jsonProperties(int attempt) {
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        messageProperties.setHeader(ATTEMPT_HEADER, attempt);
+        messageProperties.setHeader(EmailMessageCodec.VERSION_HEADER, EmailMessageCodec.VERSION);
+        return messageProperties;
+    }
+}
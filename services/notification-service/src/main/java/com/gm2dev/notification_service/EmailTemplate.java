@@ -0,0 +1,103 @@
+package com.gm2dev.notification_service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template compiled once into literal segments and parameter slots.
+ *
+ * <p>Placeholders are written {@code {{name}}}. Names found in {@code constants} are substituted
+ * at compile time and become part of the surrounding literal; every other name must be one of the
+ * declared {@code parameters}, and rendering takes the values positionally in that order. HTML
+ * templates escape both constants and values; text templates (subjects) insert them as-is.
+ */
+final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;
+    private final int[] slots;
+    private final boolean escapeHtml;
+
+    private EmailTemplate(String[] literals, int[] slots, boolean escapeHtml) {
+        this.literals = literals;
+        this.slots = slots;
+        this.escapeHtml = escapeHtml;
+    }
+
+    static EmailTemplate compile(String source, List<String> parameters, Map<String, String> constants,
+                                 boolean escapeHtml) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                literal.append(source, position, source.length());
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at offset " + open);
+            }
+            literal.append(source, position, open);
+            String name = source.substring(open + OPEN.length(), close).trim();
+            position = close + CLOSE.length();
+
+            if (constants.containsKey(name)) {
+                append(literal, constants.get(name), escapeHtml);
+                continue;
+            }
+            int slot = parameters.indexOf(name);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Unknown placeholder {{" + name + "}}, expected one of "
+                        + parameters + " or " + constants.keySet());
+            }
+            literals.add(literal.toString());
+            slots.add(slot);
+            literal.setLength(0);
+        }
+        literals.add(literal.toString());
+        return new EmailTemplate(literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(), escapeHtml);
+    }
+
+    /** Appends the rendered template to {@code out}; {@code values} follow the declared parameter order. */
+    void renderTo(StringBuilder out, String... values) {
+        out.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            append(out, values[slots[i]], escapeHtml);
+            out.append(literals[i + 1]);
+        }
+    }
+
+    /** Writes {@code value} escaping the same characters as Spring's {@code HtmlUtils.htmlEscape}. */
+    static void append(StringBuilder out, String value, boolean escapeHtml) {
+        if (value == null) {
+            return;
+        }
+        if (!escapeHtml) {
+            out.append(value);
+            return;
+        }
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String replacement = switch (value.charAt(i)) {
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '&' -> "&amp;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement != null) {
+                out.append(value, start, i).append(replacement);
+                start = i + 1;
+            }
+        }
+        out.append(value, start, value.length());
+    }
+}
@@ -0,0 +1,139 @@
+package com.gm2dev.notification_service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gm2dev.shared.email.EmailMessage;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.JmxEndpoint;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JMX-only actuator endpoint ({@code org.springframework.boot:type=Endpoint,name=Parkedemails})
+ * over the parking queue. It lists recipient addresses and can resend password-reset mail, and
+ * notification-service has no authentication of its own, so it is never exposed over HTTP.
+ *
+ * <p>A read lists parked emails without consuming them: messages are fetched unacknowledged and
+ * returned to the queue. Only the type, recipient and retry metadata are shown, never tokens or
+ * passwords. A write moves parked emails back onto their lane's queue with a fresh attempt count,
+ * acknowledging each one only after it has been republished.
+ */
+@Component
+@JmxEndpoint(id = "parkedemails")
+@Slf4j
+public class ParkedEmailsEndpoint {
+
+    static final int DEFAULT_LIMIT = 100;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ParkedEmailsEndpoint(RabbitTemplate rabbitTemplate) {
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    @ReadOperation
+    public ParkedEmails inspect(@OptionalParameter Integer limit) {
+        int max = limit == null ? DEFAULT_LIMIT : limit;
+        return rabbitTemplate.execute(channel -> {
+            long total = channel.messageCount(EmailRetryPublisher.PARKED_QUEUE);
+            List<ParkedEmail> emails = new ArrayList<>();
+            long lastDeliveryTag = -1;
+            for (int i = 0; i < max; i++) {
+                GetResponse response = channel.basicGet(EmailRetryPublisher.PARKED_QUEUE, false);
+                if (response == null) {
+                    break;
+                }
+                lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+                emails.add(describe(response));
+            }
+            if (lastDeliveryTag >= 0) {
+                channel.basicNack(lastDeliveryTag, true, true);
+            }
+            return new ParkedEmails(total, emails);
+        });
+    }
+
+    @WriteOperation
+    public ReplayResult replay(@OptionalParameter Integer limit) {
+        int max = limit == null ? DEFAULT_LIMIT : limit;
+        ReplayResult result = rabbitTemplate.execute(channel -> {
+            int replayed = 0;
+            List<Long> unroutable = new ArrayList<>();
+            while (replayed < max) {
+                GetResponse response = channel.basicGet(EmailRetryPublisher.PARKED_QUEUE, false);
+                if (response == null) {
+                    break;
+                }
+                long deliveryTag = response.getEnvelope().getDeliveryTag();
+                Optional<EmailLane> lane = EmailLane.fromRoutingKey(describe(response).type());
+                if (lane.isEmpty()) {
+                    // Held unacknowledged until the loop ends so basicGet does not return it again
+                    unroutable.add(deliveryTag);
+                    continue;
+                }
+                republish(channel, response, lane.get());
+                channel.basicAck(deliveryTag, false);
+                replayed++;
+            }
+            for (long deliveryTag : unroutable) {
+                channel.basicNack(deliveryTag, false, true);
+            }
+            return new ReplayResult(replayed, unroutable.size());
+        });
+        log.info("Replayed {} parked emails, {} left parked with an unknown type", result.replayed(), result.skipped());
+        return result;
+    }
+
+    private void republish(Channel channel, GetResponse response, EmailLane lane) throws IOException {
+        AMQP.BasicProperties original = response.getProps();
+        Map<String, Object> headers = original.getHeaders() == null
+                ? new HashMap<>() : new HashMap<>(original.getHeaders());
+        headers.put(EmailRetryPublisher.ATTEMPT_HEADER, 1);
+        headers.put(EmailMessage.PUBLISHED_AT_HEADER, System.currentTimeMillis());
+        headers.remove(EmailRetryPublisher.PARKED_AT_HEADER);
+        channel.basicPublish("", lane.queue(), original.builder().headers(headers).build(), response.getBody());
+    }
+
+    private ParkedEmail describe(GetResponse response) {
+        Map<String, Object> headers = response.getProps().getHeaders() == null ? Map.of() : response.getProps().getHeaders();
+        Object attempts = headers.get(EmailRetryPublisher.ATTEMPT_HEADER);
+        Object parkedAt = headers.get(EmailRetryPublisher.PARKED_AT_HEADER);
+        String messageId = null;
+        String type = null;
+        String to = null;
+        try {
+            JsonNode body = objectMapper.readTree(response.getBody());
+            messageId = body.path("messageId").asText(null);
+            type = body.path("type").asText(null);
+            to = body.path("to").asText(null);
+        } catch (IOException e) {
+            log.warn("Parked message {} is not valid JSON", response.getEnvelope().getDeliveryTag());
+        }
+        return new ParkedEmail(messageId, type, to,
+                attempts instanceof Number n ? n.intValue() : null,
+                parkedAt == null ? null : parkedAt.toString());
+    }
+
+    public record ParkedEmails(long total, List<ParkedEmail> emails) {
+    }
+
+    public record ParkedEmail(String messageId, String type, String to, Integer attempts, String parkedAt) {
+    }
+
+    public record ReplayResult(int replayed, int skipped) {
+    }
+}
@@ -3,44 +3,218 @@ package com.gm2dev.notification_service;
 import com.gm2dev.shared.email.EmailMessage;
 import com.resend.Resend;
 import com.resend.core.exception.ResendException;
+import com.resend.core.net.RequestOptions;
 import com.resend.services.emails.model.CreateEmailOptions;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
 @Component
 @Slf4j
 @EnableConfigurationProperties(ResendProperties.class)
 public class ResendEmailSender {
 
+    /** Resend accepts at most 100 emails per batch request. */
+    static final int MAX_BATCH_SIZE = 100;
+
     private final Resend resend;
     private final String fromEmail;
     private final EmailRenderer renderer;
+    private final SendRateLimiter rateLimiter;
+    private final EmailDeduplicator deduplicator;
 
+    @Autowired
     public ResendEmailSender(ResendProperties properties,
                              @Value("${app.mail.from}") String fromEmail,
-                             EmailRenderer renderer) {
-        this.resend = new Resend(properties.apiKey());
+                             EmailRenderer renderer,
+                             SendRateLimiter rateLimiter,
+                             EmailDeduplicator deduplicator) {
+        this(new Resend(properties.apiKey()), fromEmail, renderer, rateLimiter, deduplicator);
+    }
+
+    ResendEmailSender(Resend resend, String fromEmail, EmailRenderer renderer, SendRateLimiter rateLimiter,
+                      EmailDeduplicator deduplicator) {
+        this.resend = resend;
         this.fromEmail = fromEmail;
         this.renderer = renderer;
+        this.rateLimiter = rateLimiter;
+        this.deduplicator = deduplicator;
+    }
+
+    /**
+     * Sends the messages with one Resend batch request per {@value #MAX_BATCH_SIZE} emails.
+     *
+     * <p>Resend validates a batch as a whole, so one bad address rejects every email in it. When a
+     * batch is rejected as invalid (400/422), its emails are sent one by one so the rest still go
+     * out, and only the ones that fail on their own are reported. Any other failure (throttling,
+     * a 5xx, a network error) would fail the individual sends just the same, so the whole chunk is
+     * reported and left to the retry queues. Every request first takes a token from
+     * {@link SendRateLimiter} at the lane's priority.
+     *
+     * <p>Only first attempts should come through here; see {@link #sendEach} for retries.
+     *
+     * @return the messages that could not be rendered or delivered
+     */
+    public List<EmailMessage> sendBatch(List<EmailMessage> messages, EmailLane.Priority priority) {
+        return send(messages, priority, true);
+    }
+
+    /**
+     * Sends each message on its own, under its own idempotency key, skipping any that
+     * {@link EmailDeduplicator} already knows were delivered.
+     *
+     * <p>The per-message key {@code email/<messageId>} is what makes a retry safe: Resend
+     * replays it for 24 hours, however the retries are grouped. A batch only carries one key for
+     * the whole request, so a retried message is never batched again. That leaves one window for
+     * a duplicate: a batch Resend accepted but whose response was lost (a timeout, a reset
+     * connection, a 5xx after acceptance) is reported failed, and each of its messages is then
+     * retried under a key Resend has not seen.
+     *
+     * @return the messages that could not be rendered or delivered
+     */
+    public List<EmailMessage> sendEach(List<EmailMessage> messages, EmailLane.Priority priority) {
+        return send(messages, priority, false);
+    }
+
+    private List<EmailMessage> send(List<EmailMessage> messages, EmailLane.Priority priority, boolean batched) {
+        List<EmailMessage> failed = new ArrayList<>();
+        List<EmailMessage> renderable = new ArrayList<>(messages.size());
+        List<CreateEmailOptions> options = new ArrayList<>(messages.size());
+        for (EmailMessage message : messages) {
+            try {
+                options.add(toOptions(message));
+                renderable.add(message);
+            } catch (RuntimeException e) {
+                log.error("Failed to render {} email to {}", message.getClass().getSimpleName(), message.to(), e);
+                failed.add(message);
+            }
+        }
+
+        if (!batched) {
+            sendIndividually(renderable, options, priority, failed);
+            return failed;
+        }
+        for (int from = 0; from < renderable.size(); from += MAX_BATCH_SIZE) {
+            int to = Math.min(from + MAX_BATCH_SIZE, renderable.size());
+            sendChunk(renderable.subList(from, to), options.subList(from, to), priority, failed);
+        }
+        return failed;
+    }
+
+    private void sendChunk(List<EmailMessage> messages, List<CreateEmailOptions> options,
+                           EmailLane.Priority priority, List<EmailMessage> failed) {
+        if (messages.size() > 1) {
+            if (!acquire(priority)) {
+                failed.addAll(messages);
+                return;
+            }
+            try {
+                resend.batch().send(options, idempotencyKey(batchKey(messages)));
+                messages.forEach(deduplicator::markDelivered);
+                log.debug("Sent batch of {} emails", messages.size());
+                return;
+            } catch (ResendException e) {
+                if (!isValidationError(e)) {
+                    log.warn("Batch of {} emails failed ({}), retrying later: {}",
+                            messages.size(), e.getStatusCode(), e.getMessage());
+                    failed.addAll(messages);
+                    return;
+                }
+                log.warn("Batch of {} emails rejected, sending individually: {}", messages.size(), e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("Batch of {} emails failed, retrying later: {}", messages.size(), e.getMessage());
+                failed.addAll(messages);
+                return;
+            }
+        }
+        sendIndividually(messages, options, priority, failed);
+    }
+
+    /** Sends with the per-message key, marking each message delivered as soon as Resend accepts it. */
+    private void sendIndividually(List<EmailMessage> messages, List<CreateEmailOptions> options,
+                                  EmailLane.Priority priority, List<EmailMessage> failed) {
+        for (int i = 0; i < messages.size(); i++) {
+            EmailMessage message = messages.get(i);
+            if (deduplicator.isDelivered(message)) {
+                log.debug("Skipping {} email {} already delivered", message.getClass().getSimpleName(),
+                        message.messageId());
+                continue;
+            }
+            if (!acquire(priority)) {
+                failed.add(message);
+                continue;
+            }
+            try {
+                resend.emails().send(options.get(i), idempotencyKey(messageKey(message)));
+                deduplicator.markDelivered(message);
+                log.debug("Sent {} email to {}", message.getClass().getSimpleName(), message.to());
+            } catch (ResendException | RuntimeException e) {
+                log.error("Failed to send {} email to {}", message.getClass().getSimpleName(), message.to(), e);
+                failed.add(message);
+            }
+        }
+    }
+
+    /** Resend's status for a request it refused to accept as given, e.g. an invalid address. */
+    static boolean isValidationError(ResendException e) {
+        Integer status = e.getStatusCode();
+        return status != null && (status == 400 || status == 422);
+    }
+
+    /** Returns false, with the interrupt flag kept, if the thread is interrupted while waiting for quota. */
+    private boolean acquire(EmailLane.Priority priority) {
+        try {
+            rateLimiter.acquire(priority);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Resend replays the original response for a key it has seen in the last 24 hours instead of
+     * sending again. A batch key covers exactly the same set of messages, e.g. a batch redelivered
+     * after the consumer died before acknowledging it; every other retry relies on the
+     * per-message key.
+     */
+    private static RequestOptions idempotencyKey(String key) {
+        return RequestOptions.builder().setIdempotencyKey(key).build();
     }
 
-    public void send(EmailMessage message) {
+    static String messageKey(EmailMessage message) {
+        return "email/" + message.messageId();
+    }
+
+    static String batchKey(List<EmailMessage> messages) {
         try {
-            CreateEmailOptions options = CreateEmailOptions.builder()
-                    .from(fromEmail)
-                    .to(message.to())
-                    .subject(renderer.subject(message))
-                    .html(renderer.htmlBody(message))
-                    .build();
-            resend.emails().send(options);
-            log.debug("Sent {} email to {}", message.getClass().getSimpleName(), message.to());
-        } catch (ResendException e) {
-            log.error("Failed to send {} email to {}", message.getClass().getSimpleName(), message.to(), e);
-            // Rethrow so Spring Cloud Stream can retry (max-attempts: 3 in application.yml).
-            // After retries are exhausted the message is discarded, not requeued indefinitely.
-            throw new RuntimeException("Resend delivery failed", e);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (EmailMessage message : messages) {
+                digest.update(message.messageId().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return "batch/" + HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
+
+    private CreateEmailOptions toOptions(EmailMessage message) {
+        EmailRenderer.RenderedEmail rendered = renderer.render(message);
+        return CreateEmailOptions.builder()
+                .from(fromEmail)
+                .to(message.to())
+                .subject(rendered.subject())
+                .html(rendered.html())
+                .build();
+    }
 }
@@ -0,0 +1,102 @@
+package com.gm2dev.notification_service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket shared by all lanes, refilled at {@code requests-per-second} up to {@code burst}.
+ *
+ * <p>High-priority callers take any available token. Low-priority callers leave
+ * {@code reserved-for-high} tokens in the bucket and yield while a high-priority caller is
+ * waiting, so auth mail is never queued behind a bulk run but bulk still gets the full rate when
+ * nothing else is sending.
+ *
+ * <p>Callers wait with {@code Object.wait}, which unmounts a virtual thread (JDK 24+), so with
+ * virtual threads enabled waiting lanes do not hold carrier threads.
+ */
+@Component
+@EnableConfigurationProperties(EmailRateLimitProperties.class)
+public class SendRateLimiter {
+
+    private static final long MIN_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final double tokensPerNano;
+    private final int burst;
+    private final int reservedForHigh;
+    private final LongSupplier nanoTime;
+    private final MeterRegistry meterRegistry;
+
+    private double tokens;
+    private long refilledAt;
+    private int highWaiting;
+
+    public SendRateLimiter(EmailRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    SendRateLimiter(EmailRateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        if (properties.requestsPerSecond() <= 0 || properties.burst() < 1) {
+            throw new IllegalArgumentException("app.email-rate-limit needs a positive rate and burst");
+        }
+        if (properties.reservedForHigh() < 0 || properties.reservedForHigh() >= properties.burst()) {
+            throw new IllegalArgumentException("app.email-rate-limit.reserved-for-high must be in [0, burst)");
+        }
+        this.tokensPerNano = properties.requestsPerSecond() / TimeUnit.SECONDS.toNanos(1);
+        this.burst = properties.burst();
+        this.reservedForHigh = properties.reservedForHigh();
+        this.nanoTime = nanoTime;
+        this.meterRegistry = meterRegistry;
+        this.tokens = burst;
+        this.refilledAt = nanoTime.getAsLong();
+    }
+
+    /** Blocks until a request may be sent at the given priority. */
+    public void acquire(EmailLane.Priority priority) throws InterruptedException {
+        long startedAt = nanoTime.getAsLong();
+        acquireToken(priority == EmailLane.Priority.HIGH);
+        Timer.builder("email.rate-limit.wait")
+                .description("Time spent waiting for Resend quota before a request")
+                .tag("priority", priority.name().toLowerCase())
+                .register(meterRegistry)
+                .record(nanoTime.getAsLong() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private synchronized void acquireToken(boolean high) throws InterruptedException {
+        if (high) {
+            highWaiting++;
+        }
+        try {
+            while (true) {
+                refill();
+                double needed = high ? 1 : 1 + reservedForHigh;
+                if (tokens >= needed && (high || highWaiting == 0)) {
+                    tokens -= 1;
+                    return;
+                }
+                long waitNanos = (long) Math.ceil((needed - tokens) / tokensPerNano);
+                TimeUnit.NANOSECONDS.timedWait(this, Math.max(waitNanos, MIN_WAIT_NANOS));
+            }
+        } finally {
+            if (high) {
+                highWaiting--;
+                notifyAll();
+            }
+        }
+    }
+
+    private void refill() {
+        long now = nanoTime.getAsLong();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+    }
+
+    synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+}
@@ -0,0 +1,156 @@
+package com.gm2dev.notification_service;
+
+import com.gm2dev.shared.email.EmailMessage;
+import com.gm2dev.shared.email.EmailMessageCodec;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailConsumerTest {
+
+    private final EmailMessage first = new EmailMessage.VerificationEmailMessage("a@example.com", "tok");
+    private final EmailMessage second = new EmailMessage.VerificationEmailMessage("b@example.com", "tok");
+
+    @Mock
+    private ResendEmailSender sender;
+
+    @Mock
+    private EmailRetryPublisher retryPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final EmailDeduplicator deduplicator =
+            new EmailDeduplicator(new EmailDedupProperties(Duration.ofHours(1), 100), null, Clock.systemUTC());
+
+    @Test
+    void deliver_allDelivered_schedulesNoRetry() {
+        when(sender.sendBatch(List.of(first, second), EmailLane.Priority.HIGH)).thenReturn(List.of());
+
+        consume(MessageBuilder.withPayload(List.of(first, second)).build());
+
+        verifyNoInteractions(retryPublisher);
+    }
+
+    @Test
+    void deliver_failedMessage_isRetriedWithItsAttemptFromBatchedHeaders() {
+        when(sender.sendBatch(List.of(first), EmailLane.Priority.HIGH)).thenReturn(List.of());
+        when(sender.sendEach(List.of(second), EmailLane.Priority.HIGH)).thenReturn(List.of(second));
+
+        consume(MessageBuilder.withPayload(List.of(first, second))
+                .setHeader(AmqpHeaders.BATCHED_HEADERS, List.of(
+                        Map.of(),
+                        Map.of(EmailRetryPublisher.ATTEMPT_HEADER, 3)))
+                .build());
+
+        verify(retryPublisher).retry(second, 3);
+        verifyNoMoreInteractions(retryPublisher);
+    }
+
+    @Test
+    void deliver_withoutAttemptHeader_treatsFailureAsFirstAttempt() {
+        when(sender.sendBatch(List.of(first), EmailLane.Priority.HIGH)).thenReturn(List.of(first));
+
+        consume(MessageBuilder.withPayload(List.of(first)).build());
+
+        verify(retryPublisher).retry(first, 1);
+    }
+
+    @Test
+    void deliver_redeliveredBatch_skipsMessagesAlreadySent() {
+        deduplicator.markDelivered(first);
+        when(sender.sendBatch(List.of(second), EmailLane.Priority.HIGH)).thenReturn(List.of());
+
+        consume(MessageBuilder.withPayload(List.of(first, second)).build());
+
+        verify(sender).sendBatch(List.of(second), EmailLane.Priority.HIGH);
+    }
+
+    @Test
+    void deliver_onlyDuplicates_makesNoCall() {
+        deduplicator.markDelivered(first);
+
+        consume(MessageBuilder.withPayload(List.of(first, first)).build());
+
+        verifyNoInteractions(sender);
+    }
+
+    @Test
+    void deliver_retriedMessages_areSentIndividuallyNotBatched() {
+        when(sender.sendEach(List.of(first, second), EmailLane.Priority.HIGH)).thenReturn(List.of());
+
+        consume(MessageBuilder.withPayload(List.of(first, second))
+                .setHeader(AmqpHeaders.BATCHED_HEADERS, List.of(
+                        Map.of(EmailRetryPublisher.ATTEMPT_HEADER, 2),
+                        Map.of(EmailRetryPublisher.ATTEMPT_HEADER, 4)))
+                .build());
+
+        verify(sender, never()).sendBatch(any(), any());
+        verifyNoInteractions(retryPublisher);
+    }
+
+    @Test
+    void deliver_recordsQueueWaitPerLaneAndUsesLanePriority() {
+        when(sender.sendBatch(List.of(first), EmailLane.Priority.LOW)).thenReturn(List.of());
+
+        new EmailConsumer(sender, retryPublisher, deduplicator, meterRegistry).deliver(EmailLane.TEMPORARY_PASSWORD,
+                MessageBuilder.withPayload(List.of(EmailMessageCodec.encode(first)))
+                        .setHeader(AmqpHeaders.BATCHED_HEADERS, List.of(
+                                Map.of(EmailMessage.PUBLISHED_AT_HEADER, System.currentTimeMillis() - 2_000)))
+                        .build());
+
+        Timer wait = meterRegistry.get("email.queue.wait").tag("lane", "temporary-password").timer();
+        assertThat(wait.count()).isEqualTo(1);
+        assertThat(wait.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(2_000);
+    }
+
+    @Test
+    void deliver_newerVersionInBatch_isParkedAndRestOfBatchDelivered() {
+        when(sender.sendBatch(any(), eq(EmailLane.Priority.HIGH))).thenReturn(List.of());
+        byte[] newer = EmailMessageCodec.encode(second);
+        Map<String, Object> newerHeaders = Map.of(EmailMessageCodec.VERSION_HEADER, EmailMessageCodec.VERSION + 1);
+
+        new EmailConsumer(sender, retryPublisher, deduplicator, meterRegistry).deliver(EmailLane.VERIFICATION,
+                MessageBuilder.withPayload(List.of(EmailMessageCodec.encode(first), newer))
+                        .setHeader(AmqpHeaders.BATCHED_HEADERS, List.of(
+                                Map.of(EmailMessageCodec.VERSION_HEADER, EmailMessageCodec.VERSION),
+                                newerHeaders))
+                        .build());
+
+        verify(sender).sendBatch(List.of(first), EmailLane.Priority.HIGH);
+        verify(retryPublisher).parkUnreadable(eq(EmailLane.VERIFICATION), same(newer), eq(newerHeaders),
+                contains("version"));
+        verifyNoMoreInteractions(retryPublisher);
+    }
+
+    @Test
+    void deliver_withoutVersionHeader_readsVersionOne() {
+        when(sender.sendBatch(List.of(first), EmailLane.Priority.HIGH)).thenReturn(List.of());
+
+        new EmailConsumer(sender, retryPublisher, deduplicator, meterRegistry).deliver(EmailLane.VERIFICATION,
+                MessageBuilder.withPayload(List.of(EmailMessageCodec.encode(first))).build());
+
+        verify(sender).sendBatch(List.of(first), EmailLane.Priority.HIGH);
+        verifyNoInteractions(retryPublisher);
+    }
+
+    private void consume(Message<List<EmailMessage>> batch) {
+        new EmailConsumer(sender, retryPublisher, deduplicator, meterRegistry)
+                .deliver(EmailLane.VERIFICATION, batch.getPayload(), EmailConsumer.batchedHeaders(batch));
+    }
+}
@@ -0,0 +1,60 @@
+package com.gm2dev.notification_service;
+
+import com.gm2dev.shared.email.EmailMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDeduplicatorTest {
+
+    private static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+    private static final EmailDedupProperties PROPERTIES = new EmailDedupProperties(Duration.ofHours(24), 1000);
+
+    private final EmailMessage message = new EmailMessage.VerificationEmailMessage("id-1", "a@example.com", "tok");
+    private final EmailMessage redelivered = new EmailMessage.VerificationEmailMessage("id-1", "a@example.com", "tok");
+    private final EmailMessage other = new EmailMessage.VerificationEmailMessage("id-2", "b@example.com", "tok");
+
+    @Mock
+    private DeliveredEmailStore backingStore;
+
+    @Test
+    void undelivered_dropsDeliveredIdsAndRepeatsWithinBatch() {
+        EmailDeduplicator deduplicator = new EmailDeduplicator(PROPERTIES, null, Clock.systemUTC());
+        deduplicator.markDelivered(message);
+
+        assertThat(deduplicator.undelivered(List.of(redelivered, other, other))).containsExactly(other);
+    }
+
+    @Test
+    void undelivered_failedMessagesStayEligible() {
+        EmailDeduplicator deduplicator = new EmailDeduplicator(PROPERTIES, null, Clock.systemUTC());
+
+        assertThat(deduplicator.undelivered(List.of(message))).containsExactly(message);
+        assertThat(deduplicator.undelivered(List.of(redelivered))).containsExactly(redelivered);
+    }
+
+    @Test
+    void backingStore_isConsultedOnMissAndRecordedWithWindowExpiry() {
+        EmailDeduplicator deduplicator =
+                new EmailDeduplicator(PROPERTIES, backingStore, Clock.fixed(NOW, ZoneOffset.UTC));
+        when(backingStore.contains("id-1")).thenReturn(true);
+
+        assertThat(deduplicator.undelivered(List.of(message, other))).containsExactly(other);
+        assertThat(deduplicator.undelivered(List.of(redelivered))).isEmpty();
+        verify(backingStore, times(1)).contains("id-1");
+
+        deduplicator.markDelivered(other);
+        verify(backingStore).record("id-2", NOW.plus(Duration.ofHours(24)));
+    }
+}
@@ -123,4 +123,25 @@ class EmailRendererTest {
                 "shadow@example.com", "Java Interview", "start", "end");
         assertThat(renderer.htmlBody(msg)).contains("calendar event");
     }
+
+    // --- render ---
+
+    @Test
+    void render_returnsSubjectAndBodyTogether() {
+        var msg = new EmailMessage.ShadowingApprovedEmailMessage(
+                "shadow@example.com", "Ops & <Infra>", "start", "end");
+        EmailRenderer.RenderedEmail rendered = renderer.render(msg);
+        assertThat(rendered.subject()).isEqualTo("Interview Hub — Shadowing Approved: Ops & <Infra>");
+        assertThat(rendered.html()).startsWith("<h2>Shadowing Request Approved</h2>")
+                .contains("<strong>Ops &amp; &lt;Infra&gt;</strong>");
+    }
+
+    @Test
+    void render_reusedBufferDoesNotLeakBetweenMessages() {
+        renderer.render(new EmailMessage.ShadowingApprovedEmailMessage(
+                "shadow@example.com", "A very long summary ".repeat(50), "start", "end"));
+        var rendered = renderer.render(new EmailMessage.VerificationEmailMessage("user@example.com", "tok123"));
+        assertThat(rendered.subject()).isEqualTo("Interview Hub — Verify your email");
+        assertThat(rendered.html()).doesNotContain("summary");
+    }
 }
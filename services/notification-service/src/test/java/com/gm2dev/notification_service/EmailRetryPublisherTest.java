@@ -0,0 +1,88 @@
+package com.gm2dev.notification_service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gm2dev.shared.email.EmailMessage;
+import com.gm2dev.shared.email.EmailMessageCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmailRetryPublisherTest {
+
+    private static final EmailMessage MESSAGE = new EmailMessage.PasswordResetEmailMessage("user@example.com", "tok");
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private EmailRetryPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new EmailRetryPublisher(rabbitTemplate,
+                new EmailDeliveryProperties(4, Duration.ofSeconds(30), Duration.ofSeconds(90)));
+    }
+
+    @Test
+    void retry_publishesToAttemptTierWithLaneKeyAndExponentialExpiration() throws Exception {
+        publisher.retry(MESSAGE, 2);
+
+        ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(EmailRetryPublisher.retryTier(2)), eq(EmailLane.PASSWORD_RESET.queue()), sent.capture());
+        assertThat(sent.getValue().getMessageProperties().getExpiration()).isEqualTo("60000");
+        assertThat((Long) sent.getValue().getMessageProperties().getHeader(EmailMessage.PUBLISHED_AT_HEADER))
+                .isGreaterThan(System.currentTimeMillis() + 50_000);
+        assertThat((Integer) sent.getValue().getMessageProperties().getHeader(EmailRetryPublisher.ATTEMPT_HEADER)).isEqualTo(3);
+        assertThat(new ObjectMapper().readValue(sent.getValue().getBody(), EmailMessage.class)).isEqualTo(MESSAGE);
+        assertThat((Integer) sent.getValue().getMessageProperties().getHeader(EmailMessageCodec.VERSION_HEADER))
+                .isEqualTo(EmailMessageCodec.VERSION);
+    }
+
+    @Test
+    void retry_capsExpirationAtMaxBackoff() {
+        publisher.retry(MESSAGE, 3);
+
+        ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(EmailRetryPublisher.retryTier(3)), eq(EmailLane.PASSWORD_RESET.queue()), sent.capture());
+        assertThat(sent.getValue().getMessageProperties().getExpiration()).isEqualTo("90000");
+    }
+
+    @Test
+    void retry_lastAttempt_parksMessage() {
+        publisher.retry(MESSAGE, 4);
+
+        ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(""), eq(EmailRetryPublisher.PARKED_QUEUE), sent.capture());
+        assertThat(sent.getValue().getMessageProperties().getExpiration()).isNull();
+        assertThat((Integer) sent.getValue().getMessageProperties().getHeader(EmailRetryPublisher.ATTEMPT_HEADER)).isEqualTo(4);
+        assertThat((String) sent.getValue().getMessageProperties().getHeader(EmailRetryPublisher.PARKED_AT_HEADER)).isNotBlank();
+    }
+
+    @Test
+    void parkUnreadable_parksBodyWithItsFormatVersion() {
+        byte[] body = EmailMessageCodec.encode(MESSAGE);
+
+        publisher.parkUnreadable(EmailLane.PASSWORD_RESET, body,
+                Map.of(EmailMessageCodec.VERSION_HEADER, EmailMessageCodec.VERSION + 1), "Unsupported email format version 2");
+
+        ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq(""), eq(EmailRetryPublisher.PARKED_QUEUE), sent.capture());
+        assertThat(sent.getValue().getBody()).isSameAs(body);
+        assertThat((Integer) sent.getValue().getMessageProperties().getHeader(EmailMessageCodec.VERSION_HEADER))
+                .isEqualTo(EmailMessageCodec.VERSION + 1);
+        assertThat((Integer) sent.getValue().getMessageProperties().getHeader(EmailRetryPublisher.ATTEMPT_HEADER)).isEqualTo(1);
+        assertThat((String) sent.getValue().getMessageProperties().getHeader(EmailRetryPublisher.PARKED_AT_HEADER)).isNotBlank();
+    }
+}
@@ -0,0 +1,59 @@
+package com.gm2dev.notification_service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmailTemplateTest {
+
+    @Test
+    void renderTo_fillsSlotsByParameterOrderAndFoldsConstants() {
+        EmailTemplate template = EmailTemplate.compile("<a href=\"{{base}}/x?t={{token}}\">{{ name }}</a>",
+                List.of("name", "token"), Map.of("base", "https://a.example/?q=1&r=2"), true);
+
+        StringBuilder out = new StringBuilder();
+        template.renderTo(out, "Jane", "abc");
+
+        assertThat(out).hasToString("<a href=\"https://a.example/?q=1&amp;r=2/x?t=abc\">Jane</a>");
+    }
+
+    @Test
+    void renderTo_textTemplateDoesNotEscape() {
+        EmailTemplate template = EmailTemplate.compile("Approved: {{summary}}", List.of("summary"), Map.of(), false);
+
+        StringBuilder out = new StringBuilder();
+        template.renderTo(out, "<b>Ops & Infra</b>");
+
+        assertThat(out).hasToString("Approved: <b>Ops & Infra</b>");
+    }
+
+    @Test
+    void append_matchesSpringHtmlEscapeAndSkipsNull() {
+        String value = "<script>alert(\"x\" & 'y')</script> plain";
+        StringBuilder out = new StringBuilder();
+
+        EmailTemplate.append(out, value, true);
+        EmailTemplate.append(out, null, true);
+
+        assertThat(out).hasToString(HtmlUtils.htmlEscape(value));
+    }
+
+    @Test
+    void compile_unknownPlaceholder_fails() {
+        assertThatThrownBy(() -> EmailTemplate.compile("Hi {{nmae}}", List.of("name"), Map.of(), true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("nmae");
+    }
+
+    @Test
+    void compile_unclosedPlaceholder_fails() {
+        assertThatThrownBy(() -> EmailTemplate.compile("Hi {{name", List.of("name"), Map.of(), true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unclosed");
+    }
+}
@@ -1,16 +1,23 @@
 package com.gm2dev.notification_service;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 @SpringBootTest
 @Import(TestChannelBinderConfiguration.class)
 @ActiveProfiles("test")
 class NotificationServiceApplicationTest {
 
+    // RabbitAutoConfiguration is excluded in the test profile; the retry publisher and
+    // parked-emails endpoint only need a template to be wired
+    @MockitoBean
+    private RabbitTemplate rabbitTemplate;
+
     @Test
     void contextLoads() {
         // Verifies the notification-service Spring context starts without errors.
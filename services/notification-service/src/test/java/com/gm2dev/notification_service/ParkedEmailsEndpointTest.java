@@ -0,0 +1,110 @@
+package com.gm2dev.notification_service;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParkedEmailsEndpointTest {
+
+    private static final byte[] BODY =
+            "{\"type\":\"PASSWORD_RESET\",\"messageId\":\"id-1\",\"to\":\"user@example.com\",\"token\":\"secret\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private Channel channel;
+
+    private ParkedEmailsEndpoint endpoint;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(rabbitTemplate.execute(any(ChannelCallback.class)))
+                .thenAnswer(inv -> ((ChannelCallback<?>) inv.getArgument(0)).doInRabbit(channel));
+        endpoint = new ParkedEmailsEndpoint(rabbitTemplate);
+    }
+
+    @Test
+    void inspect_listsParkedEmailsWithoutSecretsAndRequeuesThem() throws Exception {
+        when(channel.messageCount(EmailRetryPublisher.PARKED_QUEUE)).thenReturn(2L);
+        when(channel.basicGet(EmailRetryPublisher.PARKED_QUEUE, false))
+                .thenReturn(parked(1), parked(2), null);
+
+        ParkedEmailsEndpoint.ParkedEmails result = endpoint.inspect(null);
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.emails()).hasSize(2).first().satisfies(email -> {
+            assertThat(email.messageId()).isEqualTo("id-1");
+            assertThat(email.type()).isEqualTo("PASSWORD_RESET");
+            assertThat(email.to()).isEqualTo("user@example.com");
+            assertThat(email.attempts()).isEqualTo(5);
+            assertThat(email.parkedAt()).isEqualTo("2030-01-01T00:00:00Z");
+        });
+        assertThat(result.toString()).doesNotContain("secret");
+        verify(channel).basicNack(2L, true, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void replay_republishesToLaneQueueWithFreshAttemptAndAcksEach() throws Exception {
+        when(channel.basicGet(EmailRetryPublisher.PARKED_QUEUE, false))
+                .thenReturn(parked(1), parked(2), parked(3));
+
+        ParkedEmailsEndpoint.ReplayResult result = endpoint.replay(2);
+
+        assertThat(result.replayed()).isEqualTo(2);
+        assertThat(result.skipped()).isZero();
+        ArgumentCaptor<AMQP.BasicProperties> properties = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        verify(channel, times(2)).basicPublish(eq(""), eq(EmailLane.PASSWORD_RESET.queue()), properties.capture(), eq(BODY));
+        assertThat(properties.getValue().getHeaders())
+                .containsEntry(EmailRetryPublisher.ATTEMPT_HEADER, 1)
+                .doesNotContainKey(EmailRetryPublisher.PARKED_AT_HEADER);
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicAck(2L, false);
+    }
+
+    @Test
+    void replay_unknownType_isLeftParked() throws Exception {
+        GetResponse unknown = new GetResponse(new Envelope(7, false, "", EmailRetryPublisher.PARKED_QUEUE),
+                new AMQP.BasicProperties(), "not json".getBytes(StandardCharsets.UTF_8), 0);
+        when(channel.basicGet(EmailRetryPublisher.PARKED_QUEUE, false)).thenReturn(unknown, (GetResponse) null);
+
+        ParkedEmailsEndpoint.ReplayResult result = endpoint.replay(null);
+
+        assertThat(result.replayed()).isZero();
+        assertThat(result.skipped()).isEqualTo(1);
+        verify(channel, never()).basicPublish(any(), any(), any(), any());
+        verify(channel).basicNack(7L, false, true);
+    }
+
+    private static GetResponse parked(long deliveryTag) {
+        AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder()
+                .contentType("application/json")
+                .headers(Map.of(EmailRetryPublisher.ATTEMPT_HEADER, 5,
+                        EmailRetryPublisher.PARKED_AT_HEADER, "2030-01-01T00:00:00Z"))
+                .build();
+        return new GetResponse(new Envelope(deliveryTag, false, "", EmailRetryPublisher.PARKED_QUEUE),
+                properties, BODY, 0);
+    }
+}
@@ -0,0 +1,155 @@
+package com.gm2dev.notification_service;
+
+import com.gm2dev.shared.email.EmailMessage;
+import com.resend.Resend;
+import com.resend.core.exception.ResendException;
+import com.resend.core.net.RequestOptions;
+import com.resend.services.batch.Batch;
+import com.resend.services.emails.Emails;
+import com.resend.services.emails.model.CreateEmailOptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResendEmailSenderTest {
+
+    @Mock
+    private Resend resend;
+
+    @Mock
+    private Batch batch;
+
+    @Mock
+    private Emails emails;
+
+    private EmailDeduplicator deduplicator;
+
+    private ResendEmailSender sender;
+
+    @BeforeEach
+    void setUp() {
+        SendRateLimiter rateLimiter = new SendRateLimiter(new EmailRateLimitProperties(1000, 10, 1), new SimpleMeterRegistry());
+        deduplicator = new EmailDeduplicator(new EmailDedupProperties(Duration.ofHours(1), 1000), null, Clock.systemUTC());
+        sender = new ResendEmailSender(resend, "test@gm2dev.com", new EmailRenderer("http://localhost:4200"), rateLimiter,
+                deduplicator);
+    }
+
+    @Test
+    void sendBatch_sendsOneRequestPerHundredEmails() throws ResendException {
+        when(resend.batch()).thenReturn(batch);
+        List<EmailMessage> messages = IntStream.range(0, 150)
+                .mapToObj(i -> (EmailMessage) new EmailMessage.VerificationEmailMessage("user" + i + "@example.com", "tok"))
+                .toList();
+
+        assertThat(sender.sendBatch(messages, EmailLane.Priority.HIGH)).isEmpty();
+
+        assertThat(messages).allMatch(deduplicator::isDelivered);
+        verify(batch).send(argThat((List<CreateEmailOptions> options) -> options.size() == 100), any(RequestOptions.class));
+        verify(batch).send(argThat((List<CreateEmailOptions> options) -> options.size() == 50), any(RequestOptions.class));
+        verifyNoInteractions(emails);
+    }
+
+    @Test
+    void sendBatch_rejectedBatch_fallsBackToIndividualSendsAndReportsOnlyFailures() throws ResendException {
+        when(resend.batch()).thenReturn(batch);
+        when(resend.emails()).thenReturn(emails);
+        when(batch.send(anyList(), any(RequestOptions.class))).thenThrow(new ResendException(422, "Invalid `to` field"));
+        EmailMessage good = new EmailMessage.PasswordResetEmailMessage("good@example.com", "tok");
+        EmailMessage bad = new EmailMessage.PasswordResetEmailMessage("not-an-address", "tok");
+        when(emails.send(any(), any(RequestOptions.class))).thenAnswer(inv -> {
+            CreateEmailOptions options = inv.getArgument(0);
+            if (options.getTo().contains("not-an-address")) {
+                throw new ResendException(422, "Invalid `to` field");
+            }
+            return null;
+        });
+
+        assertThat(sender.sendBatch(List.of(good, bad), EmailLane.Priority.HIGH)).containsExactly(bad);
+        verify(emails, times(2)).send(any(), any(RequestOptions.class));
+        assertThat(deduplicator.isDelivered(good)).isTrue();
+        assertThat(deduplicator.isDelivered(bad)).isFalse();
+    }
+
+    @Test
+    void sendEach_usesPerMessageKeysAndSkipsMessagesKnownDelivered() throws ResendException {
+        when(resend.emails()).thenReturn(emails);
+        EmailMessage delivered = new EmailMessage.VerificationEmailMessage("a@example.com", "tok");
+        EmailMessage pending = new EmailMessage.VerificationEmailMessage("b@example.com", "tok");
+        deduplicator.markDelivered(delivered);
+
+        assertThat(sender.sendEach(List.of(delivered, pending), EmailLane.Priority.LOW)).isEmpty();
+
+        verify(emails).send(argThat(options -> options.getTo().contains("b@example.com")),
+                argThat(options -> ResendEmailSender.messageKey(pending).equals(options.getIdempotencyKey())));
+        verifyNoMoreInteractions(emails);
+        verify(resend, never()).batch();
+        assertThat(deduplicator.isDelivered(pending)).isTrue();
+    }
+
+    @Test
+    void sendBatch_throttledBatch_failsWholeChunkWithoutIndividualSends() throws ResendException {
+        when(resend.batch()).thenReturn(batch);
+        when(batch.send(anyList(), any(RequestOptions.class))).thenThrow(new ResendException(429, "Too many requests"));
+        List<EmailMessage> messages = List.of(
+                new EmailMessage.PasswordResetEmailMessage("a@example.com", "tok"),
+                new EmailMessage.PasswordResetEmailMessage("b@example.com", "tok"));
+
+        assertThat(sender.sendBatch(messages, EmailLane.Priority.HIGH)).containsExactlyElementsOf(messages);
+        verify(resend, never()).emails();
+    }
+
+    @Test
+    void sendBatch_serverErrorOrTransportFailure_failsWholeChunk() throws ResendException {
+        when(resend.batch()).thenReturn(batch);
+        when(batch.send(anyList(), any(RequestOptions.class)))
+                .thenThrow(new ResendException(503, "Service unavailable"))
+                .thenThrow(new RuntimeException("Connection reset"));
+        List<EmailMessage> messages = List.of(
+                new EmailMessage.VerificationEmailMessage("a@example.com", "tok"),
+                new EmailMessage.VerificationEmailMessage("b@example.com", "tok"));
+
+        assertThat(sender.sendBatch(messages, EmailLane.Priority.LOW)).hasSize(2);
+        assertThat(sender.sendBatch(messages, EmailLane.Priority.LOW)).hasSize(2);
+        verify(resend, never()).emails();
+        assertThat(messages).noneMatch(deduplicator::isDelivered);
+    }
+
+    @Test
+    void sendBatch_singleMessage_skipsBatchEndpoint() throws ResendException {
+        when(resend.emails()).thenReturn(emails);
+        EmailMessage message = new EmailMessage.TemporaryPasswordEmailMessage("user@example.com", "Temp123!");
+
+        assertThat(sender.sendBatch(List.of(message), EmailLane.Priority.HIGH)).isEmpty();
+
+        verify(emails).send(argThat(options -> options.getTo().contains("user@example.com")),
+                argThat(options -> ("email/" + message.messageId()).equals(options.getIdempotencyKey())));
+        verify(resend, never()).batch();
+    }
+
+    @Test
+    void batchKey_dependsOnlyOnMessageIds() {
+        EmailMessage first = new EmailMessage.VerificationEmailMessage("id-1", "a@example.com", "tok");
+        EmailMessage second = new EmailMessage.VerificationEmailMessage("id-2", "b@example.com", "tok");
+
+        assertThat(ResendEmailSender.batchKey(List.of(first, second)))
+                .startsWith("batch/")
+                .isEqualTo(ResendEmailSender.batchKey(List.of(
+                        new EmailMessage.VerificationEmailMessage("id-1", "a@example.com", "other"), second)))
+                .isNotEqualTo(ResendEmailSender.batchKey(List.of(first)));
+    }
+}
@@ -0,0 +1,75 @@
+package com.gm2dev.notification_service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class SendRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void acquire_lowPriorityLeavesReservedTokensForHigh() throws Exception {
+        SendRateLimiter limiter = new SendRateLimiter(new EmailRateLimitProperties(2, 2, 1), meterRegistry, clock::get);
+
+        limiter.acquire(EmailLane.Priority.LOW);
+        assertThat(limiter.availableTokens()).isEqualTo(1.0);
+
+        CompletableFuture<Void> blockedLow = CompletableFuture.runAsync(() -> acquireUnchecked(limiter, EmailLane.Priority.LOW));
+        assertThatThrownBy(() -> blockedLow.get(100, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+        limiter.acquire(EmailLane.Priority.HIGH);
+        assertThat(limiter.availableTokens()).isZero();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        blockedLow.get(5, TimeUnit.SECONDS);
+        assertThat(limiter.availableTokens()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("email.rate-limit.wait").tag("priority", "low").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void acquire_refillsAtConfiguredRateUpToBurst() throws Exception {
+        SendRateLimiter limiter = new SendRateLimiter(new EmailRateLimitProperties(4, 2, 0), meterRegistry, clock::get);
+
+        limiter.acquire(EmailLane.Priority.HIGH);
+        limiter.acquire(EmailLane.Priority.HIGH);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+        assertThat(limiter.availableTokens()).isCloseTo(1.0, within(1e-9));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(limiter.availableTokens()).isEqualTo(2.0);
+    }
+
+    @Test
+    void acquire_interruptedWhileWaiting_throws() throws Exception {
+        SendRateLimiter limiter = new SendRateLimiter(new EmailRateLimitProperties(1, 1, 0), meterRegistry, clock::get);
+        limiter.acquire(EmailLane.Priority.HIGH);
+
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(() -> limiter.acquire(EmailLane.Priority.HIGH)).isInstanceOf(InterruptedException.class);
+    }
+
+    @Test
+    void constructor_rejectsReserveNotBelowBurst() {
+        assertThatThrownBy(() -> new SendRateLimiter(new EmailRateLimitProperties(2, 2, 2), meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void acquireUnchecked(SendRateLimiter limiter, EmailLane.Priority priority) {
+        try {
+            limiter.acquire(priority);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.gm2dev.shared.calendar;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * One entry of a {@link CalendarBatchRequest}. Operations in a batch are not ordered against each
+ * other, so a batch should not combine dependent operations on the same event (e.g. an update and
+ * an attendee change). Attendee changes to the same event are applied in request order.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = CalendarBatchOperation.Create.class, name = "CREATE"),
+        @JsonSubTypes.Type(value = CalendarBatchOperation.Update.class, name = "UPDATE"),
+        @JsonSubTypes.Type(value = CalendarBatchOperation.Delete.class, name = "DELETE"),
+        @JsonSubTypes.Type(value = CalendarBatchOperation.AddAttendee.class, name = "ADD_ATTENDEE"),
+        @JsonSubTypes.Type(value = CalendarBatchOperation.RemoveAttendee.class, name = "REMOVE_ATTENDEE")
+})
+public sealed interface CalendarBatchOperation permits
+        CalendarBatchOperation.Create,
+        CalendarBatchOperation.Update,
+        CalendarBatchOperation.Delete,
+        CalendarBatchOperation.AddAttendee,
+        CalendarBatchOperation.RemoveAttendee {
+
+    record Create(CalendarEventRequest event) implements CalendarBatchOperation {}
+
+    /** event.googleEventId() identifies the event to replace. */
+    record Update(CalendarEventRequest event) implements CalendarBatchOperation {}
+
+    record Delete(String googleEventId) implements CalendarBatchOperation {}
+
+    record AddAttendee(AttendeeRequest attendee) implements CalendarBatchOperation {}
+
+    record RemoveAttendee(AttendeeRequest attendee) implements CalendarBatchOperation {}
+}
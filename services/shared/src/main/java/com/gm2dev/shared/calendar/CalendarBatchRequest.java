@@ -0,0 +1,13 @@
+package com.gm2dev.shared.calendar;
+
+import java.util.List;
+
+/**
+ * Sent by core to calendar-service to run several event operations in one round trip. At most
+ * {@link #MAX_OPERATIONS} operations are accepted per request.
+ */
+public record CalendarBatchRequest(List<CalendarBatchOperation> operations) {
+
+    /** Matches the number of calls Google accepts in one batch request. */
+    public static final int MAX_OPERATIONS = 1000;
+}
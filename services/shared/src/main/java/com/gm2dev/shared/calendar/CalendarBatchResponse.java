@@ -0,0 +1,8 @@
+package com.gm2dev.shared.calendar;
+
+import java.util.List;
+
+/**
+ * Returned by calendar-service for a batch: one result per operation, in request order.
+ */
+public record CalendarBatchResponse(List<CalendarBatchResult> results) {}
@@ -0,0 +1,24 @@
+package com.gm2dev.shared.calendar;
+
+/**
+ * Outcome of one batch operation. index is the operation's position in the request.
+ * On success eventId is the affected event (and meetLink is set for creates that produced one);
+ * on failure errorCode is the HTTP status reported for that operation.
+ */
+public record CalendarBatchResult(
+        int index,
+        boolean success,
+        String eventId,
+        String meetLink,
+        Integer errorCode,
+        String errorMessage
+) {
+
+    public static CalendarBatchResult success(int index, String eventId, String meetLink) {
+        return new CalendarBatchResult(index, true, eventId, meetLink, null, null);
+    }
+
+    public static CalendarBatchResult failure(int index, int errorCode, String errorMessage) {
+        return new CalendarBatchResult(index, false, null, null, errorCode, errorMessage);
+    }
+}
@@ -0,0 +1,256 @@
+package com.gm2dev.shared.calendar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Binary (CBOR) encoding of the core ↔ calendar-service contract, used instead of JSON when a
+ * request is sent with {@code Content-Type: application/cbor}.
+ *
+ * <p>{@link CalendarEventRequest}, {@link AttendeeRequest} and {@link CalendarEventResponse} are
+ * written by hand as positional arrays: no field names on the wire and no reflection when
+ * reading. Instants are epoch milliseconds. Fields may only be appended; a reader fills fields
+ * missing from the end of an array with {@code null} and skips trailing ones it does not know, so
+ * core and calendar-service can be deployed in either order. Batch envelopes keep their
+ * annotation-driven layout and reuse these encodings for the records they carry.
+ */
+public final class CalendarCbor {
+
+    public static final String MEDIA_TYPE = "application/cbor";
+
+    private static final Set<Class<?>> SUPPORTED = Set.of(
+            CalendarEventRequest.class, AttendeeRequest.class, CalendarEventResponse.class,
+            CalendarBatchRequest.class, CalendarBatchResponse.class);
+
+    private static final ObjectMapper MAPPER = new CBORMapper().registerModule(new SimpleModule("calendar-cbor")
+            .addSerializer(CalendarEventRequest.class, new EventRequestSerializer())
+            .addDeserializer(CalendarEventRequest.class, new EventRequestDeserializer())
+            .addSerializer(AttendeeRequest.class, new AttendeeRequestSerializer())
+            .addDeserializer(AttendeeRequest.class, new AttendeeRequestDeserializer())
+            .addSerializer(CalendarEventResponse.class, new EventResponseSerializer())
+            .addDeserializer(CalendarEventResponse.class, new EventResponseDeserializer()));
+
+    private CalendarCbor() {
+    }
+
+    /** True for the request and response bodies of the calendar-service API. */
+    public static boolean supports(Type type) {
+        return type instanceof Class<?> clazz && SUPPORTED.contains(clazz);
+    }
+
+    public static byte[] write(Object value) throws IOException {
+        if (!supports(value.getClass())) {
+            throw new IllegalArgumentException("No CBOR encoding for " + value.getClass().getName());
+        }
+        return MAPPER.writeValueAsBytes(value);
+    }
+
+    public static <T> T read(InputStream in, Class<T> type) throws IOException {
+        if (!supports(type)) {
+            throw new IllegalArgumentException("No CBOR encoding for " + type.getName());
+        }
+        return MAPPER.readValue(in, type);
+    }
+
+    private static final class EventRequestSerializer extends StdSerializer<CalendarEventRequest> {
+
+        EventRequestSerializer() {
+            super(CalendarEventRequest.class);
+        }
+
+        @Override
+        public void serialize(CalendarEventRequest value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray(value, 11);
+            gen.writeString(value.googleEventId());
+            gen.writeString(value.techStack());
+            gen.writeString(value.candidateName());
+            gen.writeString(value.candidateEmail());
+            gen.writeString(value.candidateLinkedIn());
+            gen.writeString(value.primaryArea());
+            gen.writeString(value.feedbackLink());
+            gen.writeString(value.interviewerEmail());
+            writeStrings(gen, value.approvedShadowerEmails());
+            writeInstant(gen, value.startTime());
+            writeInstant(gen, value.endTime());
+            gen.writeEndArray();
+        }
+    }
+
+    private static final class EventRequestDeserializer extends StdDeserializer<CalendarEventRequest> {
+
+        EventRequestDeserializer() {
+            super(CalendarEventRequest.class);
+        }
+
+        @Override
+        public CalendarEventRequest deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            Fields fields = new Fields(parser, CalendarEventRequest.class);
+            CalendarEventRequest request = new CalendarEventRequest(
+                    fields.string(), fields.string(), fields.string(), fields.string(), fields.string(),
+                    fields.string(), fields.string(), fields.string(), fields.strings(),
+                    fields.instant(), fields.instant());
+            fields.end();
+            return request;
+        }
+    }
+
+    private static final class AttendeeRequestSerializer extends StdSerializer<AttendeeRequest> {
+
+        AttendeeRequestSerializer() {
+            super(AttendeeRequest.class);
+        }
+
+        @Override
+        public void serialize(AttendeeRequest value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray(value, 2);
+            gen.writeString(value.googleEventId());
+            gen.writeString(value.email());
+            gen.writeEndArray();
+        }
+    }
+
+    private static final class AttendeeRequestDeserializer extends StdDeserializer<AttendeeRequest> {
+
+        AttendeeRequestDeserializer() {
+            super(AttendeeRequest.class);
+        }
+
+        @Override
+        public AttendeeRequest deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            Fields fields = new Fields(parser, AttendeeRequest.class);
+            AttendeeRequest request = new AttendeeRequest(fields.string(), fields.string());
+            fields.end();
+            return request;
+        }
+    }
+
+    private static final class EventResponseSerializer extends StdSerializer<CalendarEventResponse> {
+
+        EventResponseSerializer() {
+            super(CalendarEventResponse.class);
+        }
+
+        @Override
+        public void serialize(CalendarEventResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray(value, 2);
+            gen.writeString(value.eventId());
+            gen.writeString(value.meetLink());
+            gen.writeEndArray();
+        }
+    }
+
+    private static final class EventResponseDeserializer extends StdDeserializer<CalendarEventResponse> {
+
+        EventResponseDeserializer() {
+            super(CalendarEventResponse.class);
+        }
+
+        @Override
+        public CalendarEventResponse deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            Fields fields = new Fields(parser, CalendarEventResponse.class);
+            CalendarEventResponse response = new CalendarEventResponse(fields.string(), fields.string());
+            fields.end();
+            return response;
+        }
+    }
+
+    private static void writeStrings(JsonGenerator gen, List<String> values) throws IOException {
+        if (values == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(values, values.size());
+        for (String value : values) {
+            gen.writeString(value);
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeInstant(JsonGenerator gen, Instant value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.toEpochMilli());
+        }
+    }
+
+    /** Reads the elements of one positional array in order. */
+    private static final class Fields {
+
+        private final JsonParser parser;
+        private final Class<?> type;
+        private boolean ended;
+
+        Fields(JsonParser parser, Class<?> type) throws IOException {
+            this.parser = parser;
+            this.type = type;
+            if (!parser.isExpectedStartArrayToken()) {
+                throw MismatchedInputException.from(parser, type, "Expected an array for " + type.getSimpleName());
+            }
+        }
+
+        String string() throws IOException {
+            JsonToken token = next();
+            return token == null || token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+        }
+
+        List<String> strings() throws IOException {
+            JsonToken token = next();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw MismatchedInputException.from(parser, type, "Expected an array of strings");
+            }
+            List<String> values = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                values.add(parser.getValueAsString());
+            }
+            return values;
+        }
+
+        Instant instant() throws IOException {
+            JsonToken token = next();
+            return token == null || token == JsonToken.VALUE_NULL ? null : Instant.ofEpochMilli(parser.getLongValue());
+        }
+
+        /** Skips fields appended by a newer writer. */
+        void end() throws IOException {
+            while (next() != null) {
+                parser.skipChildren();
+            }
+        }
+
+        private JsonToken next() throws IOException {
+            if (ended) {
+                return null;
+            }
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY) {
+                ended = true;
+                return null;
+            }
+            if (token == null) {
+                throw MismatchedInputException.from(parser, type, "Truncated " + type.getSimpleName());
+            }
+            return token;
+        }
+    }
+}
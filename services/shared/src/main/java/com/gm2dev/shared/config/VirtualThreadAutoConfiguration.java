@@ -0,0 +1,48 @@
+package com.gm2dev.shared.config;
+
+import com.gm2dev.shared.diagnostics.VirtualThreadPinningMonitor;
+import com.gm2dev.shared.messaging.VirtualThreadListenerContainers;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.cloud.stream.config.ListenerContainerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Active in every service with {@code spring.threads.virtual.enabled=true}. Boot then runs Tomcat
+ * requests, {@code @Async} and {@code @Scheduled} work on virtual threads; this adds pinning
+ * diagnostics and, where the service uses Spring Cloud Stream Rabbit, the listener containers the
+ * binder builds itself.
+ */
+@AutoConfiguration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnClass(MeterRegistry.class)
+public class VirtualThreadAutoConfiguration {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value(VirtualThreadPinningMonitor.THRESHOLD_PLACEHOLDER) Duration threshold) {
+        return VirtualThreadPinningMonitor.withMetrics(meterRegistry, threshold);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({ListenerContainerCustomizer.class, MessageListenerContainer.class})
+    static class StreamRabbitListenerContainers {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "virtualThreadListenerContainers")
+        public ListenerContainerCustomizer<MessageListenerContainer> virtualThreadListenerContainers() {
+            return VirtualThreadListenerContainers.customizer();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.gm2dev.shared.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streams JFR {@code jdk.VirtualThreadPinned} events from the running JVM: a virtual thread that
+ * blocked for longer than {@code threshold} while it could not unmount from its carrier thread
+ * (since JDK 24 that means a native frame or a class initializer on the stack, no longer
+ * {@code synchronized}). Each event is logged with its stack and handed to the listener.
+ *
+ * <p>Pinned threads hold a carrier for the whole block, so a few of them can starve every other
+ * virtual thread; the stack shows which call to move off the virtual thread or restructure.
+ */
+public final class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    public static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    /** Timer every service records pinned threads on. */
+    public static final String METRIC_NAME = "jvm.threads.virtual.pinned";
+    /** {@code @Value} placeholder for the reporting threshold, with its default. */
+    public static final String THRESHOLD_PLACEHOLDER = "${app.virtual-threads.pinned-threshold:20ms}";
+
+    private static final System.Logger LOG = System.getLogger(VirtualThreadPinningMonitor.class.getName());
+    private static final int MAX_FRAMES = 16;
+
+    private final Duration threshold;
+    private final Consumer<PinnedThread> listener;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, Consumer<PinnedThread> listener) {
+        this.threshold = threshold;
+        this.listener = listener;
+    }
+
+    /** Monitor that records each pinned thread on the {@value #METRIC_NAME} timer. */
+    public static VirtualThreadPinningMonitor withMetrics(MeterRegistry meterRegistry, Duration threshold) {
+        Timer pinned = Timer.builder(METRIC_NAME)
+                .description("Virtual threads that blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+        return new VirtualThreadPinningMonitor(threshold, event -> pinned.record(event.duration()));
+    }
+
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+        recording.onEvent(EVENT_NAME, event -> report(PinnedThread.of(event)));
+        recording.startAsync();
+        stream = recording;
+        LOG.log(System.Logger.Level.INFO, "Reporting virtual threads pinned for longer than {0} ms", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    private void report(PinnedThread pinned) {
+        LOG.log(System.Logger.Level.WARNING, "Virtual thread {0} was pinned for {1} ms ({2}):\n\tat {3}",
+                pinned.threadName(), pinned.duration().toMillis(), pinned.reason(),
+                String.join("\n\tat ", pinned.stackTrace()));
+        try {
+            listener.accept(pinned);
+        } catch (RuntimeException e) {
+            LOG.log(System.Logger.Level.WARNING, "Pinned virtual thread listener failed", e);
+        }
+    }
+
+    /**
+     * @param reason     why the thread could not unmount, when the JVM reports it (JDK 24+)
+     * @param stackTrace top frames of the pinned thread, innermost first
+     */
+    public record PinnedThread(Duration duration, String threadName, String reason, List<String> stackTrace) {
+
+        static PinnedThread of(RecordedEvent event) {
+            String threadName = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+            String reason = event.hasField("pinnedReason") ? event.getString("pinnedReason") : "unknown";
+            List<String> frames = event.getStackTrace() == null ? List.of()
+                    : event.getStackTrace().getFrames().stream()
+                            .limit(MAX_FRAMES)
+                            .map(PinnedThread::describe)
+                            .toList();
+            return new PinnedThread(event.getDuration(), threadName, reason, frames);
+        }
+
+        private static String describe(RecordedFrame frame) {
+            return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                    + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.gm2dev.shared.email;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
+import java.util.UUID;
+
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
 @JsonSubTypes({
         @JsonSubTypes.Type(value = EmailMessage.VerificationEmailMessage.class, name = "VERIFICATION"),
@@ -16,18 +18,81 @@ public sealed interface EmailMessage permits
         EmailMessage.TemporaryPasswordEmailMessage,
         EmailMessage.ShadowingApprovedEmailMessage {
 
+    /**
+     * Message header carrying the epoch milliseconds at which the message was published (or
+     * re-published after a retry delay); consumers measure queue wait from it.
+     */
+    String PUBLISHED_AT_HEADER = "x-email-published-at";
+
+    /**
+     * Identifies one logical email. It is assigned when the message is created and stays the same
+     * across retries and redeliveries, so consumers can deduplicate on it. Messages serialized
+     * before the field existed get a fresh ID when read.
+     */
+    String messageId();
+
     String to();
 
-    record VerificationEmailMessage(String to, String token) implements EmailMessage {}
+    /**
+     * Routing key for the message, equal to its {@code type} discriminator. notification-service
+     * binds one queue per routing key, so each message type is consumed in its own lane.
+     */
+    default String routingKey() {
+        return switch (this) {
+            case VerificationEmailMessage ignored -> "VERIFICATION";
+            case PasswordResetEmailMessage ignored -> "PASSWORD_RESET";
+            case TemporaryPasswordEmailMessage ignored -> "TEMPORARY_PASSWORD";
+            case ShadowingApprovedEmailMessage ignored -> "SHADOWING_APPROVED";
+        };
+    }
+
+    static String newMessageId() {
+        return UUID.randomUUID().toString();
+    }
+
+    record VerificationEmailMessage(String messageId, String to, String token) implements EmailMessage {
+        public VerificationEmailMessage {
+            messageId = messageId == null ? newMessageId() : messageId;
+        }
 
-    record PasswordResetEmailMessage(String to, String token) implements EmailMessage {}
+        public VerificationEmailMessage(String to, String token) {
+            this(null, to, token);
+        }
+    }
 
-    record TemporaryPasswordEmailMessage(String to, String temporaryPassword) implements EmailMessage {}
+    record PasswordResetEmailMessage(String messageId, String to, String token) implements EmailMessage {
+        public PasswordResetEmailMessage {
+            messageId = messageId == null ? newMessageId() : messageId;
+        }
+
+        public PasswordResetEmailMessage(String to, String token) {
+            this(null, to, token);
+        }
+    }
+
+    record TemporaryPasswordEmailMessage(String messageId, String to, String temporaryPassword) implements EmailMessage {
+        public TemporaryPasswordEmailMessage {
+            messageId = messageId == null ? newMessageId() : messageId;
+        }
+
+        public TemporaryPasswordEmailMessage(String to, String temporaryPassword) {
+            this(null, to, temporaryPassword);
+        }
+    }
 
     record ShadowingApprovedEmailMessage(
+            String messageId,
             String to,
             String summary,
             String startTime,
             String endTime
-    ) implements EmailMessage {}
+    ) implements EmailMessage {
+        public ShadowingApprovedEmailMessage {
+            messageId = messageId == null ? newMessageId() : messageId;
+        }
+
+        public ShadowingApprovedEmailMessage(String to, String summary, String startTime, String endTime) {
+            this(null, to, summary, startTime, endTime);
+        }
+    }
 }
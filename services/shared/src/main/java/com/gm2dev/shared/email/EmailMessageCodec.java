@@ -0,0 +1,114 @@
+package com.gm2dev.shared.email;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads and writes {@link EmailMessage}s on the {@code notification.emails} exchange without
+ * databind: encoding switches over the sealed hierarchy and decoding over the {@code type}
+ * discriminator, on Jackson's streaming parser.
+ *
+ * <p>Version 1 is the JSON that Jackson writes from the {@code @JsonTypeInfo} annotations, so
+ * either side can still use Jackson, and a message published without the
+ * {@link #VERSION_HEADER} is version 1. Fields are matched by name and unknown ones are skipped,
+ * so adding a field needs no new version. Bump {@link #VERSION} only for a change an older
+ * decoder would misread (a renamed or re-typed field); older consumers then park those messages
+ * for replay instead of delivering wrong emails. Deploy notification-service before core when
+ * bumping it.
+ */
+public final class EmailMessageCodec {
+
+    /** Message header with the format version of the payload. */
+    public static final String VERSION_HEADER = "x-email-format-version";
+
+    /** Version written by {@link #encode(EmailMessage)}; the decoder reads this and every older one. */
+    public static final int VERSION = 1;
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private EmailMessageCodec() {
+    }
+
+    public static byte[] encode(EmailMessage message) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try (JsonGenerator gen = JSON.createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeStringField("type", message.routingKey());
+            gen.writeStringField("messageId", message.messageId());
+            gen.writeStringField("to", message.to());
+            switch (message) {
+                case EmailMessage.VerificationEmailMessage verification ->
+                        gen.writeStringField("token", verification.token());
+                case EmailMessage.PasswordResetEmailMessage passwordReset ->
+                        gen.writeStringField("token", passwordReset.token());
+                case EmailMessage.TemporaryPasswordEmailMessage temporaryPassword ->
+                        gen.writeStringField("temporaryPassword", temporaryPassword.temporaryPassword());
+                case EmailMessage.ShadowingApprovedEmailMessage shadowingApproved -> {
+                    gen.writeStringField("summary", shadowingApproved.summary());
+                    gen.writeStringField("startTime", shadowingApproved.startTime());
+                    gen.writeStringField("endTime", shadowingApproved.endTime());
+                }
+            }
+            gen.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static EmailMessage decode(byte[] payload, int version) {
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Unsupported email format version " + version);
+        }
+        return decode(payload);
+    }
+
+    public static EmailMessage decode(byte[] payload) {
+        Map<String, String> fields = readFields(payload);
+        String type = fields.get("type");
+        if (type == null) {
+            throw new IllegalArgumentException("Email message has no type");
+        }
+        String messageId = fields.get("messageId");
+        String to = fields.get("to");
+        return switch (type) {
+            case "VERIFICATION" -> new EmailMessage.VerificationEmailMessage(messageId, to, fields.get("token"));
+            case "PASSWORD_RESET" -> new EmailMessage.PasswordResetEmailMessage(messageId, to, fields.get("token"));
+            case "TEMPORARY_PASSWORD" ->
+                    new EmailMessage.TemporaryPasswordEmailMessage(messageId, to, fields.get("temporaryPassword"));
+            case "SHADOWING_APPROVED" -> new EmailMessage.ShadowingApprovedEmailMessage(messageId, to,
+                    fields.get("summary"), fields.get("startTime"), fields.get("endTime"));
+            default -> throw new IllegalArgumentException("Unknown email message type " + type);
+        };
+    }
+
+    /** Top-level scalar fields of a JSON object; nested values are skipped. */
+    private static Map<String, String> readFields(byte[] payload) {
+        Map<String, String> fields = new HashMap<>();
+        try (JsonParser parser = JSON.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Email message is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value.isStructStart()) {
+                    parser.skipChildren();
+                } else {
+                    fields.put(name, value == JsonToken.VALUE_NULL ? null : parser.getText());
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed email message: " + e.getMessage(), e);
+        }
+        return fields;
+    }
+}
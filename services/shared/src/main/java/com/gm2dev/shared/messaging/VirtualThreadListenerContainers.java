@@ -0,0 +1,25 @@
+package com.gm2dev.shared.messaging;
+
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.cloud.stream.config.ListenerContainerCustomizer;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Spring Cloud Stream builds its Rabbit listener containers itself, so Boot's virtual-thread
+ * switch does not reach them; this customizer gives each container a virtual-thread executor
+ * named after its group (or destination, for anonymous consumers).
+ */
+public final class VirtualThreadListenerContainers {
+
+    private VirtualThreadListenerContainers() {
+    }
+
+    public static ListenerContainerCustomizer<MessageListenerContainer> customizer() {
+        return (container, destination, group) -> {
+            if (container instanceof AbstractMessageListenerContainer listenerContainer) {
+                listenerContainer.setTaskExecutor(new VirtualThreadTaskExecutor((group != null ? group : destination) + "-"));
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.gm2dev.shared.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Identity of an already-authenticated caller, forwarded by the api-gateway to core as signed
+ * {@code X-Internal-*} headers so core does not have to verify the same JWT a second time.
+ *
+ * <p>The signature is an HMAC-SHA256 over every field, keyed with {@link #deriveKey(String)} of
+ * the JWT signing secret both services already share. The derived key is distinct from the JWT
+ * key, so a header signature can never be passed off as a token signature or vice versa.
+ */
+public record InternalIdentity(String subject, String email, String role, Instant expiresAt) {
+
+    public static final String HEADER_PREFIX = "X-Internal-";
+    public static final String SUBJECT_HEADER = HEADER_PREFIX + "Subject";
+    public static final String EMAIL_HEADER = HEADER_PREFIX + "Email";
+    public static final String ROLE_HEADER = HEADER_PREFIX + "Role";
+    public static final String EXPIRES_AT_HEADER = HEADER_PREFIX + "Expires-At";
+    public static final String SIGNATURE_HEADER = HEADER_PREFIX + "Signature";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final byte[] KEY_CONTEXT = "interview-hub/internal-identity/v1".getBytes(StandardCharsets.UTF_8);
+
+    public static byte[] deriveKey(String jwtSigningSecret) {
+        return hmac(jwtSigningSecret.getBytes(StandardCharsets.UTF_8), KEY_CONTEXT);
+    }
+
+    public String sign(byte[] key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hmac(key, payload()));
+    }
+
+    /**
+     * True when {@code signature} was produced by {@link #sign(byte[])} with the same key over
+     * these exact fields. Expiry is checked separately by the caller.
+     */
+    public boolean hasValidSignature(byte[] key, String signature) {
+        if (signature == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(sign(key).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private byte[] payload() {
+        String fields = String.join("\n", nullToEmpty(subject), nullToEmpty(email), nullToEmpty(role),
+                Long.toString(expiresAt.getEpochSecond()));
+        return fields.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static byte[] hmac(byte[] key, byte[] data) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(key, HMAC_ALGORITHM));
+            return mac.doFinal(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
@@ -1,30 +1,40 @@
 package com.gm2dev.shared;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.gm2dev.shared.calendar.AttendeeRequest;
+import com.gm2dev.shared.calendar.CalendarBatchOperation;
+import com.gm2dev.shared.calendar.CalendarBatchRequest;
+import com.gm2dev.shared.calendar.CalendarBatchResponse;
+import com.gm2dev.shared.calendar.CalendarBatchResult;
+import com.gm2dev.shared.calendar.CalendarCbor;
 import com.gm2dev.shared.calendar.CalendarEventRequest;
 import com.gm2dev.shared.calendar.CalendarEventResponse;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class CalendarDtoSerializationTest {
 
     private final ObjectMapper mapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
 
+    private final CalendarEventRequest eventRequest = new CalendarEventRequest(
+        null, "Java", "Alice", "alice@example.com",
+        "https://linkedin.com/in/alice", "Backend", "https://feedback.link",
+        "interviewer@example.com", List.of("shadow@example.com"),
+        Instant.parse("2026-04-01T10:00:00Z"), Instant.parse("2026-04-01T11:00:00Z")
+    );
+
     @Test
     void shouldRoundTripCalendarEventRequest() throws Exception {
-        var req = new CalendarEventRequest(
-            null, "Java", "Alice", "alice@example.com",
-            "https://linkedin.com/in/alice", "Backend", "https://feedback.link",
-            "interviewer@example.com", List.of("shadow@example.com"),
-            Instant.parse("2026-04-01T10:00:00Z"), Instant.parse("2026-04-01T11:00:00Z")
-        );
+        var req = eventRequest;
         String json = mapper.writeValueAsString(req);
         CalendarEventRequest result = mapper.readValue(json, CalendarEventRequest.class);
         assertThat(result.candidateName()).isEqualTo("Alice");
@@ -49,4 +59,98 @@ class CalendarDtoSerializationTest {
         assertThat(result.googleEventId()).isEqualTo("evt-456");
         assertThat(result.email()).isEqualTo("newattendee@example.com");
     }
+
+    @Test
+    void shouldRoundTripCalendarBatchRequestWithTypedOperations() throws Exception {
+        var req = new CalendarBatchRequest(List.of(
+            new CalendarBatchOperation.Delete("evt-1"),
+            new CalendarBatchOperation.AddAttendee(new AttendeeRequest("evt-2", "a@example.com")),
+            new CalendarBatchOperation.RemoveAttendee(new AttendeeRequest("evt-2", "b@example.com"))
+        ));
+        String json = mapper.writeValueAsString(req);
+        assertThat(json).contains("\"type\":\"DELETE\"").contains("\"type\":\"ADD_ATTENDEE\"");
+        CalendarBatchRequest result = mapper.readValue(json, CalendarBatchRequest.class);
+        assertThat(result).isEqualTo(req);
+    }
+
+    @Test
+    void shouldRoundTripCalendarBatchResponse() throws Exception {
+        var resp = new CalendarBatchResponse(List.of(
+            CalendarBatchResult.success(0, "evt-1", "https://meet.google.com/abc"),
+            CalendarBatchResult.failure(1, 404, "Not Found")
+        ));
+        String json = mapper.writeValueAsString(resp);
+        CalendarBatchResponse result = mapper.readValue(json, CalendarBatchResponse.class);
+        assertThat(result).isEqualTo(resp);
+    }
+
+    @Test
+    void shouldRoundTripCalendarEventRequestAsCbor() throws Exception {
+        CalendarEventRequest result = cborRoundTrip(eventRequest, CalendarEventRequest.class);
+        assertThat(result).isEqualTo(eventRequest);
+    }
+
+    @Test
+    void shouldRoundTripCalendarEventRequestWithNullsAsCbor() throws Exception {
+        var req = new CalendarEventRequest("evt-1", "Java", null, null, null, null, null, null, null, null, null);
+        assertThat(cborRoundTrip(req, CalendarEventRequest.class)).isEqualTo(req);
+    }
+
+    @Test
+    void shouldRoundTripCalendarEventResponseAsCbor() throws Exception {
+        var resp = new CalendarEventResponse("evt-123", "https://meet.google.com/abc");
+        assertThat(cborRoundTrip(resp, CalendarEventResponse.class)).isEqualTo(resp);
+    }
+
+    @Test
+    void shouldRoundTripAttendeeRequestAsCbor() throws Exception {
+        var req = new AttendeeRequest("evt-456", "newattendee@example.com");
+        assertThat(cborRoundTrip(req, AttendeeRequest.class)).isEqualTo(req);
+    }
+
+    @Test
+    void shouldRoundTripCalendarBatchRequestAsCbor() throws Exception {
+        var req = new CalendarBatchRequest(List.of(
+            new CalendarBatchOperation.Create(eventRequest),
+            new CalendarBatchOperation.Delete("evt-1"),
+            new CalendarBatchOperation.AddAttendee(new AttendeeRequest("evt-2", "a@example.com"))
+        ));
+        assertThat(cborRoundTrip(req, CalendarBatchRequest.class)).isEqualTo(req);
+    }
+
+    @Test
+    void shouldRoundTripCalendarBatchResponseAsCbor() throws Exception {
+        var resp = new CalendarBatchResponse(List.of(
+            CalendarBatchResult.success(0, "evt-1", "https://meet.google.com/abc"),
+            CalendarBatchResult.failure(1, 404, "Not Found")
+        ));
+        assertThat(cborRoundTrip(resp, CalendarBatchResponse.class)).isEqualTo(resp);
+    }
+
+    @Test
+    void shouldEncodeCalendarEventRequestSmallerAsCborThanJson() throws Exception {
+        assertThat(CalendarCbor.write(eventRequest).length).isLessThan(mapper.writeValueAsBytes(eventRequest).length * 3 / 4);
+    }
+
+    @Test
+    void shouldIgnoreAppendedFieldsAndDefaultMissingOnesInCbor() throws Exception {
+        var cbor = new CBORMapper();
+        byte[] newer = cbor.writeValueAsBytes(List.of("evt-1", "a@example.com", "added-later"));
+        byte[] older = cbor.writeValueAsBytes(List.of("evt-2"));
+
+        assertThat(CalendarCbor.read(new ByteArrayInputStream(newer), AttendeeRequest.class))
+            .isEqualTo(new AttendeeRequest("evt-1", "a@example.com"));
+        assertThat(CalendarCbor.read(new ByteArrayInputStream(older), AttendeeRequest.class))
+            .isEqualTo(new AttendeeRequest("evt-2", null));
+    }
+
+    @Test
+    void shouldRejectCborForUnsupportedTypes() {
+        assertThatThrownBy(() -> CalendarCbor.write("not a calendar payload"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static <T> T cborRoundTrip(T value, Class<T> type) throws Exception {
+        return CalendarCbor.read(new ByteArrayInputStream(CalendarCbor.write(value)), type);
+    }
 }
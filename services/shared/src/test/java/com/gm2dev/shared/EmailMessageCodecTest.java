@@ -0,0 +1,69 @@
+package com.gm2dev.shared;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gm2dev.shared.email.EmailMessage;
+import com.gm2dev.shared.email.EmailMessageCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmailMessageCodecTest {
+
+    private static final List<EmailMessage> MESSAGES = List.of(
+        new EmailMessage.VerificationEmailMessage("user@example.com", "tok123"),
+        new EmailMessage.PasswordResetEmailMessage("reset@example.com", "reset-tok"),
+        new EmailMessage.TemporaryPasswordEmailMessage("new@example.com", "TmpPass1!"),
+        new EmailMessage.ShadowingApprovedEmailMessage(
+            "shadow@example.com", "Java Interview - Alice", "2026-04-01T10:00", "2026-04-01T11:00")
+    );
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void shouldRoundTripEveryMessageType() {
+        for (EmailMessage message : MESSAGES) {
+            assertThat(EmailMessageCodec.decode(EmailMessageCodec.encode(message))).isEqualTo(message);
+        }
+    }
+
+    @Test
+    void shouldStayCompatibleWithJacksonInBothDirections() throws Exception {
+        for (EmailMessage message : MESSAGES) {
+            assertThat(mapper.readValue(EmailMessageCodec.encode(message), EmailMessage.class)).isEqualTo(message);
+            assertThat(EmailMessageCodec.decode(mapper.writerFor(EmailMessage.class).writeValueAsBytes(message)))
+                .isEqualTo(message);
+        }
+    }
+
+    @Test
+    void shouldSkipUnknownFieldsAndAssignMissingMessageId() {
+        byte[] json = """
+            {"to":"user@example.com","extra":{"nested":[1,2]},"type":"VERIFICATION","token":"tok","later":7}
+            """.getBytes(StandardCharsets.UTF_8);
+
+        EmailMessage result = EmailMessageCodec.decode(json);
+
+        assertThat(result).isInstanceOf(EmailMessage.VerificationEmailMessage.class);
+        assertThat(((EmailMessage.VerificationEmailMessage) result).token()).isEqualTo("tok");
+        assertThat(result.to()).isEqualTo("user@example.com");
+        assertThat(result.messageId()).isNotBlank();
+    }
+
+    @Test
+    void shouldRejectNewerVersionsAndUnknownTypes() {
+        byte[] payload = EmailMessageCodec.encode(MESSAGES.getFirst());
+
+        assertThat(EmailMessageCodec.decode(payload, EmailMessageCodec.VERSION)).isEqualTo(MESSAGES.getFirst());
+        assertThatThrownBy(() -> EmailMessageCodec.decode(payload, EmailMessageCodec.VERSION + 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("version");
+        assertThatThrownBy(() -> EmailMessageCodec.decode("{\"type\":\"NEWSLETTER\"}".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmailMessageCodec.decode("[]".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -56,4 +56,42 @@ class EmailMessageSerializationTest {
         String json = mapper.writeValueAsString(msg);
         assertThat(json).contains("\"type\":\"VERIFICATION\"");
     }
+
+    @Test
+    void shouldRoundTripMessageId() throws Exception {
+        var original = new EmailMessage.PasswordResetEmailMessage("reset@example.com", "reset-tok");
+        EmailMessage result = mapper.readValue(mapper.writeValueAsString(original), EmailMessage.class);
+        assertThat(original.messageId()).isNotBlank();
+        assertThat(result.messageId()).isEqualTo(original.messageId());
+        assertThat(result).isEqualTo(original);
+    }
+
+    @Test
+    void convenienceConstructorsAssignDistinctMessageIds() {
+        var first = new EmailMessage.VerificationEmailMessage("u@e.com", "t");
+        var second = new EmailMessage.VerificationEmailMessage("u@e.com", "t");
+        assertThat(first.messageId()).isNotEqualTo(second.messageId());
+    }
+
+    @Test
+    void shouldAssignMessageIdToPayloadWithoutOne() throws Exception {
+        String legacy = "{\"type\":\"VERIFICATION\",\"to\":\"u@e.com\",\"token\":\"t\"}";
+        EmailMessage result = mapper.readValue(legacy, EmailMessage.class);
+        assertThat(result.messageId()).isNotBlank();
+        assertThat(result.to()).isEqualTo("u@e.com");
+    }
+
+    @Test
+    void routingKeyShouldMatchTypeDiscriminator() throws Exception {
+        var messages = java.util.List.<EmailMessage>of(
+                new EmailMessage.VerificationEmailMessage("u@e.com", "t"),
+                new EmailMessage.PasswordResetEmailMessage("u@e.com", "t"),
+                new EmailMessage.TemporaryPasswordEmailMessage("u@e.com", "p"),
+                new EmailMessage.ShadowingApprovedEmailMessage("u@e.com", "s", "a", "b"));
+        for (EmailMessage message : messages) {
+            String json = mapper.writeValueAsString(message);
+            assertThat(json).contains("\"type\":\"" + message.routingKey() + "\"");
+            assertThat(json).doesNotContain("routingKey");
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package com.gm2dev.shared;
+
+import com.gm2dev.shared.security.InternalIdentity;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternalIdentityTest {
+
+    private final byte[] key = InternalIdentity.deriveKey("test-secret-key-that-is-at-least-32-bytes-long");
+    private final InternalIdentity identity = new InternalIdentity(
+            "5f0c8a3e-1b2d-4c6e-9f00-112233445566", "user@gm2dev.com", "interviewer", Instant.parse("2030-01-01T00:00:00Z"));
+
+    @Test
+    void shouldAcceptOwnSignature() {
+        assertThat(identity.hasValidSignature(key, identity.sign(key))).isTrue();
+    }
+
+    @Test
+    void shouldRejectTamperedField() {
+        String signature = identity.sign(key);
+        var escalated = new InternalIdentity(identity.subject(), identity.email(), "admin", identity.expiresAt());
+        assertThat(escalated.hasValidSignature(key, signature)).isFalse();
+    }
+
+    @Test
+    void shouldRejectOtherKeyAndMissingSignature() {
+        byte[] otherKey = InternalIdentity.deriveKey("another-secret-key-that-is-at-least-32-bytes");
+        assertThat(identity.hasValidSignature(otherKey, identity.sign(key))).isFalse();
+        assertThat(identity.hasValidSignature(key, null)).isFalse();
+    }
+
+    @Test
+    void shouldNotReuseJwtSecretAsKey() {
+        assertThat(key).isNotEqualTo("test-secret-key-that-is-at-least-32-bytes-long".getBytes());
+    }
+}
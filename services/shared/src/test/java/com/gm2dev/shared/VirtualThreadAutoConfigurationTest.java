@@ -0,0 +1,46 @@
+package com.gm2dev.shared;
+
+import com.gm2dev.shared.config.VirtualThreadAutoConfiguration;
+import com.gm2dev.shared.diagnostics.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.stream.config.ListenerContainerCustomizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadAutoConfigurationTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(VirtualThreadAutoConfiguration.class))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    @Test
+    void shouldStayOffWithoutVirtualThreads() {
+        runner.run(context -> {
+            assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class);
+            assertThat(context).doesNotHaveBean(ListenerContainerCustomizer.class);
+        });
+    }
+
+    @Test
+    void shouldAddPinningMonitorAndListenerContainersWithVirtualThreads() {
+        runner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            assertThat(context).hasSingleBean(VirtualThreadPinningMonitor.class);
+            assertThat(context).hasSingleBean(ListenerContainerCustomizer.class);
+        });
+    }
+
+    @Test
+    void shouldSkipListenerContainersWithoutStreamBinder() {
+        runner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .withClassLoader(new FilteredClassLoader(ListenerContainerCustomizer.class))
+                .run(context -> {
+                    assertThat(context).hasSingleBean(VirtualThreadPinningMonitor.class);
+                    assertThat(context).doesNotHaveBean("virtualThreadListenerContainers");
+                });
+    }
+}
@@ -0,0 +1,61 @@
+package com.gm2dev.shared;
+
+import com.gm2dev.shared.diagnostics.VirtualThreadPinningMonitor;
+import com.gm2dev.shared.diagnostics.VirtualThreadPinningMonitor.PinnedThread;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    void shouldReportThreadPinnedInClassInitializer() throws Exception {
+        BlockingQueue<PinnedThread> reported = new LinkedBlockingQueue<>();
+        try (VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10), reported::add)) {
+            monitor.start();
+
+            // A virtual thread cannot unmount while it runs a class initializer, so sleeping there pins it.
+            Thread.ofVirtual().name("pinned-in-clinit").start(SlowInitializer::touch).join();
+
+            PinnedThread pinned = reported.poll(30, TimeUnit.SECONDS);
+            assertThat(pinned).isNotNull();
+            assertThat(pinned.threadName()).isEqualTo("pinned-in-clinit");
+            assertThat(pinned.duration()).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+            assertThat(pinned.stackTrace()).anyMatch(frame -> frame.contains("SlowInitializer"));
+        }
+    }
+
+    @Test
+    void shouldRegisterPinnedTimerForMetricsMonitor() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        VirtualThreadPinningMonitor.withMetrics(meterRegistry, Duration.ofMillis(20)).close();
+
+        assertThat(meterRegistry.find(VirtualThreadPinningMonitor.METRIC_NAME).timer()).isNotNull();
+    }
+
+    @Test
+    void shouldIgnoreCloseBeforeStart() {
+        new VirtualThreadPinningMonitor(Duration.ofMillis(20), pinned -> {}).close();
+    }
+
+    private static final class SlowInitializer {
+
+        static {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        static void touch() {
+        }
+    }
+}
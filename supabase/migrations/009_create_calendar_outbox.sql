@@ -0,0 +1,19 @@
+-- Transactional outbox for Google Calendar sync.
+-- Rows are written in the same transaction as the interview change and drained
+-- to calendar-service by CalendarOutboxDispatcher after commit.
+CREATE TABLE IF NOT EXISTS public.calendar_outbox (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    interview_id UUID NOT NULL,
+    operation VARCHAR(50) NOT NULL,
+    google_event_id VARCHAR(255),
+    status VARCHAR(50) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    last_error TEXT
+);
+
+CREATE INDEX IF NOT EXISTS idx_calendar_outbox_status_next_attempt
+    ON public.calendar_outbox(status, next_attempt_at);
+
+ALTER TABLE public.calendar_outbox ENABLE ROW LEVEL SECURITY;
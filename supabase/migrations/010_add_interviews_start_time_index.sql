@@ -0,0 +1,3 @@
+-- Composite index backing the keyset-paginated time-range query
+-- (GET /api/interviews/range): WHERE start_time ... ORDER BY start_time, id
+CREATE INDEX IF NOT EXISTS idx_interviews_start_time_id ON public.interviews(start_time, id);
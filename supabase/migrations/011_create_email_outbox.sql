@@ -0,0 +1,22 @@
+-- Transactional outbox for email events.
+-- Rows are written in the same transaction as the change that triggers the email and
+-- published to RabbitMQ by BatchingEmailSender after commit. A row is deleted once the
+-- broker confirms it; rows that exhaust their attempts are kept with status FAILED and
+-- purged after app.email-publisher.failed-retention.
+-- The payload carries one-time tokens and temporary passwords: it is AES-GCM encrypted by
+-- the application (EmailOutboxCipher) and set to NULL when a row is marked FAILED.
+CREATE TABLE IF NOT EXISTS public.email_outbox (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    email_type VARCHAR(50) NOT NULL,
+    payload TEXT,
+    status VARCHAR(50) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    last_error TEXT
+);
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_next_attempt
+    ON public.email_outbox(status, next_attempt_at);
+
+ALTER TABLE public.email_outbox ENABLE ROW LEVEL SECURITY;